@@ -10,6 +10,10 @@ class Get${ModelEntryName}sAction {
   Get${ModelEntryName}sAction({this.isRefresh});
 }
 
+class Cancel${ModelEntryName}sAction {
+  final String actionName = "Cancel${ModelEntryName}sAction";
+}
+
 class Get${ModelEntryName}Action {
   final String actionName = "Get${ModelEntryName}Action";
   final ${clsUNNameType} ${clsUNName};
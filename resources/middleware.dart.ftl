@@ -1,3 +1,4 @@
+import 'package:dio/dio.dart';
 import 'package:redux/redux.dart';
 import 'package:${ProjectName}/redux/action_report.dart';
 import 'package:${ProjectName}/redux/app/app_state.dart';
@@ -31,6 +32,7 @@ List<Middleware<AppState>> create${ModelEntryName}Middleware([
     </#if>
     TypedMiddleware<AppState, Get${ModelEntryName}Action>(get${ModelEntryName}),
     TypedMiddleware<AppState, Get${ModelEntryName}sAction>(get${ModelEntryName}s),
+    TypedMiddleware<AppState, Cancel${ModelEntryName}sAction>(get${ModelEntryName}s),
     TypedMiddleware<AppState, Create${ModelEntryName}Action>(create${ModelEntryName}),
     TypedMiddleware<AppState, Update${ModelEntryName}Action>(update${ModelEntryName}),
     TypedMiddleware<AppState, Delete${ModelEntryName}Action>(delete${ModelEntryName}),
@@ -56,12 +58,14 @@ Middleware<AppState> _createLogin(
 Middleware<AppState> _createGet${ModelEntryName}(
     ${ModelEntryName}Repository repository<#if genDatabase>, ${ModelEntryName}RepositoryDB repositoryDB</#if>) {
   return (Store<AppState> store, dynamic action, NextDispatcher next) {
-    if (checkActionRunning(store, action)) return;
     if (action.${clsUNName} == null) {
       idEmpty(next, action);
     } else {
       running(next, action);
       repository.get${ModelEntryName}(action.${clsUNName}).then((item) {
+        <#if (cacheResponses!false) && genDatabase>
+        repositoryDB.create${ModelEntryName}(item);
+        </#if>
         next(Sync${ModelEntryName}Action(${(ModelEntryName)?lower_case}: item));
         completed(next, action);
       }).catchError((error) {
@@ -73,10 +77,23 @@ Middleware<AppState> _createGet${ModelEntryName}(
 
 Middleware<AppState> _createGet${ModelEntryName}s(
     ${ModelEntryName}Repository repository<#if genDatabase>, ${ModelEntryName}RepositoryDB repositoryDB</#if>) {
+  // The page request in flight. A load while it runs is served by it, a refresh cancels it
+  // and starts over, and Cancel${ModelEntryName}sAction (the page was closed) cancels it.
+  CancelToken inFlight;
+  bool inFlightIsRefresh = false;
   return (Store<AppState> store, dynamic action, NextDispatcher next) {
-    if (checkActionRunning(store, action)) return;
+    if (action is Cancel${ModelEntryName}sAction) {
+      inFlight?.cancel("page closed");
+      inFlight = null;
+      return;
+    }
+    final bool isRefresh = action.isRefresh == true;
+    if (inFlight != null) {
+      if (inFlightIsRefresh || !isRefresh) return;
+      inFlight.cancel("superseded");
+    }
     running(next, action);
-    if (action.isRefresh) {
+    if (isRefresh) {
       store.state.${(ModelEntryName)?lower_case}State.page.currPage = 1;
       store.state.${(ModelEntryName)?lower_case}State.${(ModelEntryName)?lower_case}s.clear();
     } else {
@@ -86,25 +103,49 @@ Middleware<AppState> _createGet${ModelEntryName}s(
         return;
       }
     }
+    final CancelToken token = new CancelToken();
+    inFlight = token;
+    inFlightIsRefresh = isRefresh;
     repository
         .get${ModelEntryName}sList(
             "sorting",
             store.state.${(ModelEntryName)?lower_case}State.page.currPage,
-            store.state.${(ModelEntryName)?lower_case}State.page.pageSize)
+            store.state.${(ModelEntryName)?lower_case}State.page.pageSize,
+            cancelToken: token<#if cacheResponses!false>,
+            forceRefresh: isRefresh</#if>)
         .then((map) {
+      if (inFlight != token) {
+        if (inFlight == null) cancelled(next, action);
+        return;
+      }
       if (map.isNotEmpty) {
         var page = Page(
             currPage: map["currPage"],
             totalPage: map["totalPage"],
             totalCount: map["totalCount"]);
+        <#if decodeInBackground!false>
+        List<${ModelEntryName}> list = map["list"];
+        <#else>
         var l = map["list"] ?? List();
         List<${ModelEntryName}> list =
             l.map<${ModelEntryName}>((item) => new ${ModelEntryName}.fromJson(item)).toList();
+        </#if>
+        <#if genDatabase>
+        repositoryDB.upsertAll(list).catchError((e) {
+          print(e.toString());
+        });
+        </#if>
         next(Sync${ModelEntryName}sAction(page: page, ${(ModelEntryName)?lower_case}s: list));
       }
       completed(next, action);
     }).catchError((error) {
-      catchError(next, action, error);
+      if (!CancelToken.isCancel(error)) {
+        catchError(next, action, error);
+      } else if (inFlight == null) {
+        cancelled(next, action);
+      }
+    }).whenComplete(() {
+      if (inFlight == token) inFlight = null;
     });
 //    repositoryDB
 //        .get${ModelEntryName}sList(
@@ -167,7 +208,7 @@ Middleware<AppState> _createDelete${ModelEntryName}(
 }
 
 bool checkActionRunning(Store<AppState> store, action) {
-  if (store.state.photoState.status[action.actionName]?.status ==
+  if (store.state.${(ModelEntryName)?lower_case}State.status[action.actionName]?.status ==
       ActionStatus.running) {
     return true; // do nothing if there is a same action running.
   }
@@ -190,6 +231,14 @@ void completed(NextDispatcher next, action) {
           msg: "${r"${action.actionName}"} is completed")));
 }
 
+void cancelled(NextDispatcher next, action) {
+  next(${ModelEntryName}StatusAction(
+      report: ActionReport(
+          actionName: action.actionName,
+          status: ActionStatus.complete,
+          msg: "${r"${action.actionName}"} is cancelled")));
+}
+
 void noMoreItem(NextDispatcher next, action) {
   next(${ModelEntryName}StatusAction(
       report: ActionReport(
@@ -1,18 +1,49 @@
+import 'dart:async';
 import 'dart:convert';
 import 'package:dio/dio.dart';
+import 'package:flutter/foundation.dart';
 import 'package:shared_preferences/shared_preferences.dart';
 
+enum NetworkLogLevel { none, basic, headers, body }
+
 class NetworkCommon {
+  /// Plain text bodies longer than this many characters are decoded in a background isolate
+  /// by [decodeRespWith]; shorter ones are not worth the isolate start-up.
+  static const int backgroundDecodeThreshold = 32 * 1024;
+
   static final NetworkCommon _singleton = new NetworkCommon._internal();
 
   factory NetworkCommon() {
     return _singleton;
   }
 
-  NetworkCommon._internal();
+  /// One client for the whole app: it keeps its connections to the server alive and reuses
+  /// them. Login and token refresh go through [_authDio], which has no interceptors.
+  NetworkCommon._internal()
+      : dio = new Dio(_options()),
+        _authDio = new Dio(_options()) {
+    dio.interceptors.add(InterceptorsWrapper(onRequest: _onRequest, onResponse: _onResponse, onError: _onError));
+  }
+
+  static BaseOptions _options() {
+    return new BaseOptions(
+      baseUrl: 'http://192.168.1.186:5000/',
+      connectTimeout: 50000,
+      receiveTimeout: 30000,
+      headers: {"Accept": "application/json"},
+    );
+  }
 
+  final Dio dio;
+  final Dio _authDio;
   final JsonDecoder _decoder = new JsonDecoder();
 
+  NetworkLogLevel logLevel = NetworkLogLevel.none;
+
+  String _token;
+  bool _tokenLoaded = false;
+  Future<String> _refreshing;
+
   dynamic decodeResp(d) {
     // ignore: cast_to_non_type
     if (d is Response) {
@@ -33,85 +64,128 @@ class NetworkCommon {
     }
   }
 
-  Dio get dio {
-    Dio dio = new Dio();
-    // Set default configs
-    dio.options.baseUrl = 'http://192.168.1.186:5000/';
-    dio.options.connectTimeout = 50000; //5s
-    dio.options.receiveTimeout = 30000;
-    dio.interceptors
-        .add(InterceptorsWrapper(onRequest: (RequestOptions options) async {
-      /// Do something before request is sent
-      /// set the token
-      SharedPreferences prefs = await SharedPreferences.getInstance();
-      String token = prefs.getString('token');
-      if (token != null) {
-        options.headers["Authorization"] = "Bearer " + token;
+  /// Checks the response like [decodeResp] and turns its body into a result with [convert],
+  /// which gets the body either still as text or already decoded. Large text bodies are
+  /// converted by [compute] off the UI isolate, so [convert] must be a top-level or static
+  /// function.
+  Future<T> decodeRespWith<T>(d, ComputeCallback<dynamic, T> convert) async {
+    if (d is Response) {
+      final dynamic body = d.data;
+      final statusCode = d.statusCode;
+
+      if (statusCode < 200 || statusCode >= 300 || body == null) {
+        throw new Exception("statusCode: $statusCode");
       }
 
+      if (body is String && body.length > backgroundDecodeThreshold) {
+        return compute(convert, body);
+      } else {
+        return convert(body);
+      }
+    } else {
+      throw d;
+    }
+  }
+
+  /// The token is read from the preferences once and then kept in memory.
+  Future<String> _getToken() async {
+    if (!_tokenLoaded) {
+      SharedPreferences prefs = await SharedPreferences.getInstance();
+      _token = prefs.getString('token');
+      _tokenLoaded = true;
+    }
+    return _token;
+  }
+
+  Future<void> _saveToken(Map results) async {
+    _token = results["token"];
+    _tokenLoaded = true;
+    final SharedPreferences prefs = await SharedPreferences.getInstance();
+    prefs.setString("token", results["token"]);
+    prefs.setInt("expired", results["expired"]);
+  }
+
+  /// Logs in again with the saved credentials. Requests failing with 401 at the same time
+  /// share one login, and a request whose token was already replaced just uses the new one.
+  Future<String> _refreshToken(String staleAuthorization) {
+    if (_token != null && "Bearer " + _token != staleAuthorization) {
+      return new Future.value(_token);
+    }
+    if (_refreshing == null) {
+      _refreshing = _login().whenComplete(() {
+        _refreshing = null;
+      });
+    }
+    return _refreshing;
+  }
+
+  Future<String> _login() async {
+    final SharedPreferences prefs = await SharedPreferences.getInstance();
+    FormData formData = new FormData.from({
+      "username": prefs.getString("username"),
+      "password": prefs.getString("password"),
+    });
+    final resultContainer = decodeResp(await _authDio.post("login/", data: formData));
+    if (resultContainer['code'] != 0) {
+      throw Exception("Exception in re-login");
+    }
+    await _saveToken(resultContainer['data']);
+    return _token;
+  }
+
+  Future<RequestOptions> _onRequest(RequestOptions options) async {
+    String token = await _getToken();
+    if (token != null) {
+      options.headers["Authorization"] = "Bearer " + token;
+    }
+    if (logLevel != NetworkLogLevel.none) {
       print("Pre request:${r"${options.method}"},${r"${options.baseUrl}"}${r"${options.path}"}");
+    }
+    if (logLevel == NetworkLogLevel.headers || logLevel == NetworkLogLevel.body) {
       print("Pre request:${r"${options.headers.toString()}"}");
+    }
+    return options; //continue
+  }
 
-      return options; //continue
-    }, onResponse: (Response response) async {
-      // Do something with response data
-      final int statusCode = response.statusCode;
-      if (statusCode == 200) {
-        if (response.request.path == "login/") {
-          final SharedPreferences prefs = await SharedPreferences.getInstance();
-
-          /// login complete, save the token
-          /// response data:
-          /// {
-          ///   "code": 0,
-          ///   "data": Object,
-          ///   "msg": "OK"
-          ///  }
-          final String jsonBody = response.data;
-          final JsonDecoder _decoder = new JsonDecoder();
-          final resultContainer = _decoder.convert(jsonBody);
-          final int code = resultContainer['code'];
-          if (code == 0) {
-            final Map results = resultContainer['data'];
-            prefs.setString("token", results["token"]);
-            prefs.setInt("expired", results["expired"]);
-          }
-        }
-      } else if(statusCode == 401){
-        /// token expired, re-login or refresh token
-        final SharedPreferences prefs = await SharedPreferences.getInstance();
-        var username = prefs.getString("username");
-        var password = prefs.getString("password");
-        FormData formData = new FormData.from({
-          "username": username,
-          "password": password,
-        });
-        new Dio().post("login/", data: formData).then((resp){
-          final String jsonBody = response.data;
-          final JsonDecoder _decoder = new JsonDecoder();
-          final resultContainer = _decoder.convert(jsonBody);
-          final int code = resultContainer['code'];
-          if (code == 0) {
-            final Map results = resultContainer['data'];
-            prefs.setString("token", results["token"]);
-            prefs.setInt("expired", results["expired"]);
-
-            RequestOptions ro = response.request;
-            ro.headers["Authorization"] = "Bearer ${r"${prefs.getString('token')}"}";
-            return ro;
-          } else {
-            throw Exception("Exception in re-login");
-          }
-        });
+  Future<Response> _onResponse(Response response) async {
+    if (response.statusCode == 200 && response.request.path == "login/") {
+      /// login complete, save the token
+      /// response data:
+      /// {
+      ///   "code": 0,
+      ///   "data": Object,
+      ///   "msg": "OK"
+      ///  }
+      final resultContainer = decodeResp(response);
+      if (resultContainer['code'] == 0) {
+        await _saveToken(resultContainer['data']);
       }
-
+    }
+    if (logLevel != NetworkLogLevel.none) {
       print("Response From:${r"${response.request.method}"},${r"${response.request.baseUrl}"}${r"${response.request.path}"}");
+    }
+    if (logLevel == NetworkLogLevel.body) {
       print("Response From:${r"${response.toString()}"}");
-      return response; // continue
-    }, onError: (DioError e) {
-      // Do something with response error
-      return e; //continue
-    }));
-    return dio;
+    }
+    return response; // continue
+  }
+
+  /// A 401 refreshes the token and retries the request once.
+  Future<dynamic> _onError(DioError e) async {
+    RequestOptions options = e.request;
+    if (e.response != null && e.response.statusCode == 401
+        && options.path != "login/" && options.extra["tokenRefreshed"] != true) {
+      try {
+        await _refreshToken(options.headers["Authorization"]);
+      } catch (_) {
+        return e;
+      }
+      options.extra["tokenRefreshed"] = true;
+      return dio.request(options.path, data: options.data, queryParameters: options.queryParameters, options: options);
+    }
+    if (logLevel != NetworkLogLevel.none) {
+      print("Request failed:${r"${options.method}"},${r"${options.baseUrl}"}${r"${options.path}"},${r"${e.message}"}");
+    }
+    return e; //continue
   }
 }
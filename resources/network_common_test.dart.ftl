@@ -0,0 +1,54 @@
+// Checks the generated network layer against a local server: requests share one keep-alive
+// connection and send the token cached in memory. Run it from the project folder with
+//   flutter test test/network_common_test.dart
+import 'dart:convert';
+import 'dart:io';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:shared_preferences/shared_preferences.dart';
+import 'package:${ProjectName}/data/network_common.dart';
+
+void main() {
+  HttpServer server;
+  Set<int> clientPorts;
+  List<String> authorizations;
+
+  setUp(() async {
+    SharedPreferences.setMockInitialValues({"flutter.token": "token-1"});
+    clientPorts = new Set();
+    authorizations = [];
+    server = await HttpServer.bind(InternetAddress.loopbackIPv4, 0);
+    server.listen((HttpRequest request) {
+      clientPorts.add(request.connectionInfo.remotePort);
+      authorizations.add(request.headers.value("authorization"));
+      request.response
+        ..headers.contentType = ContentType.json
+        ..write(json.encode({"code": 0, "data": {}}))
+        ..close();
+    });
+    new NetworkCommon().dio.options.baseUrl = "http://127.0.0.1:" + server.port.toString() + "/";
+  });
+
+  tearDown(() async {
+    await server.close(force: true);
+  });
+
+  test("every access returns the same client", () {
+    expect(identical(new NetworkCommon().dio, new NetworkCommon().dio), isTrue);
+  });
+
+  test("sequential requests reuse one connection", () async {
+    for (int i = 0; i < 5; i++) {
+      await new NetworkCommon().dio.get("ping/");
+    }
+    expect(authorizations.length, 5);
+    expect(clientPorts.length, 1);
+  });
+
+  test("requests carry the cached token", () async {
+    await new NetworkCommon().dio.get("ping/");
+    SharedPreferences prefs = await SharedPreferences.getInstance();
+    prefs.setString("token", "changed-behind-our-back");
+    await new NetworkCommon().dio.get("ping/");
+    expect(authorizations, everyElement("Bearer token-1"));
+  });
+}
@@ -1,42 +1,88 @@
 import 'dart:async';
+<#if decodeInBackground!false>
+import 'dart:convert';
+</#if>
 import 'package:dio/dio.dart';
 import 'package:${ProjectName}/data/model/${(ModelEntryName)?lower_case}_data.dart';
 import 'package:${ProjectName}/data/network_common.dart';
+<#if cacheResponses!false>
+import 'package:${ProjectName}/data/response_cache.dart';
+</#if>
 
+<#if decodeInBackground!false>
+/// Decodes a page of the list and maps its items, in a background isolate for large pages.
+Map _parse${ModelEntryName}sPage(dynamic body) {
+  final Map page = new Map.from(body is String ? json.decode(body) : body);
+  var l = page["list"] ?? List();
+  page["list"] = l.map<${ModelEntryName}>((item) => new ${ModelEntryName}.fromJson(item)).toList();
+  return page;
+}
+
+</#if>
 class ${ModelEntryName}Repository {
   const ${ModelEntryName}Repository();
+  <#if cacheResponses!false>
+
+  /// How long fetched ${(ModelEntryName)?lower_case}s are served from [ResponseCache] before they are revalidated.
+  static const Duration cacheTtl = const Duration(minutes: 5);
+  </#if>
 
-  Future<Map> get${ModelEntryName}sList(String sorting, int page, int limit) {
+  /// Requests still running, by request: an identical call made meanwhile gets the same future.
+  static final Map<String, Future> _inFlight = {};
+
+  static Future<T> _coalesce<T>(String key, Future<T> request()) {
+    Future<T> pending = _inFlight[key];
+    if (pending == null) {
+      pending = request().whenComplete(() {
+        _inFlight.remove(key);
+      });
+      _inFlight[key] = pending;
+    }
+    return pending;
+  }
+
+  Future<Map> get${ModelEntryName}sList(String sorting, int page, int limit,
+      {CancelToken cancelToken<#if cacheResponses!false>, bool forceRefresh = false</#if>}) {
+    <#if cacheResponses!false>
+    return new ResponseCache().get("${(ModelEntryName)?lower_case}/", queryParameters: {
+      "sorting": sorting,
+      "page": page,
+      "limit": limit
+    }, ttl: cacheTtl, forceRefresh: forceRefresh<#if decodeInBackground!false>, responseType: ResponseType.plain</#if>, cancelToken: cancelToken).then((d) {
+    <#else>
     return new NetworkCommon().dio.get("${(ModelEntryName)?lower_case}/", queryParameters: {
       "sorting": sorting,
       "page": page,
       "limit": limit
-    }).then((d) {
+    }<#if decodeInBackground!false>, options: Options(responseType: ResponseType.plain)</#if>, cancelToken: cancelToken).then((d) {
+    </#if>
+      <#if decodeInBackground!false>
+      return new NetworkCommon().decodeRespWith(d, _parse${ModelEntryName}sPage);
+      <#else>
       var results = new NetworkCommon().decodeResp(d);
 
       return results;
+      </#if>
     });
   }
 
   Future<${ModelEntryName}> create${ModelEntryName}(${ModelEntryName} ${(ModelEntryName)?lower_case}) {
-    var dio = new NetworkCommon().dio;
-    dio.options.headers.putIfAbsent("Accept", () {
-      return "application/json";
-    });
-    return dio.post("${(ModelEntryName)?lower_case}/", data: ${(ModelEntryName)?lower_case}).then((d) {
+    return new NetworkCommon().dio.post("${(ModelEntryName)?lower_case}/", data: ${(ModelEntryName)?lower_case}).then((d) {
       var results = new NetworkCommon().decodeResp(d);
+      <#if cacheResponses!false>
+      new ResponseCache().invalidate("${(ModelEntryName)?lower_case}/");
+      </#if>
 
       return new ${ModelEntryName}.fromJson(results);
     });
   }
 
   Future<${ModelEntryName}> update${ModelEntryName}(${ModelEntryName} ${(ModelEntryName)?lower_case}) {
-    var dio = new NetworkCommon().dio;
-    dio.options.headers.putIfAbsent("Accept", () {
-      return "application/json";
-    });
-    return dio.put("${(ModelEntryName)?lower_case}/", data: ${(ModelEntryName)?lower_case}).then((d) {
+    return new NetworkCommon().dio.put("${(ModelEntryName)?lower_case}/", data: ${(ModelEntryName)?lower_case}).then((d) {
       var results = new NetworkCommon().decodeResp(d);
+      <#if cacheResponses!false>
+      new ResponseCache().invalidate("${(ModelEntryName)?lower_case}/");
+      </#if>
 
       return new ${ModelEntryName}.fromJson(results);
     });
@@ -45,26 +91,31 @@ class ${ModelEntryName}Repository {
   Future<int> delete${ModelEntryName}(${clsUNNameType} ${clsUNName}) {
     return new NetworkCommon().dio.delete("${(ModelEntryName)?lower_case}/", queryParameters: {"${clsUNName}": ${clsUNName}}).then((d) {
       var results = new NetworkCommon().decodeResp(d);
+      <#if cacheResponses!false>
+      new ResponseCache().invalidate("${(ModelEntryName)?lower_case}/");
+      </#if>
 
       return 0;
     });
   }
 
   Future<${ModelEntryName}> get${ModelEntryName}(${clsUNNameType} ${clsUNName}) {
-    return new NetworkCommon().dio.get("${(ModelEntryName)?lower_case}/", queryParameters: {"${clsUNName}": ${clsUNName}}).then((d) {
-      var results = new NetworkCommon().decodeResp(d);
+    return _coalesce("get${ModelEntryName}:" + ${clsUNName}.toString(), () {
+      <#if cacheResponses!false>
+      return new ResponseCache().get("${(ModelEntryName)?lower_case}/", queryParameters: {"${clsUNName}": ${clsUNName}}, ttl: cacheTtl).then((d) {
+      <#else>
+      return new NetworkCommon().dio.get("${(ModelEntryName)?lower_case}/", queryParameters: {"${clsUNName}": ${clsUNName}}).then((d) {
+      </#if>
+        var results = new NetworkCommon().decodeResp(d);
 
-      return new ${ModelEntryName}.fromJson(results);
+        return new ${ModelEntryName}.fromJson(results);
+      });
     });
   }
 
   <#if ModelEntryName == "User">
   Future<${ModelEntryName}> login(Login login) {
-    var dio = new NetworkCommon().dio;
-    dio.options.headers.putIfAbsent("Accept", () {
-      return "application/json";
-    });
-    return dio.post("login/", data: login.toJson()).then((d) {
+    return new NetworkCommon().dio.post("login/", data: login.toJson()).then((d) {
       var results = new NetworkCommon().decodeResp(d);
 
       return new ${ModelEntryName}.fromJson(results["user"]);
@@ -21,24 +21,24 @@ class ${ModelEntryName}RepositoryDB {
 
   Future<${ModelEntryName}> create${ModelEntryName}(${ModelEntryName} ${(ModelEntryName)?lower_case}) async {
     try {
-      var count = 0;
       Database db = await DatabaseClient().db;
-      if (${(ModelEntryName)?lower_case}.${clsUNName} != null) {
-        count = Sqflite.firstIntValue(await db
-            .rawQuery("SELECT COUNT(*) FROM ${(ModelEntryName)?lower_case} WHERE ${clsUNName} = ?", [${(ModelEntryName)?lower_case}.${clsUNName}]));
-      }
-      if (count == 0) {
-        await db.insert("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap());
-      } else {
-        await db.update("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap(),
-            where: "${clsUNName} = ?", whereArgs: [${(ModelEntryName)?lower_case}.${clsUNName}]);
-      }
+      await db.insert("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap(), conflictAlgorithm: ConflictAlgorithm.replace);
     } catch (e) {
       print(e.toString());
     }
     return ${(ModelEntryName)?lower_case};
   }
 
+  /// Upserts a whole page in one batch, which sqflite commits as a single transaction.
+  Future<void> upsertAll(List<${ModelEntryName}> ${(ModelEntryName)?lower_case}s) async {
+    Database db = await DatabaseClient().db;
+    Batch batch = db.batch();
+    ${(ModelEntryName)?lower_case}s.forEach((${(ModelEntryName)?lower_case}) {
+      batch.insert("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap(), conflictAlgorithm: ConflictAlgorithm.replace);
+    });
+    await batch.commit(noResult: true);
+  }
+
   Future<int> delete${ModelEntryName}(${clsUNNameType} ${clsUNName}) async {
     Database db = await DatabaseClient().db;
     return db.delete("${(ModelEntryName)?lower_case}", where: "${clsUNName} = ?", whereArgs: [${clsUNName}]);
@@ -54,15 +54,7 @@ class ${ModelEntryName}RepositoryDB {
 
   Future<${ModelEntryName}> update${ModelEntryName}(${ModelEntryName} ${(ModelEntryName)?lower_case}) async {
     Database db = await DatabaseClient().db;
-    var count = Sqflite.firstIntValue(await db
-        .rawQuery("SELECT COUNT(*) FROM ${(ModelEntryName)?lower_case} WHERE ${clsUNName} = ?", [${(ModelEntryName)?lower_case}.${clsUNName}]));
-    if (count == 0) {
-      await db.insert("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap());
-      //${(ModelEntryName)?lower_case}.${clsUNName} =
-    } else {
-      await db.update("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap(),
-          where: "${clsUNName} = ?", whereArgs: [${(ModelEntryName)?lower_case}.${clsUNName}]);
-    }
+    await db.insert("${(ModelEntryName)?lower_case}", ${(ModelEntryName)?lower_case}.toMap(), conflictAlgorithm: ConflictAlgorithm.replace);
     return ${(ModelEntryName)?lower_case};
   }
 
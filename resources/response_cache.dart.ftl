@@ -0,0 +1,107 @@
+import 'dart:async';
+import 'dart:collection';
+import 'package:dio/dio.dart';
+import 'package:${ProjectName}/data/network_common.dart';
+
+class _CacheEntry {
+  _CacheEntry(this.response, this.etag) : fetched = new DateTime.now();
+
+  final Response response;
+  final String etag;
+  DateTime fetched;
+
+  bool isFresh(Duration ttl) {
+    return ttl != null && new DateTime.now().difference(fetched) < ttl;
+  }
+}
+
+/// In-memory cache of GET responses in front of [NetworkCommon], keyed by path and query.
+/// A response younger than the caller's TTL is served without a request; an older one is
+/// revalidated with If-None-Match when the server sent an ETag, and a 304 keeps the cached
+/// body. With forceRefresh a cached response is always revalidated, e.g. on pull-to-refresh.
+/// The least recently used entries are dropped beyond [maxEntries].
+class ResponseCache {
+  static final ResponseCache _singleton = new ResponseCache._internal();
+
+  factory ResponseCache() {
+    return _singleton;
+  }
+
+  ResponseCache._internal();
+
+  int maxEntries = 200;
+
+  /// Requests answered from memory, without or with a 304 round trip, and requests that had
+  /// to fetch the body.
+  int hits = 0;
+  int notModified = 0;
+  int misses = 0;
+
+  // LinkedHashMap keeps insertion order; entries are re-inserted on use, so the first key
+  // is always the least recently used one.
+  final LinkedHashMap<String, _CacheEntry> _entries = new LinkedHashMap();
+
+  Future<Response> get(String path,
+      {Map<String, dynamic> queryParameters,
+      Duration ttl,
+      bool forceRefresh = false,
+      ResponseType responseType,
+      CancelToken cancelToken}) async {
+    final String key = _key(path, queryParameters);
+    final _CacheEntry entry = _entries.remove(key);
+    if (entry != null) {
+      _entries[key] = entry;
+      if (!forceRefresh && entry.isFresh(ttl)) {
+        hits++;
+        return entry.response;
+      }
+    }
+
+    final Map<String, dynamic> headers = {};
+    if (entry != null && entry.etag != null) {
+      headers["If-None-Match"] = entry.etag;
+    }
+    final Response response = await new NetworkCommon().dio.get(path,
+        queryParameters: queryParameters,
+        cancelToken: cancelToken,
+        options: Options(
+            headers: headers,
+            responseType: responseType,
+            validateStatus: (status) => (status >= 200 && status < 300) || status == 304));
+    if (response.statusCode == 304 && entry != null) {
+      notModified++;
+      entry.fetched = new DateTime.now();
+      return entry.response;
+    }
+
+    misses++;
+    _entries[key] = new _CacheEntry(response, response.headers.value("etag"));
+    while (_entries.length > maxEntries) {
+      _entries.remove(_entries.keys.first);
+    }
+    return response;
+  }
+
+  /// Drops the cached responses of [path] and everything below it, e.g. after a write.
+  void invalidate(String path) {
+    _entries.removeWhere((key, entry) => key.startsWith(path));
+  }
+
+  void clear() {
+    _entries.clear();
+  }
+
+  String _key(String path, Map<String, dynamic> queryParameters) {
+    if (queryParameters == null || queryParameters.isEmpty) {
+      return path;
+    }
+    final List<String> names = queryParameters.keys.toList()..sort();
+    return path + "?" + names.map((name) => name + "=" + queryParameters[name].toString()).join("&");
+  }
+
+  @override
+  String toString() {
+    return "ResponseCache(entries: " + _entries.length.toString() + ", hits: " + hits.toString()
+        + ", notModified: " + notModified.toString() + ", misses: " + misses.toString() + ")";
+  }
+}
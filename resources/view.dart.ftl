@@ -100,6 +100,14 @@ class _${PageName}ViewContentState extends State<${PageName}ViewContent> {
     initLogin();
 	</#if>
   }
+  <#if viewModelQuery || GenerateListView>
+
+  @override
+  void dispose() {
+    widget.viewModel.cancel${ModelEntryName}s();
+    super.dispose();
+  }
+  </#if>
   
   <#if PageType == "LOGIN">
   Future initLogin() async {
@@ -9,6 +9,7 @@ class ${PageName}ViewModel {
   <#if viewModelQuery || GenerateListView>
   final List<${ModelEntryName}> ${(ModelEntryName)?lower_case}s;
   final Function(bool) get${ModelEntryName}s;
+  final Function() cancel${ModelEntryName}s;
   final ActionReport get${ModelEntryName}sReport;
   </#if>
   <#if viewModelGet>
@@ -37,6 +38,7 @@ class ${PageName}ViewModel {
     <#if viewModelQuery || GenerateListView>
     this.${(ModelEntryName)?lower_case}s,
     this.get${ModelEntryName}s,
+    this.cancel${ModelEntryName}s,
     this.get${ModelEntryName}sReport,
     </#if>
     <#if viewModelGet>
@@ -69,6 +71,9 @@ class ${PageName}ViewModel {
       get${ModelEntryName}s: (isRefresh) {
         store.dispatch(Get${ModelEntryName}sAction(isRefresh: isRefresh));
       },
+      cancel${ModelEntryName}s: () {
+        store.dispatch(Cancel${ModelEntryName}sAction());
+      },
       get${ModelEntryName}sReport: store.state.${(ModelEntryName)?lower_case}State.status["Get${ModelEntryName}sAction"],
       </#if>
       <#if viewModelGet>
@@ -0,0 +1,31 @@
+package haystack;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import haystack.core.generator.RenderPipeline;
+import haystack.core.generator.TemplateEngine;
+
+import java.io.File;
+
+/**
+ * Application service holding the plugin's {@link TemplateEngine}, loading templates from the
+ * plugin jar. A project can override them in {@code .idea/haystack/templates}.
+ */
+public class TemplateEngineService {
+
+    private static final String OVERRIDE_DIR = ".idea/haystack/templates";
+
+    private final TemplateEngine engine = new TemplateEngine(TemplateEngineService.class.getClassLoader(), "/");
+
+    public static TemplateEngineService getInstance() {
+        return ServiceManager.getService(TemplateEngineService.class);
+    }
+
+    public RenderPipeline createPipeline(Project project) {
+        return engine.createPipeline(new File(project.getBasePath(), OVERRIDE_DIR));
+    }
+
+    public void precompile() {
+        engine.precompile();
+    }
+}
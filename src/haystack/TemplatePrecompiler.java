@@ -0,0 +1,24 @@
+package haystack;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parses the plugin templates on a pooled thread once a project has opened, so the first
+ * "Generate App Template" finds them cached.
+ */
+public class TemplatePrecompiler implements StartupActivity {
+
+    private static volatile boolean started;
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        if (started) {
+            return;
+        }
+        started = true;
+        ApplicationManager.getApplication().executeOnPooledThread(() -> TemplateEngineService.getInstance().precompile());
+    }
+}
@@ -0,0 +1,60 @@
+package haystack;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import haystack.core.generator.FileBatch;
+import haystack.core.generator.FileCommitter;
+import haystack.core.generator.RenderedFile;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes a batch through the VFS inside a single write command, so the IDE sees one change
+ * event, reindexes once and records one undoable step instead of one per file.
+ */
+public class VfsFileCommitter implements FileCommitter {
+
+    private final Project project;
+    private final String commandName;
+
+    public VfsFileCommitter(Project project, String commandName) {
+        this.project = project;
+        this.commandName = commandName;
+    }
+
+    @Override
+    public void commit(FileBatch batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        IOException[] failure = new IOException[1];
+        WriteCommandAction.runWriteCommandAction(project, commandName, null, () -> {
+            for (RenderedFile renderedFile : batch.getFiles()) {
+                try {
+                    write(renderedFile.getFile(), renderedFile.getContent());
+                } catch (IOException e) {
+                    failure[0] = e;
+                    return;
+                }
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private void write(File file, String content) throws IOException {
+        VirtualFile folder = VfsUtil.createDirectoryIfMissing(file.getParentFile().getPath());
+        if (folder == null) {
+            throw new IOException("Cannot create " + file.getParent());
+        }
+        VirtualFile virtualFile = folder.findChild(file.getName());
+        if (virtualFile == null) {
+            virtualFile = folder.createChildData(this, file.getName());
+        }
+        VfsUtil.saveText(virtualFile, content);
+    }
+}
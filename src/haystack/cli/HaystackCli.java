@@ -0,0 +1,144 @@
+package haystack.cli;
+
+import haystack.core.generator.*;
+import haystack.core.models.PageModel;
+import haystack.core.parser.PageSpecLoader;
+import haystack.resolver.DartResolver;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates pages from spec files without the IDE, for CI:
+ * <pre>
+ * java -cp haystack.jar:freemarker.jar:json.jar:commons-lang.jar haystack.cli.HaystackCli [options] &lt;project dir&gt; &lt;spec&gt;...
+ *   --init            also generate the project skeleton
+ *   --policy NAME     skip | overwrite | overwrite-if-unmodified (default) | side-by-side,
+ *                     for existing files that were edited or not generated by us
+ *   --name NAME       project (package) name, defaults to the project folder name
+ * </pre>
+ * Specs are parsed in parallel, each distinct sample once, and all pages are rendered in one pass through one template
+ * engine, then written together. Shares the generation manifest and template overrides with
+ * the IDE action. Exits with 1 when a spec, template or patch failed and 2 on bad arguments.
+ */
+public class HaystackCli {
+
+    public static void main(String[] args) {
+        boolean init = false;
+        OverwritePolicy policy = OverwritePolicy.OVERWRITE_IF_UNMODIFIED;
+        String projectName = null;
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--init":
+                    init = true;
+                    break;
+                case "--policy":
+                    policy = i + 1 < args.length ? parsePolicy(args[++i]) : null;
+                    break;
+                case "--name":
+                    projectName = i + 1 < args.length ? args[++i] : null;
+                    break;
+                default:
+                    paths.add(args[i]);
+            }
+        }
+        if (policy == null || paths.size() < (init ? 1 : 2)) {
+            System.err.println("Usage: HaystackCli [--init] [--policy skip|overwrite|overwrite-if-unmodified|side-by-side]"
+                    + " [--name project] <project dir> <spec>...");
+            System.exit(2);
+        }
+        File projectDir = new File(paths.get(0)).getAbsoluteFile();
+        List<File> specFiles = new ArrayList<>();
+        for (String path : paths.subList(1, paths.size())) {
+            specFiles.add(new File(path));
+        }
+        int status = new HaystackCli(projectDir, projectName != null ? projectName : projectDir.getName(), policy)
+                .run(init, specFiles);
+        System.exit(status);
+    }
+
+    private static OverwritePolicy parsePolicy(String name) {
+        for (OverwritePolicy policy : OverwritePolicy.values()) {
+            if (policy.name().replace('_', '-').equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private final File projectDir;
+    private final String projectName;
+    private final OverwritePolicy policy;
+
+    public HaystackCli(File projectDir, String projectName, OverwritePolicy policy) {
+        this.projectDir = projectDir;
+        this.projectName = projectName;
+        this.policy = policy;
+    }
+
+    public int run(boolean init, List<File> specFiles) {
+        long start = System.currentTimeMillis();
+        int failures = 0;
+
+        AppGenerator generator = new AppGenerator(new File(projectDir, "lib"), projectName);
+        List<RenderJob> jobs = new ArrayList<>();
+        SourcePatcher patcher = new SourcePatcher();
+        if (init) {
+            generator.addProjectSkeleton(jobs);
+        } else if (!generator.isProjectInitialized()) {
+            System.err.println(projectDir + " is not initialized, run with --init");
+            return 1;
+        }
+
+        PageSpecLoader loader = new PageSpecLoader(new DartResolver());
+        List<PageModel> pages = loader.load(specFiles);
+        for (PageModel page : pages) {
+            generator.addPage(page, jobs, patcher);
+        }
+        loader.getProblems().addAll(generator.getProblems());
+        for (String problem : loader.getProblems()) {
+            System.err.println(problem);
+        }
+        failures += loader.getProblems().size();
+
+        TemplateEngine engine = new TemplateEngine(HaystackCli.class.getClassLoader(), "/");
+        RenderPipeline pipeline = engine.createPipeline(new File(projectDir, ".idea/haystack/templates"));
+        GenerationManifest manifest = new GenerationManifest(
+                new File(projectDir, ".idea/haystack/generation_manifest.json"), projectDir);
+        GenerationRun run = new GenerationRun(manifest, policy);
+        for (RenderJob job : jobs) {
+            run.prepare(job);
+        }
+        run.queue(pipeline.render(jobs, null, run.getRenderProblems()));
+        run.patch(patcher);
+        try {
+            run.commit(new NioFileCommitter());
+        } catch (Exception e) {
+            System.err.println("Writing failed: " + e.getMessage());
+            return 1;
+        }
+
+        for (Map.Entry<File, GenerationManifest.Status> conflict : run.getConflicts().entrySet()) {
+            System.out.println(policy + ": " + conflict.getKey() + " ("
+                    + (conflict.getValue() == GenerationManifest.Status.EDITED ? "edited" : "not generated") + ")");
+        }
+        for (String keptEdit : run.getKeptEdits()) {
+            System.out.println("Kept edited " + keptEdit);
+        }
+        for (String problem : run.getRenderProblems()) {
+            System.err.println("Not generated: " + problem);
+        }
+        failures += run.getRenderProblems().size();
+        for (String problem : run.getPatchProblems()) {
+            System.err.println("Not updated: " + problem);
+        }
+        failures += run.getPatchProblems().size();
+        System.out.println(pages.size() + " pages (" + loader.getNodeCount() + " sample values, depth "
+                + loader.getMaxDepth() + "), " + jobs.size() + " files rendered, " + run.getBatch().size()
+                + " written in " + (System.currentTimeMillis() - start) + " ms");
+        return failures == 0 ? 0 : 1;
+    }
+}
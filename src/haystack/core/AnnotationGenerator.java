@@ -1,9 +0,0 @@
-package haystack.core;
-
-
-public interface AnnotationGenerator {
-
-    String getSerializeName(String jsonKey);
-    String getImportString();
-
-}
@@ -0,0 +1,187 @@
+package haystack.core.cache;
+
+import haystack.core.models.ClassModel;
+import haystack.core.models.FieldModel;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Finished class models (with the renames, unique fields and DB-module choices made in the
+ * fields dialog) stored per JSON sample structure in a JSON file, so a sample seen before can
+ * skip the dialog. Entries unused for longer than {@code maxAgeMillis} are dropped and the
+ * least recently used ones go first once there are more than {@code maxEntries}.
+ */
+public class SchemaCache {
+
+    private static final int VERSION = 1;
+
+    private final File file;
+    private final int maxEntries;
+    private final long maxAgeMillis;
+
+    private JSONObject entries;
+
+    public SchemaCache(File file, int maxEntries, long maxAgeMillis) {
+        this.file = file;
+        this.maxEntries = maxEntries;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    public synchronized List<ClassModel> get(String fingerprint) {
+        if (fingerprint == null) {
+            return null;
+        }
+        JSONObject entry = load().optJSONObject(fingerprint);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.getLong("lastUsed") > maxAgeMillis) {
+            entries.remove(fingerprint);
+            save();
+            return null;
+        }
+        entry.put("lastUsed", System.currentTimeMillis());
+        save();
+        return readClasses(entry.getJSONArray("classes"));
+    }
+
+    public synchronized void put(String fingerprint, List<ClassModel> classes) {
+        if (fingerprint == null) {
+            return;
+        }
+        JSONObject entry = new JSONObject();
+        entry.put("lastUsed", System.currentTimeMillis());
+        entry.put("classes", writeClasses(classes));
+        load().put(fingerprint, entry);
+        evict();
+        save();
+    }
+
+    public synchronized void remove(String fingerprint) {
+        if (load().remove(fingerprint) != null) {
+            save();
+        }
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        Iterator<String> keys = entries.keys();
+        while (keys.hasNext()) {
+            if (now - entries.getJSONObject(keys.next()).getLong("lastUsed") > maxAgeMillis) {
+                keys.remove();
+            }
+        }
+        while (entries.length() > maxEntries) {
+            String oldest = null;
+            long oldestUse = Long.MAX_VALUE;
+            for (String key : entries.keySet()) {
+                long lastUsed = entries.getJSONObject(key).getLong("lastUsed");
+                if (lastUsed < oldestUse) {
+                    oldestUse = lastUsed;
+                    oldest = key;
+                }
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    private JSONObject load() {
+        if (entries != null) {
+            return entries;
+        }
+        entries = new JSONObject();
+        if (file.exists()) {
+            try {
+                JSONObject root = new JSONObject(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+                if (root.optInt("version") == VERSION) {
+                    entries = root.getJSONObject("entries");
+                }
+            } catch (IOException | JSONException e) {
+                e.printStackTrace();
+            }
+        }
+        return entries;
+    }
+
+    private void save() {
+        JSONObject root = new JSONObject();
+        root.put("version", VERSION);
+        root.put("entries", entries);
+        try {
+            File folder = file.getParentFile();
+            if (folder != null && !folder.exists() && !folder.mkdirs()) {
+                throw new IOException("Cannot create " + folder);
+            }
+            File temp = new File(file.getPath() + ".tmp");
+            Files.write(temp.toPath(), root.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static JSONArray writeClasses(List<ClassModel> classes) {
+        JSONArray array = new JSONArray();
+        for (ClassModel classModel : classes) {
+            JSONObject json = new JSONObject();
+            json.put("name", classModel.getName());
+            json.putOpt("packageName", classModel.getPackageName());
+            json.putOpt("uniqueField", classModel.getUniqueField());
+            json.putOpt("uniqueFieldType", classModel.getUniqueFieldType());
+            json.put("genDBModule", classModel.isGenDBModule());
+            JSONArray fields = new JSONArray();
+            for (FieldModel field : classModel.getFields()) {
+                JSONObject jsonField = new JSONObject();
+                jsonField.put("jsonName", field.getJsonName());
+                jsonField.put("name", field.getName());
+                jsonField.put("type", field.getType());
+                jsonField.putOpt("originalValue", field.getOriginalValue());
+                jsonField.putOpt("defaultValue", field.getDefaultValue());
+                jsonField.put("optional", field.isOptional());
+                jsonField.put("nullable", field.isNullable());
+                jsonField.put("enabled", field.isEnabled());
+                jsonField.put("unique", field.isUnique());
+                fields.put(jsonField);
+            }
+            json.put("fields", fields);
+            array.put(json);
+        }
+        return array;
+    }
+
+    private static List<ClassModel> readClasses(JSONArray array) {
+        List<ClassModel> classes = new ArrayList<>();
+        for (int i = 0; i < array.length(); i++) {
+            JSONObject json = array.getJSONObject(i);
+            ClassModel classModel = new ClassModel(json.getString("name"));
+            classModel.setPackageName(json.optString("packageName", null));
+            classModel.setUniqueField(json.optString("uniqueField", null));
+            classModel.setUniqueFieldType(json.optString("uniqueFieldType", null));
+            classModel.setGenApi(json.optBoolean("genDBModule"));
+            JSONArray fields = json.getJSONArray("fields");
+            for (int j = 0; j < fields.length(); j++) {
+                JSONObject jsonField = fields.getJSONObject(j);
+                FieldModel field = new FieldModel(jsonField.getString("jsonName"), jsonField.getString("name"),
+                        jsonField.getString("type"), jsonField.optString("originalValue", null));
+                field.setDefaultValue(jsonField.optString("defaultValue", null));
+                field.setOptional(jsonField.optBoolean("optional"));
+                field.setNullable(jsonField.optBoolean("nullable"));
+                field.setEnabled(jsonField.optBoolean("enabled", true));
+                field.setUnique(jsonField.optBoolean("unique"));
+                classModel.addField(field);
+            }
+            classes.add(classModel);
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,277 @@
+package haystack.core.generator;
+
+import haystack.core.models.ClassModel;
+import haystack.core.models.PageModel;
+
+import java.io.File;
+import java.util.*;
+
+import static haystack.core.models.PageType.CUSTOMSCROLLVIEW;
+
+/**
+ * Lays out the files of a generated Flutter app under its {@code lib} folder: which template
+ * renders each file from which model, and which insertions register a page's redux and
+ * database code in the shared app files. Only plans the work; rendering and writing are up to
+ * the caller. Several pages can be added to one plan: a file two pages share, such as the model
+ * class of a common nested object, is planned once, by the first page. A later page that wants
+ * the file with other options is reported by {@link #getProblems()}.
+ */
+public class AppGenerator {
+
+    private final File libDir;
+    private final String projectName;
+    private final ModelWrapper wrapper = new ModelWrapper();
+    private final Map<File, Map<String, Object>> plannedFiles = new HashMap<>();
+    private final Map<String, List<String>> conflicts = new LinkedHashMap<>();
+
+    public AppGenerator(File libDir, String projectName) {
+        this.libDir = libDir;
+        this.projectName = projectName;
+    }
+
+    /**
+     * One line per pair of pages that disagree on the options of files they share, naming the
+     * options and the files; the files were planned with the options of the first page.
+     */
+    public List<String> getProblems() {
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<String, List<String>> conflict : conflicts.entrySet()) {
+            problems.add(conflict.getKey() + " (" + String.join(", ", conflict.getValue()) + ")");
+        }
+        return problems;
+    }
+
+    public boolean isProjectInitialized() {
+        return new File(libDir, "redux").exists() && new File(libDir, "features").exists()
+                && new File(libDir, "trans").exists() && new File(libDir, "data").exists();
+    }
+
+    /**
+     * Queues the files of one page: its view and view model and, unless it is UI only, the
+     * model classes, repositories and redux files of its models, with their registration in the
+     * app state, reducer, store and database client.
+     */
+    public void addPage(PageModel pageModel, List<RenderJob> jobs, SourcePatcher patcher) {
+        LayeredModel rootMap = new LayeredModel(wrapper);
+        rootMap.put("ProjectName", projectName);
+        rootMap.put("PageType", pageModel.pageType);
+        if (pageModel.pageType.equals(CUSTOMSCROLLVIEW)) {
+            rootMap.put("GenerateCustomScrollView", true);
+        } else {
+            rootMap.put("GenerateCustomScrollView", false);
+        }
+        rootMap.put("PageName", pageModel.pageName);
+        rootMap.put("ModelEntryName", pageModel.modelName);
+        rootMap.put("GenerateListView", pageModel.genListView);
+        rootMap.put("GenerateBottomTabBar", pageModel.genBottomTabBar);
+        rootMap.put("GenerateAppBar", pageModel.genAppBar);
+        rootMap.put("GenerateDrawer", pageModel.genDrawer);
+        rootMap.put("GenerateTopTabBar", pageModel.genTopTabBar);
+        rootMap.put("GenerateWebView", pageModel.genWebView);
+        rootMap.put("GenerateActionButton", pageModel.genActionButton);
+
+        rootMap.put("viewModelQuery", pageModel.viewModelQuery);
+        rootMap.put("viewModelGet", pageModel.viewModelGet);
+        rootMap.put("viewModelCreate", pageModel.viewModelCreate);
+        rootMap.put("viewModelUpdate", pageModel.viewModelUpdate);
+        rootMap.put("viewModelDelete", pageModel.viewModelDelete);
+        rootMap.put("decodeInBackground", pageModel.decodeInBackground);
+        rootMap.put("cacheResponses", pageModel.cacheResponses);
+
+        rootMap.put("GenSliverFixedExtentList", pageModel.genSliverFixedList);
+        rootMap.put("GenSliverGrid", pageModel.genSliverGrid);
+        rootMap.put("GenSliverToBoxAdapter", pageModel.genSliverToBoxAdapter);
+        rootMap.put("FabInAppBar", pageModel.genSliverFab);
+        rootMap.put("IsCustomWidget", pageModel.isCustomWidget);
+
+        if (pageModel.genActionButton) {
+            rootMap.put("HasActionSearch", pageModel.hasActionSearch);
+            rootMap.put("ActionList", pageModel.actionList);
+            rootMap.put("ActionBtnCount", pageModel.actionList.size());
+        } else {
+            rootMap.put("HasActionSearch", false);
+            rootMap.put("ActionList", new ArrayList<String>());
+            rootMap.put("ActionBtnCount", 0);
+        }
+        List<Map<String, Object>> dbModels = new ArrayList<>();
+        if (!pageModel.isUIOnly) {
+            for (ClassModel classModel : pageModel.classModels) {
+                if (classModel.getName().equals(pageModel.modelName)) {
+                    rootMap.put("genDatabase", classModel.isGenDBModule());
+
+                    if (classModel.getUniqueField() != null) {
+                        rootMap.put("clsUNName", classModel.getUniqueField());
+                        rootMap.put("clsUNNameType", classModel.getUniqueFieldType());
+                    }
+                }
+            }
+            for (ClassModel classModel : pageModel.classModels) {
+                Map<String, Object> subMap = generateModelEntry(classModel, rootMap, jobs);
+                if (classModel.isGenDBModule()) {
+                    dbModels.add(subMap);
+                }
+            }
+
+            generateRepository(rootMap, jobs);
+            generateRedux(rootMap, jobs);
+        }
+        generateFeature(rootMap, pageModel.isCustomWidget, jobs);
+
+        for (Map<String, Object> subMap : dbModels) {
+            patchDatabaseClient(subMap, patcher);
+        }
+        if (!pageModel.isUIOnly) {
+            patchAppState(rootMap, patcher);
+            patchAppReducer(rootMap, patcher);
+            patchStore(rootMap, patcher);
+        }
+    }
+
+    private void generateRedux(Map<String, Object> rootMap, List<RenderJob> jobs) {
+        String path = libDir.getPath() + "/redux";
+        generateFile(jobs, new File(path + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "_actions.dart"), "actions.dart.ftl", rootMap, "clsUNName");
+        generateFile(jobs, new File(path + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "_middleware.dart"), "middleware.dart.ftl", rootMap,
+                "decodeInBackground", "cacheResponses", "genDatabase", "clsUNName");
+        generateFile(jobs, new File(path + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "_reducer.dart"), "reducer.dart.ftl", rootMap, "clsUNName");
+        generateFile(jobs, new File(path + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "_state.dart"), "state.dart.ftl", rootMap);
+    }
+
+    private void patchStore(Map<String, Object> rootMap, SourcePatcher patcher) {
+        File file = new File(libDir.getPath() + "/redux/store.dart");
+        String entryName = rootMap.get("ModelEntryName").toString();
+        patcher.prepend(file, "import 'package:" + rootMap.get("ProjectName").toString().toLowerCase() + "/redux/" + entryName.toLowerCase() + "/" + entryName.toLowerCase() + "_middleware.dart';\n");
+        patcher.insertAfter(file, "middleware: []", "\n      ..addAll(create" + entryName + "Middleware())");
+    }
+
+    private void patchAppReducer(Map<String, Object> rootMap, SourcePatcher patcher) {
+        File file = new File(libDir.getPath() + "/redux/app/app_reducer.dart");
+        String entryName = rootMap.get("ModelEntryName").toString();
+        patcher.prepend(file, "import 'package:" + rootMap.get("ProjectName").toString().toLowerCase() + "/redux/" + entryName.toLowerCase() + "/" + entryName.toLowerCase() + "_reducer.dart';\n");
+        patcher.insertAfter(file, "return new AppState(", "\n    " + entryName.toLowerCase() + "State: " + entryName.toLowerCase() + "Reducer(state." + entryName.toLowerCase() + "State, action),");
+    }
+
+    private void patchAppState(Map<String, Object> rootMap, SourcePatcher patcher) {
+        File file = new File(libDir.getPath() + "/redux/app/app_state.dart");
+        String entryName = rootMap.get("ModelEntryName").toString();
+        patcher.prepend(file, "import 'package:" + rootMap.get("ProjectName").toString().toLowerCase() + "/redux/" + entryName.toLowerCase() + "/" + entryName.toLowerCase() + "_state.dart';\n");
+        patcher.insertAfter(file, "class AppState {", "\n  final " + entryName + "State " + entryName.toLowerCase() + "State;");
+        patcher.insertAfter(file, "AppState({", "\n    @required this." + entryName.toLowerCase() + "State,");
+        patcher.insertAfter(file, "return AppState(", "\n        " + entryName.toLowerCase() + "State: " + entryName + "State(\n" +
+                "            " + entryName.toLowerCase() + ": null,\n" +
+                "            " + entryName.toLowerCase() + "s: Map(),\n" +
+                "            status: Map(),\n" +
+                "            page: Page(),),");
+    }
+
+    /**
+     * Queues the project skeleton: pubspec, main, networking with its test, the app-wide redux files and the
+     * shared widgets.
+     */
+    public void addProjectSkeleton(List<RenderJob> jobs) {
+        LayeredModel rootMap = new LayeredModel(wrapper);
+        rootMap.put("ProjectName", projectName);
+        generateFile(jobs, new File(libDir.getParent() + "/pubspec.yaml"), "pubspec.yaml.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/main.dart"), "main.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/data/network_common.dart"), "network_common.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getParent() + "/test/network_common_test.dart"), "network_common_test.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/utils/progress_dialog.dart"), "progress_dialog.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/utils/toast_utils.dart"), "toast_utils.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/data/model/remote_wrap.dart"), "remote_wrap.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/data/model/choice_data.dart"), "choice_data.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/data/model/page_data.dart"), "page_data.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/trans/translations.dart"), "translations.dart.ftl", rootMap);
+
+        generateFile(jobs, new File(libDir.getPath() + "/redux/store.dart"), "store.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/redux/action_report.dart"), "action_report.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/redux/app/app_reducer.dart"), "app_reducer.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/redux/app/app_state.dart"), "app_state.dart.ftl", rootMap);
+
+        generateFile(jobs, new File(libDir.getParent() + "/locale/i18n_en.json"), "i18n_en.json.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getParent() + "/locale/i18n_zh.json"), "i18n_zh.json.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/data/db/database_client.dart"), "database_client.dart.ftl", rootMap);
+
+        generateFile(jobs, new File(libDir.getPath() + "/features/settings/settings_option.dart"), "settings_option.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/features/settings/settings_option_page.dart"), "settings_option_page.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/features/settings/theme.dart"), "theme.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/features/settings/text_scale.dart"), "text_scale.dart.ftl", rootMap);
+
+        generateFile(jobs, new File(libDir.getPath() + "/features/widget/date_picker_widget.dart"), "date_picker_widget.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/features/widget/spannable_grid.dart"), "spannable_grid.dart.ftl", rootMap);
+        generateFile(jobs, new File(libDir.getPath() + "/features/widget/swipe_list_item.dart"), "swipe_list_item.dart.ftl", rootMap);
+    }
+
+    private void generateFeature(Map<String, Object> rootMap, boolean isCustomWidget, List<RenderJob> jobs) {
+        String path = libDir.getPath() + "/features/" + (isCustomWidget ? "customize/" : "") + rootMap.get("PageName").toString().toLowerCase() + "/"
+                + rootMap.get("PageName").toString().toLowerCase();
+        generateFile(jobs, new File(path + "_view_model.dart"), "view_model.dart.ftl", rootMap);
+        generateFile(jobs, new File(path + "_view.dart"), "view.dart.ftl", rootMap);
+    }
+
+    private void generateRepository(Map<String, Object> rootMap, List<RenderJob> jobs) {
+        String path = libDir.getPath() + "/data";
+
+        boolean db = (boolean) rootMap.get("genDatabase");
+        if ((db)) {
+            generateFile(jobs, new File(path + "/db/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "_repository_db.dart"), "repository_db.dart.ftl", rootMap, "clsUNName");
+        }
+        generateFile(jobs, new File(path + "/remote/" + rootMap.get("ModelEntryName").toString().toLowerCase() + "_repository.dart"), "repository.dart.ftl", rootMap,
+                "decodeInBackground", "cacheResponses", "clsUNName");
+        if ((boolean) rootMap.get("cacheResponses")) {
+            Map<String, Object> cacheMap = new HashMap<>();
+            cacheMap.put("ProjectName", projectName);
+            generateFile(jobs, new File(path + "/response_cache.dart"), "response_cache.dart.ftl", cacheMap);
+        }
+    }
+
+    /**
+     * Plans {@code file} unless an earlier page did. {@code options} are the page options the
+     * template reads; a later page with other values for them is recorded as a conflict.
+     */
+    private void generateFile(List<RenderJob> jobs, File file, String template, Map<String, Object> entryModel,
+                              String... options) {
+        Map<String, Object> planned = plannedFiles.get(file.getAbsoluteFile());
+        if (planned == null) {
+            Map<String, Object> values = new HashMap<>();
+            values.put("PageName", entryModel.get("PageName"));
+            for (String option : options) {
+                values.put(option, entryModel.get(option));
+            }
+            plannedFiles.put(file.getAbsoluteFile(), values);
+            jobs.add(new RenderJob(file, template, entryModel));
+            return;
+        }
+        List<String> differing = new ArrayList<>();
+        for (String option : options) {
+            if (!Objects.equals(planned.get(option), entryModel.get(option))) {
+                differing.add(option);
+            }
+        }
+        if (!differing.isEmpty()) {
+            String conflict = "Page " + entryModel.get("PageName") + " differs from " + planned.get("PageName")
+                    + " on " + String.join(", ", differing) + ", the shared files use the options of "
+                    + planned.get("PageName");
+            conflicts.computeIfAbsent(conflict, key -> new ArrayList<>()).add(file.getName());
+        }
+    }
+
+    private Map<String, Object> generateModelEntry(ClassModel classModel, LayeredModel map, List<RenderJob> jobs) {
+
+        LayeredModel subMap = map.child();
+        subMap.put("ModelEntryName", classModel.getName());
+        subMap.put("genDatabase", classModel.isGenDBModule());
+        subMap.put("Fields", classModel.getFields());
+
+        File f = new File(libDir.getPath() + "/data/model/" + classModel.getName().toLowerCase() + "_data.dart");
+        generateFile(jobs, f, "model_entry_data.dart.ftl", subMap, "genDatabase", "clsUNName");
+        return subMap;
+    }
+
+    private void patchDatabaseClient(Map<String, Object> rootMap, SourcePatcher patcher) {
+        File file = new File(libDir.getPath() + "/data/db/database_client.dart");
+        String entryName = rootMap.get("ModelEntryName").toString();
+        patcher.prepend(file, "import 'package:" + rootMap.get("ProjectName").toString().toLowerCase() + "/data/model/" + entryName.toLowerCase() + "_data.dart';\n");
+        patcher.insertAfter(file, "onUpgrade: (d, o, n) {", "\n      d..delete(\"" + entryName.toLowerCase() + "\");\n" +
+                "      " + entryName + ".createTable(d);");
+        patcher.insertAfter(file, "onOpen: (d) {", "\n      " + entryName + ".createTable(d);");
+    }
+}
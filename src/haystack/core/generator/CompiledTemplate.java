@@ -0,0 +1,12 @@
+package haystack.core.generator;
+
+import java.util.Map;
+
+/**
+ * A template translated to Java by {@link haystack.core.generator.compiler.TemplateCompiler},
+ * appending the same text Freemarker would produce for {@code model}.
+ */
+public interface CompiledTemplate {
+
+    void render(Map<String, Object> model, StringBuilder out);
+}
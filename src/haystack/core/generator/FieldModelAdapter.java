@@ -0,0 +1,70 @@
+package haystack.core.generator;
+
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import haystack.core.models.FieldModel;
+
+/**
+ * {@link FieldModel} properties for templates, wrapped once when the adapter is created since
+ * fields don't change while files are generated.
+ */
+public class FieldModelAdapter implements TemplateHashModel {
+
+    private final TemplateModel jsonName;
+    private final TemplateModel name;
+    private final TemplateModel type;
+    private final TemplateModel originalValue;
+    private final TemplateModel defaultValue;
+    private final TemplateModel optional;
+    private final TemplateModel nullable;
+    private final TemplateModel enabled;
+    private final TemplateModel unique;
+
+    public FieldModelAdapter(FieldModel field, ModelWrapper wrapper) {
+        try {
+            jsonName = wrapper.wrap(field.getJsonName());
+            name = wrapper.wrap(field.getName());
+            type = wrapper.wrap(field.getType());
+            originalValue = wrapper.wrap(field.getOriginalValue());
+            defaultValue = wrapper.wrap(field.getDefaultValue());
+            optional = wrapper.wrap(field.isOptional());
+            nullable = wrapper.wrap(field.isNullable());
+            enabled = wrapper.wrap(field.isEnabled());
+            unique = wrapper.wrap(field.isUnique());
+        } catch (TemplateModelException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public TemplateModel get(String key) {
+        switch (key) {
+            case "jsonName":
+                return jsonName;
+            case "name":
+                return name;
+            case "type":
+                return type;
+            case "originalValue":
+                return originalValue;
+            case "defaultValue":
+                return defaultValue;
+            case "optional":
+                return optional;
+            case "nullable":
+                return nullable;
+            case "enabled":
+                return enabled;
+            case "unique":
+                return unique;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package haystack.core.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything one generation writes, collected so it can be committed in one go. Reads see the
+ * pending content of a file, so several patches to the same file build on each other.
+ */
+public class FileBatch {
+
+    private final Map<File, String> files = new LinkedHashMap<>();
+
+    public void write(File file, String content) {
+        files.put(file.getAbsoluteFile(), content);
+    }
+
+    /**
+     * The content the file will have once the batch is committed; "" when it doesn't exist.
+     */
+    public String read(File file) {
+        String pending = files.get(file.getAbsoluteFile());
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return "";
+        }
+    }
+
+    public boolean contains(File file) {
+        return files.containsKey(file.getAbsoluteFile());
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public List<RenderedFile> getFiles() {
+        List<RenderedFile> result = new ArrayList<>(files.size());
+        for (Map.Entry<File, String> file : files.entrySet()) {
+            result.add(new RenderedFile(file.getKey(), null, file.getValue()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package haystack.core.generator;
+
+import java.io.IOException;
+
+/**
+ * Writes a whole {@link FileBatch} as one operation.
+ */
+public interface FileCommitter {
+
+    void commit(FileBatch batch) throws IOException;
+}
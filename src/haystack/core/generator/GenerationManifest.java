@@ -0,0 +1,200 @@
+package haystack.core.generator;
+
+import haystack.core.models.FieldModel;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Record of every generated file, kept in a JSON file under the project: a fingerprint of the
+ * template and model it came from and a hash of the content written. Tells a regenerated file
+ * that needs no write apart from one the user edited since it was generated.
+ */
+public class GenerationManifest {
+
+    private static final int VERSION = 1;
+
+    public enum Status {
+        /** Not on disk yet. */
+        NEW,
+        /** On disk with exactly the rendered content. */
+        UNCHANGED,
+        /** On disk as last generated, so it can be replaced. */
+        GENERATED,
+        /** Changed on disk since it was generated. */
+        EDITED,
+        /** On disk but never generated by us. */
+        UNTRACKED
+    }
+
+    private final File file;
+    private final File baseDir;
+
+    private JSONObject files;
+
+    public GenerationManifest(File file, File baseDir) {
+        this.file = file;
+        this.baseDir = baseDir;
+    }
+
+    /**
+     * State of {@code target} before rendering: {@link Status#UNCHANGED} needs the rendered
+     * content, see {@link #check(File, String)}.
+     */
+    public synchronized Status getStatus(File target) {
+        if (!target.exists()) {
+            return Status.NEW;
+        }
+        JSONObject entry = load().optJSONObject(key(target));
+        if (entry == null) {
+            return Status.UNTRACKED;
+        }
+        String diskHash = hashFile(target);
+        return entry.getString("output").equals(diskHash) ? Status.GENERATED : Status.EDITED;
+    }
+
+    public synchronized Status check(File target, String content) {
+        if (!target.exists()) {
+            return Status.NEW;
+        }
+        if (hash(content).equals(hashFile(target))) {
+            return Status.UNCHANGED;
+        }
+        return getStatus(target);
+    }
+
+    /**
+     * Whether {@code target} was last generated from the same template and model.
+     */
+    public synchronized boolean isSameInput(File target, String inputFingerprint) {
+        JSONObject entry = load().optJSONObject(key(target));
+        return entry != null && entry.getString("input").equals(inputFingerprint);
+    }
+
+    public synchronized void put(File target, String inputFingerprint, String content) {
+        JSONObject entry = new JSONObject();
+        entry.put("input", inputFingerprint);
+        entry.put("output", hash(content));
+        load().put(key(target), entry);
+    }
+
+    public synchronized void save() {
+        JSONObject root = new JSONObject();
+        root.put("version", VERSION);
+        root.put("files", load());
+        try {
+            File folder = file.getParentFile();
+            if (folder != null && !folder.exists() && !folder.mkdirs()) {
+                throw new IOException("Cannot create " + folder);
+            }
+            File temp = new File(file.getPath() + ".tmp");
+            Files.write(temp.toPath(), root.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Hash of the template name and the model values, with map keys sorted so that the
+     * fingerprint doesn't depend on insertion order.
+     */
+    public static String fingerprint(String template, Map<String, Object> model) {
+        StringBuilder canonical = new StringBuilder(template).append('|');
+        appendCanonical(canonical, model);
+        return hash(canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendCanonical(StringBuilder out, Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            List<String> keys = new ArrayList<>();
+            for (Object key : map.keySet()) {
+                keys.add(String.valueOf(key));
+            }
+            Collections.sort(keys);
+            out.append('{');
+            for (String key : keys) {
+                out.append(key).append('=');
+                appendCanonical(out, map.get(key));
+                out.append(',');
+            }
+            out.append('}');
+        } else if (value instanceof Collection) {
+            out.append('[');
+            for (Object item : (Collection<?>) value) {
+                appendCanonical(out, item);
+                out.append(',');
+            }
+            out.append(']');
+        } else if (value instanceof FieldModel) {
+            FieldModel field = (FieldModel) value;
+            out.append("Field(").append(field.getJsonName()).append(',').append(field.getName())
+                    .append(',').append(field.getType()).append(',').append(field.getOriginalValue())
+                    .append(',').append(field.getDefaultValue()).append(',').append(field.isOptional())
+                    .append(',').append(field.isNullable()).append(',').append(field.isEnabled())
+                    .append(',').append(field.isUnique()).append(')');
+        } else if (value instanceof String) {
+            out.append('"').append(((String) value).replace("\"", "\\\"")).append('"');
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static String hashFile(File file) {
+        try {
+            return hash(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String key(File target) {
+        return baseDir.toPath().toAbsolutePath().relativize(target.toPath().toAbsolutePath()).toString()
+                .replace(File.separatorChar, '/');
+    }
+
+    private JSONObject load() {
+        if (files != null) {
+            return files;
+        }
+        files = new JSONObject();
+        if (file.exists()) {
+            try {
+                JSONObject root = new JSONObject(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+                if (root.optInt("version") == VERSION) {
+                    files = root.getJSONObject("files");
+                }
+            } catch (IOException | JSONException e) {
+                e.printStackTrace();
+            }
+        }
+        return files;
+    }
+}
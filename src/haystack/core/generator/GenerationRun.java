@@ -0,0 +1,112 @@
+package haystack.core.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * One generation from planned jobs to a committed batch. {@link #prepare(RenderJob)} sorts out
+ * the targets that already exist before rendering, {@link #queue(List)} decides per rendered
+ * file whether and where it is written, and {@link #commit(FileCommitter)} writes the batch and
+ * records the generated files in the manifest.
+ */
+public class GenerationRun {
+
+    private final GenerationManifest manifest;
+    private final OverwritePolicy defaultPolicy;
+
+    private final FileBatch batch = new FileBatch();
+    private final Map<RenderedFile, String> generated = new LinkedHashMap<>();
+    private final List<String> keptEdits = new ArrayList<>();
+    private final List<String> patchProblems = new ArrayList<>();
+    private final List<String> renderProblems = new ArrayList<>();
+    private final Map<File, String> fingerprints = new HashMap<>();
+    private final Map<File, GenerationManifest.Status> conflicts = new LinkedHashMap<>();
+    private final Map<File, OverwritePolicy> policies = new HashMap<>();
+
+    public GenerationRun(GenerationManifest manifest, OverwritePolicy defaultPolicy) {
+        this.manifest = manifest;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    /**
+     * Fingerprints the job and checks its target: an edited file whose inputs haven't changed
+     * is kept, an edited or foreign one becomes a conflict.
+     */
+    public void prepare(RenderJob job) {
+        File file = job.getFile();
+        String fingerprint = GenerationManifest.fingerprint(job.getTemplate(), job.getModel());
+        fingerprints.put(file, fingerprint);
+        GenerationManifest.Status status = manifest.getStatus(file);
+        if (status == GenerationManifest.Status.EDITED && manifest.isSameInput(file, fingerprint)) {
+            policies.put(file, OverwritePolicy.SKIP);
+            keptEdits.add(file.getName());
+        } else if (status == GenerationManifest.Status.EDITED || status == GenerationManifest.Status.UNTRACKED) {
+            conflicts.put(file, status);
+        }
+    }
+
+    public Map<File, GenerationManifest.Status> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Policies chosen for some conflicts; the others get the default policy.
+     */
+    public void resolve(Map<File, OverwritePolicy> resolutions) {
+        policies.putAll(resolutions);
+    }
+
+    /**
+     * Queues the rendered files that need writing, in the given order. Their jobs must have
+     * been prepared.
+     */
+    public void queue(List<RenderedFile> files) {
+        for (RenderedFile renderedFile : files) {
+            File file = renderedFile.getFile();
+            String fingerprint = fingerprints.get(file);
+            GenerationManifest.Status status = manifest.check(file, renderedFile.getContent());
+            if (status == GenerationManifest.Status.UNCHANGED) {
+                generated.put(renderedFile, fingerprint);
+                continue;
+            }
+            File target = policies.getOrDefault(file, defaultPolicy).getTarget(file, status);
+            if (target != null) {
+                RenderedFile written = new RenderedFile(target, renderedFile.getTemplate(), renderedFile.getContent());
+                batch.write(target, written.getContent());
+                generated.put(written, fingerprint);
+            }
+        }
+    }
+
+    public void patch(SourcePatcher patcher) {
+        patchProblems.addAll(patcher.apply(batch));
+    }
+
+    public void commit(FileCommitter committer) throws IOException {
+        committer.commit(batch);
+        for (Map.Entry<RenderedFile, String> file : generated.entrySet()) {
+            manifest.put(file.getKey().getFile(), file.getValue(), file.getKey().getContent());
+        }
+        manifest.save();
+    }
+
+    public FileBatch getBatch() {
+        return batch;
+    }
+
+    public List<String> getKeptEdits() {
+        return keptEdits;
+    }
+
+    public List<String> getPatchProblems() {
+        return patchProblems;
+    }
+
+    /**
+     * Files whose template failed to render, to be filled in by the render stage.
+     */
+    public List<String> getRenderProblems() {
+        return renderProblems;
+    }
+}
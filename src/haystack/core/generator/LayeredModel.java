@@ -0,0 +1,110 @@
+package haystack.core.generator;
+
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Template data of one file: its own values over those of a shared parent, so per-class data
+ * doesn't copy the page's. Read as a plain map by compiled templates and through
+ * {@link #getTemplateModel()} by Freemarker, which caches each value's wrapper in the layer
+ * holding the value, where every child sees it. Filled on one thread, then only read while
+ * rendering.
+ */
+public class LayeredModel extends AbstractMap<String, Object> {
+
+    private final LayeredModel parent;
+    private final ModelWrapper wrapper;
+    private final Map<String, Object> values = new HashMap<>();
+    private final Map<String, TemplateModel> wrapped = new ConcurrentHashMap<>();
+    private final TemplateHashModel templateModel = new TemplateHashModel() {
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            for (LayeredModel layer = LayeredModel.this; layer != null; layer = layer.parent) {
+                if (layer.values.containsKey(key)) {
+                    return layer.wrap(key);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return LayeredModel.this.isEmpty();
+        }
+    };
+
+    public LayeredModel(ModelWrapper wrapper) {
+        this(null, wrapper);
+    }
+
+    private LayeredModel(LayeredModel parent, ModelWrapper wrapper) {
+        this.parent = parent;
+        this.wrapper = wrapper;
+    }
+
+    public LayeredModel child() {
+        return new LayeredModel(this, wrapper);
+    }
+
+    @Override
+    public Object get(Object key) {
+        for (LayeredModel layer = this; layer != null; layer = layer.parent) {
+            Object value = layer.values.get(key);
+            if (value != null || layer.values.containsKey(key)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        for (LayeredModel layer = this; layer != null; layer = layer.parent) {
+            if (layer.values.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        values.put(key, value);
+        wrapped.remove(key);
+        return previous;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> merged = parent != null ? new HashMap<>(parent) : new HashMap<>();
+        merged.putAll(values);
+        return merged.entrySet();
+    }
+
+    public TemplateHashModel getTemplateModel() {
+        return templateModel;
+    }
+
+    private TemplateModel wrap(String key) throws TemplateModelException {
+        TemplateModel model = wrapped.get(key);
+        if (model == null) {
+            Object value = values.get(key);
+            if (value == null) {
+                return null;
+            }
+            model = wrapper.wrap(value);
+            wrapped.put(key, model);
+        }
+        return model;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty() && (parent == null || parent.isEmpty());
+    }
+}
@@ -0,0 +1,46 @@
+package haystack.core.generator;
+
+import freemarker.template.*;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps template data for Freemarker without reflection: strings, numbers and booleans as the
+ * simple models, lists as {@link SequenceAdapter}s and fields as {@link FieldModelAdapter}s,
+ * the latter cached for the whole generation run. Anything else falls back to a
+ * {@link DefaultObjectWrapper}.
+ */
+public class ModelWrapper {
+
+    private static final ObjectWrapper FALLBACK = new DefaultObjectWrapper(Configuration.VERSION_2_3_27);
+
+    private final Map<FieldModel, TemplateModel> fields = new ConcurrentHashMap<>();
+
+    public TemplateModel wrap(Object value) throws TemplateModelException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof TemplateModel) {
+            return (TemplateModel) value;
+        }
+        if (value instanceof String) {
+            return new SimpleScalar((String) value);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? TemplateBooleanModel.TRUE : TemplateBooleanModel.FALSE;
+        }
+        if (value instanceof Number) {
+            return new SimpleNumber((Number) value);
+        }
+        if (value instanceof FieldModel) {
+            return fields.computeIfAbsent((FieldModel) value, field -> new FieldModelAdapter(field, this));
+        }
+        if (value instanceof List) {
+            return new SequenceAdapter((List<?>) value, this);
+        }
+        return FALLBACK.wrap(value);
+    }
+}
@@ -0,0 +1,35 @@
+package haystack.core.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * Writes a batch straight to the file system, each file through a temp file in its folder that
+ * is then moved over the target, so no reader ever sees a half written file.
+ */
+public class NioFileCommitter implements FileCommitter {
+
+    @Override
+    public void commit(FileBatch batch) throws IOException {
+        for (RenderedFile file : batch.getFiles()) {
+            write(file.getFile().toPath(), file.getContent());
+        }
+    }
+
+    private static void write(Path target, String content) throws IOException {
+        Path folder = target.toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        Path temp = Files.createTempFile(folder, "." + target.getFileName(), ".tmp");
+        try {
+            Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package haystack.core.generator;
+
+import java.io.File;
+
+/**
+ * What to do with a rendered file whose target already exists.
+ */
+public enum OverwritePolicy {
+    SKIP("Skip"),
+    OVERWRITE("Overwrite"),
+    OVERWRITE_IF_UNMODIFIED("Overwrite if unmodified"),
+    SIDE_BY_SIDE("Write side by side");
+
+    private final String label;
+
+    OverwritePolicy(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Where a file in the given state is written, or null when it is left alone. A side by side
+     * copy of {@code name.dart} is {@code name.generated.dart}.
+     */
+    public File getTarget(File file, GenerationManifest.Status status) {
+        switch (status) {
+            case NEW:
+                return file;
+            case UNCHANGED:
+                return null;
+            case GENERATED:
+                return this == SKIP ? null : file;
+            default:
+                if (this == OVERWRITE) {
+                    return file;
+                }
+                return this == SIDE_BY_SIDE ? getSideBySideFile(file) : null;
+        }
+    }
+
+    public static File getSideBySideFile(File file) {
+        String name = file.getName();
+        int dot = name.indexOf('.');
+        String sideName = dot < 0 ? name + ".generated" : name.substring(0, dot) + ".generated" + name.substring(dot);
+        return new File(file.getParentFile(), sideName);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,29 @@
+package haystack.core.generator;
+
+import java.io.File;
+import java.util.Map;
+
+public class RenderJob {
+
+    private final File file;
+    private final String template;
+    private final Map<String, Object> model;
+
+    public RenderJob(File file, String template, Map<String, Object> model) {
+        this.file = file;
+        this.template = template;
+        this.model = model;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public Map<String, Object> getModel() {
+        return model;
+    }
+}
@@ -0,0 +1,132 @@
+package haystack.core.generator;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Render stage of generation: evaluates every job's template into memory, all at once on a
+ * {@link ForkJoinPool}, leaving the writing to the caller. A template with a compiled form
+ * is rendered by it, the others by Freemarker from the configuration's cache; both are safe
+ * to run concurrently as long as the models are only read.
+ */
+public class RenderPipeline {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
+    private final Configuration configuration;
+    private final Function<String, CompiledTemplate> compiledTemplates;
+    private final ForkJoinPool pool;
+
+    public RenderPipeline(Configuration configuration) {
+        this(configuration, name -> null, ForkJoinPool.commonPool());
+    }
+
+    public RenderPipeline(Configuration configuration, Function<String, CompiledTemplate> compiledTemplates) {
+        this(configuration, compiledTemplates, ForkJoinPool.commonPool());
+    }
+
+    public RenderPipeline(Configuration configuration, Function<String, CompiledTemplate> compiledTemplates,
+                          ForkJoinPool pool) {
+        this.configuration = configuration;
+        this.compiledTemplates = compiledTemplates;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the rendered files in job order; a job whose template fails is left out rather
+     * than written half done.
+     */
+    public List<RenderedFile> render(List<RenderJob> jobs) {
+        return render(jobs, null, new ArrayList<>());
+    }
+
+    /**
+     * Like {@link #render(List)}, adding "file: message" to {@code problems} for each job whose
+     * template fails and reporting each rendered file to {@code progress}, if given. Jobs not
+     * started when {@code progress} is cancelled are skipped and a {@link CancellationException}
+     * is thrown once the started ones finish.
+     */
+    public List<RenderedFile> render(List<RenderJob> jobs, Progress progress, List<String> problems) {
+        AtomicInteger rendered = new AtomicInteger();
+        List<Callable<RenderedFile>> tasks = new ArrayList<>(jobs.size());
+        for (RenderJob job : jobs) {
+            tasks.add(() -> {
+                if (progress == null) {
+                    return render(job);
+                }
+                if (progress.isCanceled()) {
+                    return null;
+                }
+                RenderedFile file = render(job);
+                progress.onRendered(file, rendered.incrementAndGet(), jobs.size());
+                return file;
+            });
+        }
+        List<RenderedFile> files = new ArrayList<>(jobs.size());
+        List<Future<RenderedFile>> futures = pool.invokeAll(tasks);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                RenderedFile file = futures.get(i).get();
+                if (file != null) {
+                    files.add(file);
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                while (cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                problems.add(jobs.get(i).getFile().getName() + ": " + summarize(cause));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+        if (progress != null && progress.isCanceled()) {
+            throw new CancellationException();
+        }
+        return files;
+    }
+
+    private RenderedFile render(RenderJob job) throws IOException, TemplateException {
+        CompiledTemplate compiled = compiledTemplates.apply(job.getTemplate());
+        if (compiled != null) {
+            StringBuilder out = BUFFER.get();
+            out.setLength(0);
+            compiled.render(job.getModel(), out);
+            return new RenderedFile(job.getFile(), job.getTemplate(), out.toString());
+        }
+        Template template = configuration.getTemplate(job.getTemplate());
+        StringWriter out = new StringWriter();
+        Map<String, Object> model = job.getModel();
+        template.process(model instanceof LayeredModel ? ((LayeredModel) model).getTemplateModel() : model, out);
+        return new RenderedFile(job.getFile(), job.getTemplate(), out.toString());
+    }
+
+    /**
+     * First line of the error, with the line after it when it only introduces that one, as
+     * Freemarker's "has evaluated to null or missing:" does.
+     */
+    private static String summarize(Throwable error) {
+        String[] lines = String.valueOf(error.getMessage()).trim().split("\\s*\n\\s*");
+        return lines[0].endsWith(":") && lines.length > 1 ? lines[0] + " " + lines[1] : lines[0];
+    }
+
+    public interface Progress {
+        /**
+         * Called from the rendering threads as each file is done.
+         */
+        void onRendered(RenderedFile file, int renderedCount, int totalCount);
+
+        boolean isCanceled();
+    }
+}
@@ -0,0 +1,91 @@
+package haystack.core.generator;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runtime helpers of the compiled templates, following Freemarker's rules: null or missing
+ * values fail instead of rendering, only booleans are conditions and {@code ==} compares
+ * numbers by value and everything else as text. Numbers print with the default locale's number
+ * format and add up exactly, as with Freemarker's default number format and arithmetic engine.
+ */
+public final class RenderSupport {
+
+    private static final ThreadLocal<NumberFormat> NUMBER_FORMAT =
+            ThreadLocal.withInitial(() -> NumberFormat.getNumberInstance(Locale.getDefault()));
+
+    private RenderSupport() {
+    }
+
+    public static String str(Object value, String expression) {
+        if (value == null) {
+            throw missing(expression);
+        }
+        if (value instanceof Boolean) {
+            throw new IllegalStateException("Can't convert boolean to string: " + expression);
+        }
+        if (value instanceof Number) {
+            return NUMBER_FORMAT.get().format(value);
+        }
+        return value.toString();
+    }
+
+    public static boolean bool(Object value, String expression) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw value == null ? missing(expression) : new IllegalStateException("Not a boolean: " + expression);
+    }
+
+    public static double num(Object value, String expression) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        throw value == null ? missing(expression) : new IllegalStateException("Not a number: " + expression);
+    }
+
+    public static List<?> list(Object value, String expression) {
+        if (value instanceof List) {
+            return (List<?>) value;
+        }
+        throw value == null ? missing(expression) : new IllegalStateException("Not a sequence: " + expression);
+    }
+
+    public static int size(Object value, String expression) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        throw value == null ? missing(expression) : new IllegalStateException("Not a sequence: " + expression);
+    }
+
+    public static boolean eq(Object left, Object right, String expression) {
+        if (left == null || right == null) {
+            throw missing(expression);
+        }
+        if (left instanceof Number && right instanceof Number) {
+            return ((Number) left).doubleValue() == ((Number) right).doubleValue();
+        }
+        if (left instanceof Boolean || right instanceof Boolean) {
+            return left.equals(right);
+        }
+        return left.toString().equals(right.toString());
+    }
+
+    public static Object def(Object value, Object defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    public static Object add(Object left, Object right, String expression) {
+        if (left instanceof Number && right instanceof Number) {
+            return new BigDecimal(left.toString()).add(new BigDecimal(right.toString()));
+        }
+        return str(left, expression) + str(right, expression);
+    }
+
+    private static IllegalStateException missing(String expression) {
+        return new IllegalStateException("The following has evaluated to null or missing: " + expression);
+    }
+}
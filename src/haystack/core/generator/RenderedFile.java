@@ -0,0 +1,28 @@
+package haystack.core.generator;
+
+import java.io.File;
+
+public class RenderedFile {
+
+    private final File file;
+    private final String template;
+    private final String content;
+
+    public RenderedFile(File file, String template, String content) {
+        this.file = file;
+        this.template = template;
+        this.content = content;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
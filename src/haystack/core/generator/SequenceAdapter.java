@@ -0,0 +1,33 @@
+package haystack.core.generator;
+
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateSequenceModel;
+
+import java.util.List;
+
+/**
+ * A list as a Freemarker sequence, wrapping each item through {@link ModelWrapper} only when a
+ * template reads it, so lists are not copied into sequences up front. Reading past the end
+ * gives null, as for any Freemarker sequence.
+ */
+public class SequenceAdapter implements TemplateSequenceModel {
+
+    private final List<?> list;
+    private final ModelWrapper wrapper;
+
+    public SequenceAdapter(List<?> list, ModelWrapper wrapper) {
+        this.list = list;
+        this.wrapper = wrapper;
+    }
+
+    @Override
+    public TemplateModel get(int index) throws TemplateModelException {
+        return index < list.size() ? wrapper.wrap(list.get(index)) : null;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+}
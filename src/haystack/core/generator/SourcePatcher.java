@@ -0,0 +1,90 @@
+package haystack.core.generator;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Insertions into existing sources (imports, reducer and middleware registrations, ...),
+ * collected per file and keyed by the anchor text they go after. {@link #apply(FileBatch)}
+ * reads each file once, finds every anchor once and splices all insertions in a single pass.
+ * Text the file already contains is not inserted again, and a file missing one of its anchors
+ * is left untouched rather than patched halfway.
+ */
+public class SourcePatcher {
+
+    private static final String FILE_START = "";
+
+    private final Map<File, Map<String, List<String>>> patches = new LinkedHashMap<>();
+
+    public void prepend(File file, String text) {
+        insertAfter(file, FILE_START, text);
+    }
+
+    public void insertAfter(File file, String anchor, String text) {
+        List<String> texts = patches.computeIfAbsent(file.getAbsoluteFile(), key -> new LinkedHashMap<>())
+                .computeIfAbsent(anchor, key -> new ArrayList<>());
+        if (!texts.contains(text)) {
+            texts.add(text);
+        }
+    }
+
+    /**
+     * Writes every patched file to {@code batch} and returns a message for each file that could
+     * not be patched.
+     */
+    public List<String> apply(FileBatch batch) {
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<File, Map<String, List<String>>> patch : patches.entrySet()) {
+            File file = patch.getKey();
+            if (!batch.contains(file) && !file.isFile()) {
+                problems.add(file.getName() + ": file not found");
+                continue;
+            }
+            String content = batch.read(file);
+            String patched = splice(content, patch.getValue(), file.getName(), problems);
+            if (patched != null && !patched.equals(content)) {
+                batch.write(file, patched);
+            }
+        }
+        patches.clear();
+        return problems;
+    }
+
+    private static String splice(String content, Map<String, List<String>> insertions, String fileName, List<String> problems) {
+        List<int[]> points = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        boolean complete = true;
+        for (Map.Entry<String, List<String>> insertion : insertions.entrySet()) {
+            String anchor = insertion.getKey();
+            int position = content.indexOf(anchor);
+            if (position < 0) {
+                problems.add(fileName + ": \"" + anchor + "\" not found");
+                complete = false;
+                continue;
+            }
+            position += anchor.length();
+            for (String text : insertion.getValue()) {
+                if (!content.contains(text)) {
+                    points.add(new int[]{position, points.size()});
+                    texts.add(text);
+                }
+            }
+        }
+        if (!complete) {
+            return null;
+        }
+        points.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+
+        int length = content.length();
+        for (String text : texts) {
+            length += text.length();
+        }
+        StringBuilder out = new StringBuilder(length);
+        int copied = 0;
+        for (int[] point : points) {
+            out.append(content, copied, point[0]).append(texts.get(point[1]));
+            copied = point[0];
+        }
+        return out.append(content, copied, content.length()).toString();
+    }
+}
@@ -0,0 +1,113 @@
+package haystack.core.generator;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MultiTemplateLoader;
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapper;
+import haystack.core.generator.compiled.CompiledTemplates;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Freemarker configurations meant to live as long as the application, so parsed templates are
+ * reused across generations. Templates are read straight from the classpath; a project may
+ * shadow any of them with a file of the same name in its override directory, which gets a
+ * configuration (and template cache) of its own. Bundled templates that haven't been
+ * overridden are rendered by their compiled form.
+ */
+public class TemplateEngine {
+
+    public static final String[] TEMPLATE_NAMES = {"actions.dart.ftl", "app_reducer.dart.ftl", "app_state.dart.ftl",
+            "database_client.dart.ftl", "date_picker_widget.dart.ftl", "i18n_en.json.ftl",
+            "i18n_zh.json.ftl", "action_report.dart.ftl", "main.dart.ftl", "middleware.dart.ftl",
+            "model_entry_data.dart.ftl", "network_common.dart.ftl", "page_data.dart.ftl", "pubspec.yaml.ftl",
+            "reducer.dart.ftl", "remote_wrap.dart.ftl", "repository.dart.ftl", "repository_db.dart.ftl",
+            "settings_option.dart.ftl", "settings_option_page.dart.ftl", "spannable_grid.dart.ftl", "state.dart.ftl",
+            "store.dart.ftl", "swipe_list_item.dart.ftl", "test_view.dart.ftl", "text_scale.dart.ftl",
+            "theme.dart.ftl", "toast_utils.dart.ftl", "translations.dart.ftl", "view.dart.ftl",
+            "view_model.dart.ftl", "progress_dialog.dart.ftl", "choice_data.dart.ftl",
+            "response_cache.dart.ftl", "network_common_test.dart.ftl"
+    };
+
+    private static final long OVERRIDE_UPDATE_DELAY_MILLIS = 2000;
+
+    private final ClassLoader classLoader;
+    private final String basePackagePath;
+    private final Configuration defaultConfiguration;
+    private final Map<String, Configuration> overrideConfigurations = new ConcurrentHashMap<>();
+
+    public TemplateEngine(ClassLoader classLoader, String basePackagePath) {
+        this.classLoader = classLoader;
+        this.basePackagePath = basePackagePath;
+        defaultConfiguration = createConfiguration(new ClassTemplateLoader(classLoader, basePackagePath));
+        // classpath templates never change while the application runs
+        defaultConfiguration.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+    }
+
+    public Configuration getConfiguration() {
+        return defaultConfiguration;
+    }
+
+    /**
+     * The configuration to render with for a project whose templates may be overridden in
+     * {@code overrideDir}; the shared one when that directory doesn't exist.
+     */
+    public Configuration getConfiguration(File overrideDir) {
+        if (overrideDir == null || !overrideDir.isDirectory()) {
+            return defaultConfiguration;
+        }
+        return overrideConfigurations.computeIfAbsent(overrideDir.getAbsolutePath(), path -> {
+            try {
+                Configuration configuration = createConfiguration(new MultiTemplateLoader(new TemplateLoader[]{
+                        new FileTemplateLoader(new File(path)),
+                        new ClassTemplateLoader(classLoader, basePackagePath)}));
+                configuration.setTemplateUpdateDelayMilliseconds(OVERRIDE_UPDATE_DELAY_MILLIS);
+                return configuration;
+            } catch (IOException e) {
+                e.printStackTrace();
+                return defaultConfiguration;
+            }
+        });
+    }
+
+    /**
+     * A pipeline rendering with the compiled templates, except those overridden in
+     * {@code overrideDir}, which go through Freemarker like templates without a compiled form.
+     */
+    public RenderPipeline createPipeline(File overrideDir) {
+        Configuration configuration = getConfiguration(overrideDir);
+        if (configuration == defaultConfiguration) {
+            return new RenderPipeline(configuration, CompiledTemplates::get);
+        }
+        return new RenderPipeline(configuration,
+                name -> new File(overrideDir, name).isFile() ? null : CompiledTemplates.get(name));
+    }
+
+    /**
+     * Parses every known template into the shared cache, so the first generation doesn't pay
+     * for it.
+     */
+    public void precompile() {
+        for (String name : TEMPLATE_NAMES) {
+            try {
+                defaultConfiguration.getTemplate(name);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static Configuration createConfiguration(TemplateLoader loader) {
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_27);
+        configuration.setTemplateLoader(loader);
+        configuration.setObjectWrapper(new DefaultObjectWrapper(Configuration.VERSION_2_3_27));
+        configuration.setDefaultEncoding("UTF-8");
+        configuration.setLogTemplateExceptions(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,44 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from action_report.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ActionReportDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("class ActionReport {\n"
+                + "  String actionName;\n"
+                + "  ActionStatus status;\n"
+                + "  String msg;\n"
+                + "\n"
+                + "  ActionReport({\n"
+                + "    this.actionName,\n"
+                + "    this.status,\n"
+                + "    this.msg,\n"
+                + "  });\n"
+                + "\n"
+                + "  ActionReport copyWith({\n"
+                + "    String actionName,\n"
+                + "    ActionStatus status,\n"
+                + "    String msg,\n"
+                + "  }) {\n"
+                + "    return ActionReport(\n"
+                + "      actionName: actionName ?? this.actionName,\n"
+                + "      status: status ?? this.status,\n"
+                + "      msg: msg ?? this.msg,\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "enum ActionStatus { running, complete, error }\n");
+    }
+}
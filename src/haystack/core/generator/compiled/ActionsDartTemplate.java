@@ -0,0 +1,227 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from actions.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ActionsDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_clsUNNameType = model.get("clsUNNameType");
+        Object v_clsUNName = model.get("clsUNName");
+        out.append("import 'package:meta/meta.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/action_report.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/page_data.dart';\n"
+                + "\n"
+                + "class Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction {\n"
+                + "  final String actionName = \"Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction\";\n"
+                + "  final bool isRefresh;\n"
+                + "\n"
+                + "  Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction({this.isRefresh});\n"
+                + "}\n"
+                + "\n"
+                + "class Cancel");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction {\n"
+                + "  final String actionName = \"Cancel");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction\";\n"
+                + "}\n"
+                + "\n"
+                + "class Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action {\n"
+                + "  final String actionName = \"Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action\";\n"
+                + "  final ");
+        out.append(str(v_clsUNNameType, "clsUNNameType"));
+        out.append(" ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(";\n"
+                + "\n"
+                + "  Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action({@required this.");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("});\n"
+                + "}\n"
+                + "\n"
+                + "class ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction {\n"
+                + "  final String actionName = \"");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction\";\n"
+                + "  final ActionReport report;\n"
+                + "\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction({@required this.report});\n"
+                + "}\n"
+                + "\n"
+                + "class Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction {\n"
+                + "  final String actionName = \"Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction\";\n"
+                + "  final Page page;\n"
+                + "  final List<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s;\n"
+                + "\n"
+                + "  Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction({this.page, this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s});\n"
+                + "}\n"
+                + "\n"
+                + "class Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action {\n"
+                + "  final String actionName = \"Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action\";\n"
+                + "  final ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "\n"
+                + "  Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action({@required this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("});\n"
+                + "}\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("\n"
+                    + "class SyncProfileAction {\n"
+                    + "  final String actionName = \"SyncProfileAction\";\n"
+                    + "  final User profile;\n"
+                    + "\n"
+                    + "  SyncProfileAction({@required this.profile});\n"
+                    + "}\n");
+        }
+        out.append("\n"
+                + "class Create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action {\n"
+                + "  final String actionName = \"Create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action\";\n"
+                + "  final ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "\n"
+                + "  Create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action({@required this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("});\n"
+                + "}\n"
+                + "\n"
+                + "class Update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action {\n"
+                + "  final String actionName = \"Update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action\";\n"
+                + "  final ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "\n"
+                + "  Update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action({@required this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("});\n"
+                + "}\n"
+                + "\n"
+                + "class Delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action {\n"
+                + "  final String actionName = \"Delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action\";\n"
+                + "  final ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "\n"
+                + "  Delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action({@required this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("});\n"
+                + "}\n"
+                + "\n"
+                + "class Remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action {\n"
+                + "  final String actionName = \"Remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action\";\n"
+                + "  final ");
+        out.append(str(v_clsUNNameType, "clsUNNameType"));
+        out.append(" ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(";\n"
+                + "\n"
+                + "  Remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action({@required this.");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("});\n"
+                + "}\n"
+                + "\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName==\"User\"")) {
+            out.append("class ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("LoginAction {\n"
+                    + "  final String actionName = \"");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("LoginAction\";\n"
+                    + "  final Login l;\n"
+                    + "\n"
+                    + "  ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("LoginAction({@required this.l});\n"
+                    + "}\n");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from app_reducer.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class AppReducerDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_state.dart';\n"
+                + "\n"
+                + "///register all the Reducer here\n"
+                + "///auto add new reducer when using haystack plugin\n"
+                + "AppState appReducer(AppState state, dynamic action) {\n"
+                + "  return new AppState(\n"
+                + "\n"
+                + "  );\n"
+                + "}");
+    }
+}
@@ -0,0 +1,40 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from app_state.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class AppStateDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'package:meta/meta.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/page_data.dart';\n"
+                + "\n"
+                + "/// manage all state of this project\n"
+                + "/// auto add new state when using haystack plugin\n"
+                + "/// configure the initialize of state\n"
+                + "class AppState {\n"
+                + "\n"
+                + "  AppState({\n"
+                + "\n"
+                + "  });\n"
+                + "\n"
+                + "  factory AppState.initial() {\n"
+                + "    return AppState(\n"
+                + "\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,27 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from choice_data.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ChoiceDataDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'package:flutter/widgets.dart';\n"
+                + "\n"
+                + "class Choice {\n"
+                + "  const Choice({this.title, this.icon});\n"
+                + "\n"
+                + "  final String title;\n"
+                + "  final IconData icon;\n"
+                + "}");
+    }
+}
@@ -0,0 +1,58 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generated by TemplateCompiler, do not edit.
+ */
+public final class CompiledTemplates {
+
+    private static final Map<String, CompiledTemplate> TEMPLATES = new HashMap<>();
+
+    static {
+        TEMPLATES.put("action_report.dart.ftl", new ActionReportDartTemplate());
+        TEMPLATES.put("actions.dart.ftl", new ActionsDartTemplate());
+        TEMPLATES.put("app_reducer.dart.ftl", new AppReducerDartTemplate());
+        TEMPLATES.put("app_state.dart.ftl", new AppStateDartTemplate());
+        TEMPLATES.put("choice_data.dart.ftl", new ChoiceDataDartTemplate());
+        TEMPLATES.put("database_client.dart.ftl", new DatabaseClientDartTemplate());
+        TEMPLATES.put("date_picker_widget.dart.ftl", new DatePickerWidgetDartTemplate());
+        TEMPLATES.put("i18n_en.json.ftl", new I18nEnJsonTemplate());
+        TEMPLATES.put("i18n_zh.json.ftl", new I18nZhJsonTemplate());
+        TEMPLATES.put("main.dart.ftl", new MainDartTemplate());
+        TEMPLATES.put("middleware.dart.ftl", new MiddlewareDartTemplate());
+        TEMPLATES.put("model_entry_data.dart.ftl", new ModelEntryDataDartTemplate());
+        TEMPLATES.put("network_common.dart.ftl", new NetworkCommonDartTemplate());
+        TEMPLATES.put("network_common_test.dart.ftl", new NetworkCommonTestDartTemplate());
+        TEMPLATES.put("page_data.dart.ftl", new PageDataDartTemplate());
+        TEMPLATES.put("progress_dialog.dart.ftl", new ProgressDialogDartTemplate());
+        TEMPLATES.put("pubspec.yaml.ftl", new PubspecYamlTemplate());
+        TEMPLATES.put("reducer.dart.ftl", new ReducerDartTemplate());
+        TEMPLATES.put("remote_wrap.dart.ftl", new RemoteWrapDartTemplate());
+        TEMPLATES.put("repository.dart.ftl", new RepositoryDartTemplate());
+        TEMPLATES.put("repository_db.dart.ftl", new RepositoryDbDartTemplate());
+        TEMPLATES.put("response_cache.dart.ftl", new ResponseCacheDartTemplate());
+        TEMPLATES.put("settings_option.dart.ftl", new SettingsOptionDartTemplate());
+        TEMPLATES.put("settings_option_page.dart.ftl", new SettingsOptionPageDartTemplate());
+        TEMPLATES.put("spannable_grid.dart.ftl", new SpannableGridDartTemplate());
+        TEMPLATES.put("state.dart.ftl", new StateDartTemplate());
+        TEMPLATES.put("store.dart.ftl", new StoreDartTemplate());
+        TEMPLATES.put("swipe_list_item.dart.ftl", new SwipeListItemDartTemplate());
+        TEMPLATES.put("text_scale.dart.ftl", new TextScaleDartTemplate());
+        TEMPLATES.put("theme.dart.ftl", new ThemeDartTemplate());
+        TEMPLATES.put("toast_utils.dart.ftl", new ToastUtilsDartTemplate());
+        TEMPLATES.put("translations.dart.ftl", new TranslationsDartTemplate());
+        TEMPLATES.put("view.dart.ftl", new ViewDartTemplate());
+        TEMPLATES.put("view_model.dart.ftl", new ViewModelDartTemplate());
+    }
+
+    private CompiledTemplates() {
+    }
+
+    public static CompiledTemplate get(String templateName) {
+        return TEMPLATES.get(templateName);
+    }
+}
@@ -0,0 +1,59 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from database_client.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class DatabaseClientDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'dart:async';\n"
+                + "import 'dart:io';\n"
+                + "import 'package:path/path.dart';\n"
+                + "import 'package:sqflite/sqflite.dart';\n"
+                + "import 'package:path_provider/path_provider.dart';\n"
+                + "\n"
+                + "class DatabaseClient {\n"
+                + "  static final DatabaseClient _singleton = new DatabaseClient._internal();\n"
+                + "\n"
+                + "  factory DatabaseClient() {\n"
+                + "    return _singleton;\n"
+                + "  }\n"
+                + "\n"
+                + "  DatabaseClient._internal() {\n"
+                + "    create().then((d) {\n"
+                + "      _db = d;\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n"
+                + "  Database _db;\n"
+                + "\n"
+                + "  Future<Database> get db async{\n"
+                + "    if (_db == null) {\n"
+                + "      await create();\n"
+                + "    }\n"
+                + "    return _db;\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<Database> create() async {\n"
+                + "    Directory path = await getApplicationDocumentsDirectory();\n"
+                + "    String dbPath = join(path.path, \"");
+        out.append(str(str(v_ProjectName, "(ProjectName)").toLowerCase(), "(ProjectName)?lower_case"));
+        out.append("_db.db\");\n"
+                + "\n"
+                + "    return openDatabase(dbPath, version: 9, onUpgrade: (d, o, n) {\n"
+                + "    }, onOpen: (d) {\n"
+                + "    });\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,190 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from date_picker_widget.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class DatePickerWidgetDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'package:flutter/material.dart';\n"
+                + "import 'dart:async';\n"
+                + "import 'package:intl/intl.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/trans/translations.dart';\n"
+                + "\n"
+                + "class DatePicker extends StatelessWidget {\n"
+                + "  const DatePicker({\n"
+                + "    Key key,\n"
+                + "    this.labelText,\n"
+                + "    this.selectedDate,\n"
+                + "    this.selectDate,\n"
+                + "  }) : super(key: key);\n"
+                + "\n"
+                + "  final String labelText;\n"
+                + "  final DateTime selectedDate;\n"
+                + "  final ValueChanged<DateTime> selectDate;\n"
+                + "\n"
+                + "  Future<Null> _selectDate(BuildContext context) async {\n"
+                + "    final DateTime picked = await showDatePicker(\n"
+                + "        context: context,\n"
+                + "        initialDate: selectedDate,\n"
+                + "        firstDate: new DateTime(2015, 8),\n"
+                + "        lastDate: new DateTime(2101)\n"
+                + "    );\n"
+                + "    if (picked != null && picked != selectedDate)\n"
+                + "      selectDate(picked);\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    final TextStyle valueStyle = Theme\n"
+                + "        .of(context)\n"
+                + "        .textTheme\n"
+                + "        .title;\n"
+                + "    return new Row(\n"
+                + "      crossAxisAlignment: CrossAxisAlignment.end,\n"
+                + "      children: <Widget>[\n"
+                + "        new Expanded(\n"
+                + "          flex: 4,\n"
+                + "          child: new _InputDropdown(\n"
+                + "            labelText: labelText,\n"
+                + "            valueText: new DateFormat.yMMMMd(Translations.of(context).locale.languageCode).format(selectedDate),\n"
+                + "            valueStyle: valueStyle,\n"
+                + "            onPressed: () {\n"
+                + "              _selectDate(context);\n"
+                + "            },\n"
+                + "          ),\n"
+                + "        ),\n"
+                + "        const SizedBox(width: 12.0),\n"
+                + "      ],\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class DateTimePicker extends StatelessWidget {\n"
+                + "  const DateTimePicker({\n"
+                + "    Key key,\n"
+                + "    this.labelText,\n"
+                + "    this.selectedDate,\n"
+                + "    this.selectedTime,\n"
+                + "    this.selectDate,\n"
+                + "    this.selectTime\n"
+                + "  }) : super(key: key);\n"
+                + "\n"
+                + "  final String labelText;\n"
+                + "  final DateTime selectedDate;\n"
+                + "  final TimeOfDay selectedTime;\n"
+                + "  final ValueChanged<DateTime> selectDate;\n"
+                + "  final ValueChanged<TimeOfDay> selectTime;\n"
+                + "\n"
+                + "  Future<Null> _selectDate(BuildContext context) async {\n"
+                + "    final DateTime picked = await showDatePicker(\n"
+                + "        context: context,\n"
+                + "        initialDate: selectedDate,\n"
+                + "        firstDate: new DateTime(2015, 8),\n"
+                + "        lastDate: new DateTime(2101)\n"
+                + "    );\n"
+                + "    if (picked != null && picked != selectedDate)\n"
+                + "      selectDate(picked);\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<Null> _selectTime(BuildContext context) async {\n"
+                + "    final TimeOfDay picked = await showTimePicker(\n"
+                + "        context: context,\n"
+                + "        initialTime: selectedTime\n"
+                + "    );\n"
+                + "    if (picked != null && picked != selectedTime)\n"
+                + "      selectTime(picked);\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    final TextStyle valueStyle = Theme\n"
+                + "        .of(context)\n"
+                + "        .textTheme\n"
+                + "        .title;\n"
+                + "    return new Row(\n"
+                + "      crossAxisAlignment: CrossAxisAlignment.end,\n"
+                + "      children: <Widget>[\n"
+                + "        new Expanded(\n"
+                + "          flex: 4,\n"
+                + "          child: new _InputDropdown(\n"
+                + "            labelText: labelText,\n"
+                + "            valueText: new DateFormat.yMMMd().format(selectedDate),\n"
+                + "            valueStyle: valueStyle,\n"
+                + "            onPressed: () {\n"
+                + "              _selectDate(context);\n"
+                + "            },\n"
+                + "          ),\n"
+                + "        ),\n"
+                + "        const SizedBox(width: 12.0),\n"
+                + "        new Expanded(\n"
+                + "          flex: 3,\n"
+                + "          child: new _InputDropdown(\n"
+                + "            valueText: selectedTime.format(context),\n"
+                + "            valueStyle: valueStyle,\n"
+                + "            onPressed: () {\n"
+                + "              _selectTime(context);\n"
+                + "            },\n"
+                + "          ),\n"
+                + "        ),\n"
+                + "      ],\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _InputDropdown extends StatelessWidget {\n"
+                + "  const _InputDropdown({\n"
+                + "    Key key,\n"
+                + "    this.child,\n"
+                + "    this.labelText,\n"
+                + "    this.valueText,\n"
+                + "    this.valueStyle,\n"
+                + "    this.onPressed }) : super(key: key);\n"
+                + "\n"
+                + "  final String labelText;\n"
+                + "  final String valueText;\n"
+                + "  final TextStyle valueStyle;\n"
+                + "  final VoidCallback onPressed;\n"
+                + "  final Widget child;\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    return new InkWell(\n"
+                + "      onTap: onPressed,\n"
+                + "      child: new InputDecorator(\n"
+                + "        decoration: new InputDecoration(\n"
+                + "          labelText: labelText,\n"
+                + "        ),\n"
+                + "        baseStyle: valueStyle,\n"
+                + "        child: new Row(\n"
+                + "          mainAxisAlignment: MainAxisAlignment.spaceBetween,\n"
+                + "          mainAxisSize: MainAxisSize.min,\n"
+                + "          children: <Widget>[\n"
+                + "            new Text(valueText, style: valueStyle),\n"
+                + "            new Icon(Icons.arrow_drop_down,\n"
+                + "                color: Theme\n"
+                + "                    .of(context)\n"
+                + "                    .brightness == Brightness.light\n"
+                + "                    ? Colors.grey.shade700\n"
+                + "                    : Colors.white70\n"
+                + "            ),\n"
+                + "          ],\n"
+                + "        ),\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}");
+    }
+}
@@ -0,0 +1,27 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from i18n_en.json.ftl by TemplateCompiler, do not edit.
+ */
+public final class I18nEnJsonTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("{\n"
+                + "  \"label_pull_to_load_more\": \"Pull up to load more\",\n"
+                + "  \"label_no_more_item\":\"No more item\",\n"
+                + "  \"label_loading\":\"Loading...\",\n"
+                + "  \"bottom_bar_label_home\": \"Home\",\n"
+                + "  \"bottom_bar_label_notice\": \"Message\",\n"
+                + "  \"bottom_bar_label_mine\": \"Mine\"\n"
+                + "}");
+    }
+}
@@ -0,0 +1,27 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from i18n_zh.json.ftl by TemplateCompiler, do not edit.
+ */
+public final class I18nZhJsonTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("{\n"
+                + "  \"label_pull_to_load_more\": \"\u4e0b\u62c9\u52a0\u8f7d\u66f4\u591a\",\n"
+                + "  \"label_no_more_item\":\"\u6ca1\u6709\u66f4\u591a\u9879\u4e86\",\n"
+                + "  \"label_loading\":\"\u52a0\u8f7d\u4e2d...\",\n"
+                + "  \"bottom_bar_label_home\": \"\u4e3b\u9875\",\n"
+                + "  \"bottom_bar_label_notice\": \"\u6d88\u606f\",\n"
+                + "  \"bottom_bar_label_mine\": \"\u6211\"\n"
+                + "}");
+    }
+}
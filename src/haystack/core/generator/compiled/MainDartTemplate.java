@@ -0,0 +1,156 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from main.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class MainDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'dart:async';\n"
+                + "import 'package:flutter/material.dart';\n"
+                + "import 'package:flutter/services.dart';\n"
+                + "import 'package:flutter_localizations/flutter_localizations.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/trans/translations.dart';\n"
+                + "\n"
+                + "import 'package:redux/redux.dart';\n"
+                + "import 'package:flutter_redux/flutter_redux.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_state.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/store.dart';\n"
+                + "import 'package:flutter/foundation.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/settings_option.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/settings_option_page.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/text_scale.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/theme.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/db/database_client.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/home/home_view.dart';\n"
+                + "import 'package:shared_preferences/shared_preferences.dart';\n"
+                + "\n"
+                + "Future<Null> main() async {\n"
+                + "  var store = await createStore();\n"
+                + "  SystemChrome.setPreferredOrientations([DeviceOrientation.portraitUp])\n"
+                + "      .then((_) {\n"
+                + "    runApp(MyApp(store));\n"
+                + "  });\n"
+                + "}\n"
+                + "\n"
+                + "class MyApp extends StatefulWidget {\n"
+                + "  final Store<AppState> store;\n"
+                + "\n"
+                + "  MyApp(this.store);\n"
+                + "\n"
+                + "  @override\n"
+                + "  _MyAppState createState() => new _MyAppState();\n"
+                + "}\n"
+                + "\n"
+                + "class _MyAppState extends State<MyApp> {\n"
+                + "  SettingsOptions _options;\n"
+                + "\n"
+                + "  @override\n"
+                + "  void initState() {\n"
+                + "    super.initState();\n"
+                + "    DatabaseClient();\n"
+                + "    _options = new SettingsOptions(\n"
+                + "      theme: AppTheme().appTheme,\n"
+                + "      textScaleFactor: appTextScaleValues[0],\n"
+                + "      platform: defaultTargetPlatform,\n"
+                + "    );\n"
+                + "    SharedPreferences.getInstance().then((prefs) {\n"
+                + "      var isDark = prefs.getBool(\"isDark\") ?? false;\n"
+                + "      if (isDark) {\n"
+                + "        AppTheme.configure(ThemeName.DARK);\n"
+                + "        setState(() {\n"
+                + "          _options = _options.copyWith(theme: AppTheme().appTheme);\n"
+                + "        });\n"
+                + "      }\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    return StoreProvider<AppState>(\n"
+                + "        store: widget.store,\n"
+                + "        child: MaterialApp(\n"
+                + "          title: '");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("',\n"
+                + "          debugShowCheckedModeBanner: false,\n"
+                + "          routes: _routes(),\n"
+                + "          theme: _options.theme.copyWith(platform: _options.platform),\n"
+                + "          builder: (BuildContext context, Widget child) {\n"
+                + "            return new Directionality(\n"
+                + "              textDirection: _options.textDirection,\n"
+                + "              child: _applyTextScaleFactor(child),\n"
+                + "            );\n"
+                + "          },\n"
+                + "          localizationsDelegates: [\n"
+                + "            const TranslationsDelegate(),\n"
+                + "            GlobalMaterialLocalizations.delegate,\n"
+                + "            GlobalWidgetsLocalizations.delegate,\n"
+                + "          ],\n"
+                + "          supportedLocales: [\n"
+                + "            const Locale('zh', 'CH'),\n"
+                + "            const Locale('en', 'US'),\n"
+                + "          ],\n"
+                + "        ));\n"
+                + "  }\n"
+                + "\n"
+                + "\n"
+                + "  Widget _applyTextScaleFactor(Widget child) {\n"
+                + "    return new Builder(\n"
+                + "      builder: (BuildContext context) {\n"
+                + "        return new MediaQuery(\n"
+                + "          data: MediaQuery.of(context).copyWith(\n"
+                + "                textScaleFactor: _options.textScaleFactor.scale,\n"
+                + "              ),\n"
+                + "          child: child,\n"
+                + "        );\n"
+                + "      },\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  void _handleOptionsChanged(SettingsOptions newOptions) {\n"
+                + "    setState(() {\n"
+                + "      _options = newOptions;\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n"
+                + "  Map<String, WidgetBuilder> _routes() {\n"
+                + "    return <String, WidgetBuilder>{\n"
+                + "      \"/settings\": (_) => SettingsOptionsPage(\n"
+                + "            options: _options,\n"
+                + "            onOptionsChanged: _handleOptionsChanged,\n"
+                + "          ),\n"
+                + "//      \"/\": (_) => new HomeView(),\n"
+                + "    };\n"
+                + "  }\n"
+                + "}");
+    }
+}
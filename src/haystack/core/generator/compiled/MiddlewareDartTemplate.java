@@ -0,0 +1,577 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from middleware.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class MiddlewareDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_genDatabase = model.get("genDatabase");
+        Object v_clsUNName = model.get("clsUNName");
+        Object v_cacheResponses = model.get("cacheResponses");
+        Object v_decodeInBackground = model.get("decodeInBackground");
+        out.append("import 'package:dio/dio.dart';\n"
+                + "import 'package:redux/redux.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/action_report.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_state.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_actions.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/remote/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_repository.dart';\n");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append("import 'package:");
+            out.append(str(v_ProjectName, "ProjectName"));
+            out.append("/data/db/");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("_repository_db.dart';\n");
+        }
+        out.append("import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_actions.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/page_data.dart';\n"
+                + "\n"
+                + "List<Middleware<AppState>> create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Middleware([\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository _repository = const ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository(),\n");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append("  ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB _repositoryDB = const ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB(),\n");
+        }
+        out.append("]) {\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName==\"User\"")) {
+            out.append("  final login = _createLogin(_repository");
+            if (bool(v_genDatabase, "genDatabase")) {
+                out.append(", _repositoryDB");
+            }
+            out.append(");\n");
+        }
+        out.append("  final get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" = _createGet");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(_repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", _repositoryDB");
+        }
+        out.append(");\n"
+                + "  final get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s = _createGet");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s(_repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", _repositoryDB");
+        }
+        out.append(");\n"
+                + "  final create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" = _createCreate");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(_repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", _repositoryDB");
+        }
+        out.append(");\n"
+                + "  final update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" = _createUpdate");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(_repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", _repositoryDB");
+        }
+        out.append(");\n"
+                + "  final delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" = _createDelete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(_repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", _repositoryDB");
+        }
+        out.append(");\n"
+                + "\n"
+                + "  return [\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName==\"User\"")) {
+            out.append("    TypedMiddleware<AppState, ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("LoginAction>(login),\n");
+        }
+        out.append("    TypedMiddleware<AppState, Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action>(get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("),\n"
+                + "    TypedMiddleware<AppState, Get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction>(get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s),\n"
+                + "    TypedMiddleware<AppState, Cancel");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction>(get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s),\n"
+                + "    TypedMiddleware<AppState, Create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action>(create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("),\n"
+                + "    TypedMiddleware<AppState, Update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action>(update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("),\n"
+                + "    TypedMiddleware<AppState, Delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action>(delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("),\n"
+                + "  ];\n"
+                + "}\n"
+                + "\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName==\"User\"")) {
+            out.append("Middleware<AppState> _createLogin(\n"
+                    + "    ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Repository repository");
+            if (bool(v_genDatabase, "genDatabase")) {
+                out.append(", ");
+                out.append(str(v_ModelEntryName, "ModelEntryName"));
+                out.append("RepositoryDB repositoryDB");
+            }
+            out.append(") {\n"
+                    + "  return (Store<AppState> store, dynamic action, NextDispatcher next) {\n"
+                    + "    if (checkActionRunning(store, action)) return;\n"
+                    + "    running(next, action);\n"
+                    + "    repository.login(action.l).then((item) {\n"
+                    + "      next(Sync");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action(");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(": item));\n"
+                    + "      completed(next, action);\n"
+                    + "    }).catchError((error) {\n"
+                    + "      catchError(next, action, error);\n"
+                    + "    });\n"
+                    + "  };\n"
+                    + "}\n");
+        }
+        out.append("\n"
+                + "Middleware<AppState> _createGet");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB repositoryDB");
+        }
+        out.append(") {\n"
+                + "  return (Store<AppState> store, dynamic action, NextDispatcher next) {\n"
+                + "    if (action.");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(" == null) {\n"
+                + "      idEmpty(next, action);\n"
+                + "    } else {\n"
+                + "      running(next, action);\n"
+                + "      repository.get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(action.");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(").then((item) {\n");
+        if ((bool(def(v_cacheResponses, false), "(cacheResponses!false)") && bool(v_genDatabase, "genDatabase"))) {
+            out.append("        repositoryDB.create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("(item);\n");
+        }
+        out.append("        next(Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(": item));\n"
+                + "        completed(next, action);\n"
+                + "      }).catchError((error) {\n"
+                + "        catchError(next, action, error);\n"
+                + "      });\n"
+                + "    }\n"
+                + "  };\n"
+                + "}\n"
+                + "\n"
+                + "Middleware<AppState> _createGet");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s(\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB repositoryDB");
+        }
+        out.append(") {\n"
+                + "  // The page request in flight. A load while it runs is served by it, a refresh cancels it\n"
+                + "  // and starts over, and Cancel");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction (the page was closed) cancels it.\n"
+                + "  CancelToken inFlight;\n"
+                + "  bool inFlightIsRefresh = false;\n"
+                + "  return (Store<AppState> store, dynamic action, NextDispatcher next) {\n"
+                + "    if (action is Cancel");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction) {\n"
+                + "      inFlight?.cancel(\"page closed\");\n"
+                + "      inFlight = null;\n"
+                + "      return;\n"
+                + "    }\n"
+                + "    final bool isRefresh = action.isRefresh == true;\n"
+                + "    if (inFlight != null) {\n"
+                + "      if (inFlightIsRefresh || !isRefresh) return;\n"
+                + "      inFlight.cancel(\"superseded\");\n"
+                + "    }\n"
+                + "    running(next, action);\n"
+                + "    if (isRefresh) {\n"
+                + "      store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.currPage = 1;\n"
+                + "      store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s.clear();\n"
+                + "    } else {\n"
+                + "      var p = ++store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.currPage;\n"
+                + "      if (p > ++store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.totalPage) {\n"
+                + "        noMoreItem(next, action);\n"
+                + "        return;\n"
+                + "      }\n"
+                + "    }\n"
+                + "    final CancelToken token = new CancelToken();\n"
+                + "    inFlight = token;\n"
+                + "    inFlightIsRefresh = isRefresh;\n"
+                + "    repository\n"
+                + "        .get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sList(\n"
+                + "            \"sorting\",\n"
+                + "            store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.currPage,\n"
+                + "            store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.pageSize,\n"
+                + "            cancelToken: token");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append(",\n"
+                    + "            forceRefresh: isRefresh");
+        }
+        out.append(")\n"
+                + "        .then((map) {\n"
+                + "      if (inFlight != token) {\n"
+                + "        if (inFlight == null) cancelled(next, action);\n"
+                + "        return;\n"
+                + "      }\n"
+                + "      if (map.isNotEmpty) {\n"
+                + "        var page = Page(\n"
+                + "            currPage: map[\"currPage\"],\n"
+                + "            totalPage: map[\"totalPage\"],\n"
+                + "            totalCount: map[\"totalCount\"]);\n");
+        if (bool(def(v_decodeInBackground, false), "decodeInBackground!false")) {
+            out.append("        List<");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("> list = map[\"list\"];\n");
+        } else {
+            out.append("        var l = map[\"list\"] ?? List();\n"
+                    + "        List<");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("> list =\n"
+                    + "            l.map<");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(">((item) => new ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(".fromJson(item)).toList();\n");
+        }
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append("        repositoryDB.upsertAll(list).catchError((e) {\n"
+                    + "          print(e.toString());\n"
+                    + "        });\n");
+        }
+        out.append("        next(Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction(page: page, ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s: list));\n"
+                + "      }\n"
+                + "      completed(next, action);\n"
+                + "    }).catchError((error) {\n"
+                + "      if (!CancelToken.isCancel(error)) {\n"
+                + "        catchError(next, action, error);\n"
+                + "      } else if (inFlight == null) {\n"
+                + "        cancelled(next, action);\n"
+                + "      }\n"
+                + "    }).whenComplete(() {\n"
+                + "      if (inFlight == token) inFlight = null;\n"
+                + "    });\n"
+                + "//    repositoryDB\n"
+                + "//        .get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sList(\n"
+                + "//            \"id\",\n"
+                + "//            store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.pageSize,\n"
+                + "//            store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.pageSize *\n"
+                + "//                store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.currPage)\n"
+                + "//        .then((map) {\n"
+                + "//      if (map.isNotEmpty) {\n"
+                + "//        var page = Page(currPage: store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.page.currPage + 1);\n"
+                + "//        next(Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction(page: page, ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s: map));\n"
+                + "//        completed(next, action);\n"
+                + "//      }\n"
+                + "//    }).catchError((error) {\n"
+                + "//      catchError(next, action, error);\n"
+                + "//    });\n"
+                + "  };\n"
+                + "}\n"
+                + "\n"
+                + "Middleware<AppState> _createCreate");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB repositoryDB");
+        }
+        out.append(") {\n"
+                + "  return (Store<AppState> store, dynamic action, NextDispatcher next) {\n"
+                + "    if (checkActionRunning(store, action)) return;\n"
+                + "    running(next, action);\n"
+                + "    repository.create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(").then((item) {\n"
+                + "      next(Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(": item));\n"
+                + "      completed(next, action);\n"
+                + "    }).catchError((error) {\n"
+                + "      catchError(next, action, error);\n"
+                + "    });\n"
+                + "  };\n"
+                + "}\n"
+                + "\n"
+                + "Middleware<AppState> _createUpdate");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB repositoryDB");
+        }
+        out.append(") {\n"
+                + "  return (Store<AppState> store, dynamic action, NextDispatcher next) {\n"
+                + "    if (checkActionRunning(store, action)) return;\n"
+                + "    running(next, action);\n"
+                + "    repository.update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(").then((item) {\n"
+                + "      next(Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(": item));\n"
+                + "      completed(next, action);\n"
+                + "    }).catchError((error) {\n"
+                + "      catchError(next, action, error);\n"
+                + "    });\n"
+                + "  };\n"
+                + "}\n"
+                + "\n"
+                + "Middleware<AppState> _createDelete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository repository");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append(", ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("RepositoryDB repositoryDB");
+        }
+        out.append(") {\n"
+                + "  return (Store<AppState> store, dynamic action, NextDispatcher next) {\n"
+                + "    if (checkActionRunning(store, action)) return;\n"
+                + "    running(next, action);\n"
+                + "    repository.delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(").then((item) {\n"
+                + "      next(Remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action(");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(": action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("));\n"
+                + "      completed(next, action);\n"
+                + "    }).catchError((error) {\n"
+                + "      catchError(next, action, error);\n"
+                + "    });\n"
+                + "  };\n"
+                + "}\n"
+                + "\n"
+                + "bool checkActionRunning(Store<AppState> store, action) {\n"
+                + "  if (store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.status[action.actionName]?.status ==\n"
+                + "      ActionStatus.running) {\n"
+                + "    return true; // do nothing if there is a same action running.\n"
+                + "  }\n"
+                + "  return false;\n"
+                + "}\n"
+                + "\n"
+                + "void catchError(NextDispatcher next, action, error) {\n"
+                + "  next(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction(\n"
+                + "      report: ActionReport(\n"
+                + "          actionName: action.actionName,\n"
+                + "          status: ActionStatus.error,\n"
+                + "          msg: \"");
+        out.append("${action.actionName}");
+        out.append(" is error;");
+        out.append("${error.toString()}");
+        out.append("\")));\n"
+                + "}\n"
+                + "\n"
+                + "void completed(NextDispatcher next, action) {\n"
+                + "  next(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction(\n"
+                + "      report: ActionReport(\n"
+                + "          actionName: action.actionName,\n"
+                + "          status: ActionStatus.complete,\n"
+                + "          msg: \"");
+        out.append("${action.actionName}");
+        out.append(" is completed\")));\n"
+                + "}\n"
+                + "\n"
+                + "void cancelled(NextDispatcher next, action) {\n"
+                + "  next(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction(\n"
+                + "      report: ActionReport(\n"
+                + "          actionName: action.actionName,\n"
+                + "          status: ActionStatus.complete,\n"
+                + "          msg: \"");
+        out.append("${action.actionName}");
+        out.append(" is cancelled\")));\n"
+                + "}\n"
+                + "\n"
+                + "void noMoreItem(NextDispatcher next, action) {\n"
+                + "  next(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction(\n"
+                + "      report: ActionReport(\n"
+                + "          actionName: action.actionName,\n"
+                + "          status: ActionStatus.complete,\n"
+                + "          msg: \"no more items\")));\n"
+                + "}\n"
+                + "\n"
+                + "void running(NextDispatcher next, action) {\n"
+                + "  next(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction(\n"
+                + "      report: ActionReport(\n"
+                + "          actionName: action.actionName,\n"
+                + "          status: ActionStatus.running,\n"
+                + "          msg: \"");
+        out.append("${action.actionName}");
+        out.append(" is running\")));\n"
+                + "}\n"
+                + "\n"
+                + "void idEmpty(NextDispatcher next, action) {\n"
+                + "  next(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction(\n"
+                + "      report: ActionReport(\n"
+                + "          actionName: action.actionName,\n"
+                + "          status: ActionStatus.error,\n"
+                + "          msg: \"Id is empty\")));\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,432 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from model_entry_data.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ModelEntryDataDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_genDatabase = model.get("genDatabase");
+        Object v_Fields = model.get("Fields");
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_clsUNName = model.get("clsUNName");
+        out.append("import 'dart:convert';\n"
+                + "import 'package:intl/intl.dart';\n");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append("import 'package:sqflite/sqflite.dart';\n");
+        }
+        List<?> list0 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list0.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list0.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list0.size();
+            if (eq(v_item.getOriginalValue(), "Object", "item.originalValue == \"Object\"")) {
+                out.append("import 'package:");
+                out.append(str(v_ProjectName, "ProjectName"));
+                out.append("/data/model/");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("_data.dart';\n");
+            }
+        }
+        out.append("\n"
+                + "class ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" {\n");
+        List<?> list1 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list1.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list1.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list1.size();
+            out.append("  ");
+            out.append(str(v_item.getType(), "item.type"));
+            out.append(" ");
+            out.append(str(v_item.getName(), "item.name"));
+            out.append(";\n");
+        }
+        out.append("\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("({\n");
+        List<?> list2 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list2.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list2.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list2.size();
+            if (eq(v_item.getDefaultValue(), "null", "item.defaultValue == \"null\"")) {
+                out.append("    this.");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(",\n");
+            } else {
+                out.append("    this.");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = ");
+                out.append(str(v_item.getDefaultValue(), "item.defaultValue"));
+                out.append(",\n");
+            }
+        }
+        out.append("  });\n"
+                + "\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(".fromJson(Map<String, dynamic>  map) :\n");
+        List<?> list3 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list3.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list3.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list3.size();
+            if (eq(v_item.getOriginalValue(), "Object", "item.originalValue == \"Object\"")) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'] == null\n"
+                        + "            ? null\n"
+                        + "            : ");
+                out.append(str(v_item.getType(), "item.type"));
+                out.append(".fromJson(map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'])");
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            } else if (eq(v_item.getType(), "List<int>", "item.type == \"List<int>\"")) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'] == null\n"
+                        + "            ? []\n"
+                        + "            : map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'].cast<int>().toList()");
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            } else if (eq(v_item.getType(), "List<String>", "item.type == \"List<String>\"")) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'] == null\n"
+                        + "            ? []\n"
+                        + "            : map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'].cast<String>().toList()");
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            } else if (eq(v_item.getType(), "List<bool>", "item.type == \"List<bool>\"")) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'] == null\n"
+                        + "            ? []\n"
+                        + "            : map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'].cast<bool>().toList()");
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            } else if (eq(v_item.getType(), "DateTime", "item.type == \"DateTime\"")) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("'] == null ? null\n"
+                        + "               : DateTime.parse(map[\"");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("\"])");
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            } else if (eq(v_item.getType(), "List", "item.type == \"List\"")) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("']\n"
+                        + "                        .map((obj) => ");
+                out.append(str(str(v_item.getType(), "item.type").substring(5, (str(v_item.getType(), "item.type").length() - 1)), "item.type?substring(5,item.type?length-1)"));
+                out.append(".fromMap(obj))\n"
+                        + "                        .toList()\n"
+                        + "                        .cast<");
+                out.append(str(str(v_item.getType(), "item.type").substring(5, (str(v_item.getType(), "item.type").length() - 1)), "item.type?substring(5,item.type?length-1)"));
+                out.append(">()");
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            } else if ((((eq(v_item.getType(), "int", "item.type == \"int\"") || eq(v_item.getType(), "double", "item.type == \"double\"")) || eq(v_item.getType(), "String", "item.type == \"String\"")) || eq(v_item.getType(), "bool", "item.type == \"bool\""))) {
+                out.append("        ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" = map['");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("']  ?? ");
+                out.append(str(v_item.getDefaultValue(), "item.defaultValue"));
+                if (v_item_has_next) {
+                    out.append(",");
+                } else {
+                    out.append(";");
+                }
+                out.append("\n");
+            }
+        }
+        out.append("\n"
+                + "  Map<String, dynamic> toJson() => {\n");
+        List<?> list4 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list4.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list4.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list4.size();
+            if (eq(v_item.getOriginalValue(), "Object", "item.originalValue == \"Object\"")) {
+                out.append("        '");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("': ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(".toJson(),\n");
+            } else if (eq(v_item.getType(), "DateTime", "item.type == \"DateTime\"")) {
+                out.append("        '");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("': ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(" == null? null\n"
+                        + "               : DateFormat('yyyy-MM-dd HH:mm:ss').format(");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append("),\n");
+            } else {
+                out.append("        '");
+                out.append(str(v_item.getJsonName(), "item.jsonName"));
+                out.append("': ");
+                out.append(str(v_item.getName(), "item.name"));
+                out.append(",\n");
+            }
+        }
+        out.append("      };\n"
+                + "\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" copyWith({\n");
+        List<?> list5 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list5.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list5.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list5.size();
+            out.append("    ");
+            out.append(str(v_item.getType(), "item.type"));
+            out.append(" ");
+            out.append(str(v_item.getName(), "item.name"));
+            out.append(",\n");
+        }
+        out.append("  }) {\n"
+                + "    return ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(\n");
+        List<?> list6 = list(v_Fields, "Fields");
+        for (int v_item_index = 0; v_item_index < list6.size(); v_item_index++) {
+            FieldModel v_item = (FieldModel) list6.get(v_item_index);
+            boolean v_item_has_next = v_item_index + 1 < list6.size();
+            out.append("      ");
+            out.append(str(v_item.getName(), "item.name"));
+            out.append(": ");
+            out.append(str(v_item.getName(), "item.name"));
+            out.append(" ?? this.");
+            out.append(str(v_item.getName(), "item.name"));
+            out.append(",\n");
+        }
+        out.append("    );\n"
+                + "  }\n");
+        if (bool(v_genDatabase, "genDatabase")) {
+            out.append("\n"
+                    + "  static Future createTable(Database db) async {\n"
+                    + "    db.execute(\"\"\"\n"
+                    + "            CREATE TABLE IF NOT EXISTS ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(" (\n");
+            List<?> list7 = list(v_Fields, "Fields");
+            for (int v_item_index = 0; v_item_index < list7.size(); v_item_index++) {
+                FieldModel v_item = (FieldModel) list7.get(v_item_index);
+                boolean v_item_has_next = v_item_index + 1 < list7.size();
+                if (eq(v_item.getName(), str(def(v_clsUNName, ""), "clsUNName!"), "item.name == \"${clsUNName!}\"")) {
+                    out.append("              ");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append(" ");
+                    if (eq(v_item.getType(), "int", "item.type == \"int\"")) {
+                        out.append("INTEGER");
+                    } else if (eq(v_item.getType(), "String", "item.type == \"String\"")) {
+                        out.append("TEXT");
+                    } else if (eq(v_item.getType(), "Float", "item.type == \"Float\"")) {
+                        out.append("REAL");
+                    } else if (eq(v_item.getType(), "bool", "item.type == \"bool\"")) {
+                        out.append("INTEGER");
+                    } else if (eq(v_item.getType(), "DateTime", "item.type == \"DateTime\"")) {
+                        out.append("TEXT");
+                    }
+                    out.append(" PRIMARY KEY");
+                    if (v_item_has_next) {
+                        out.append(",");
+                    } else {
+                        out.append(" ");
+                    }
+                    out.append("\n");
+                } else if (!eq(v_item.getOriginalValue(), "Object", "item.originalValue != \"Object\"")) {
+                    out.append("              ");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append(" ");
+                    if (eq(v_item.getType(), "int", "item.type == \"int\"")) {
+                        out.append("INTEGER");
+                    } else if (eq(v_item.getType(), "String", "item.type == \"String\"")) {
+                        out.append("TEXT");
+                    } else if (eq(v_item.getType(), "Float", "item.type == \"Float\"")) {
+                        out.append("REAL");
+                    } else if (eq(v_item.getType(), "bool", "item.type == \"bool\"")) {
+                        out.append("INTEGER");
+                    } else if (eq(v_item.getType(), "DateTime", "item.type == \"DateTime\"")) {
+                        out.append("TEXT");
+                    }
+                    if (v_item_has_next) {
+                        out.append(",");
+                    } else {
+                        out.append(" ");
+                    }
+                    out.append("\n");
+                }
+            }
+            out.append("            )\"\"\");}\n"
+                    + "\n"
+                    + "  ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(".fromMap(Map<String, dynamic>  map) :\n");
+            List<?> list8 = list(v_Fields, "Fields");
+            for (int v_item_index = 0; v_item_index < list8.size(); v_item_index++) {
+                FieldModel v_item = (FieldModel) list8.get(v_item_index);
+                boolean v_item_has_next = v_item_index + 1 < list8.size();
+                if (((eq(v_item.getType(), "int", "item.type == \"int\"") || eq(v_item.getType(), "String", "item.type == \"String\"")) || eq(v_item.getType(), "double", "item.type == \"double\""))) {
+                    out.append("        ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(" = map['");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("']");
+                    if (v_item_has_next) {
+                        out.append(",");
+                    } else {
+                        out.append(";");
+                    }
+                    out.append("\n");
+                } else if (str(v_item.getType(), "item.type").startsWith("List")) {
+                    out.append("        ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(" = json.decode(map['");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("'])");
+                    if (v_item_has_next) {
+                        out.append(",");
+                    } else {
+                        out.append(";");
+                    }
+                    out.append("\n");
+                } else if (eq(v_item.getType(), "DateTime", "item.type == \"DateTime\"")) {
+                    out.append("        ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(" = map['");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("'] == null? null\n"
+                            + "               : DateTime.parse(map[\"");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("\"])");
+                    if (v_item_has_next) {
+                        out.append(",");
+                    } else {
+                        out.append(";");
+                    }
+                    out.append("\n");
+                } else if (eq(v_item.getType(), "bool", "item.type == \"bool\"")) {
+                    out.append("        ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(" = (map['");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("'] == 1)");
+                    if (v_item_has_next) {
+                        out.append(",");
+                    } else {
+                        out.append(";");
+                    }
+                    out.append("\n");
+                }
+            }
+            out.append("\n"
+                    + "  Map<String, dynamic> toMap() => {\n");
+            List<?> list9 = list(v_Fields, "Fields");
+            for (int v_item_index = 0; v_item_index < list9.size(); v_item_index++) {
+                FieldModel v_item = (FieldModel) list9.get(v_item_index);
+                boolean v_item_has_next = v_item_index + 1 < list9.size();
+                if (((eq(v_item.getType(), "int", "item.type == \"int\"") || eq(v_item.getType(), "String", "item.type == \"String\"")) || eq(v_item.getType(), "double", "item.type == \"double\""))) {
+                    out.append("        '");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("': ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(",\n");
+                } else if (str(v_item.getType(), "item.type").startsWith("List")) {
+                    out.append("        '");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("': ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(".toString(),\n");
+                } else if (eq(v_item.getType(), "DateTime", "item.type == \"DateTime\"")) {
+                    out.append("        '");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("': ");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(" == null? null\n"
+                            + "               : DateFormat('yyyy-MM-dd HH:mm:ss').format(");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append("),\n");
+                } else if (eq(v_item.getType(), "bool", "item.type == \"bool\"")) {
+                    out.append("        '");
+                    out.append(str(v_item.getJsonName(), "item.jsonName"));
+                    out.append("': (");
+                    out.append(str(v_item.getName(), "item.name"));
+                    out.append(" == true)?1:0,\n");
+                }
+            }
+            out.append("      };\n");
+        }
+        out.append("\n"
+                + "}\n"
+                + "\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("class Login {\n"
+                    + "  String name;\n"
+                    + "  String password;\n"
+                    + "\n"
+                    + "  Login(this.name, this.password);\n"
+                    + "\n"
+                    + "  Map<String, dynamic> toJson() => {\n"
+                    + "        'name': name,\n"
+                    + "        'password': password,\n"
+                    + "      };\n"
+                    + "}\n");
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from network_common.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class NetworkCommonDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'dart:async';\n"
+                + "import 'dart:convert';\n"
+                + "import 'package:dio/dio.dart';\n"
+                + "import 'package:flutter/foundation.dart';\n"
+                + "import 'package:shared_preferences/shared_preferences.dart';\n"
+                + "\n"
+                + "enum NetworkLogLevel { none, basic, headers, body }\n"
+                + "\n"
+                + "class NetworkCommon {\n"
+                + "  /// Plain text bodies longer than this many characters are decoded in a background isolate\n"
+                + "  /// by [decodeRespWith]; shorter ones are not worth the isolate start-up.\n"
+                + "  static const int backgroundDecodeThreshold = 32 * 1024;\n"
+                + "\n"
+                + "  static final NetworkCommon _singleton = new NetworkCommon._internal();\n"
+                + "\n"
+                + "  factory NetworkCommon() {\n"
+                + "    return _singleton;\n"
+                + "  }\n"
+                + "\n"
+                + "  /// One client for the whole app: it keeps its connections to the server alive and reuses\n"
+                + "  /// them. Login and token refresh go through [_authDio], which has no interceptors.\n"
+                + "  NetworkCommon._internal()\n"
+                + "      : dio = new Dio(_options()),\n"
+                + "        _authDio = new Dio(_options()) {\n"
+                + "    dio.interceptors.add(InterceptorsWrapper(onRequest: _onRequest, onResponse: _onResponse, onError: _onError));\n"
+                + "  }\n"
+                + "\n"
+                + "  static BaseOptions _options() {\n"
+                + "    return new BaseOptions(\n"
+                + "      baseUrl: 'http://192.168.1.186:5000/',\n"
+                + "      connectTimeout: 50000,\n"
+                + "      receiveTimeout: 30000,\n"
+                + "      headers: {\"Accept\": \"application/json\"},\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  final Dio dio;\n"
+                + "  final Dio _authDio;\n"
+                + "  final JsonDecoder _decoder = new JsonDecoder();\n"
+                + "\n"
+                + "  NetworkLogLevel logLevel = NetworkLogLevel.none;\n"
+                + "\n"
+                + "  String _token;\n"
+                + "  bool _tokenLoaded = false;\n"
+                + "  Future<String> _refreshing;\n"
+                + "\n"
+                + "  dynamic decodeResp(d) {\n"
+                + "    // ignore: cast_to_non_type\n"
+                + "    if (d is Response) {\n"
+                + "      final dynamic jsonBody = d.data;\n"
+                + "      final statusCode = d.statusCode;\n"
+                + "\n"
+                + "      if (statusCode < 200 || statusCode >= 300 || jsonBody == null) {\n"
+                + "        throw new Exception(\"statusCode: $statusCode\");\n"
+                + "      }\n"
+                + "\n"
+                + "      if (jsonBody is String) {\n"
+                + "        return _decoder.convert(jsonBody);\n"
+                + "      } else {\n"
+                + "        return jsonBody;\n"
+                + "      }\n"
+                + "    } else {\n"
+                + "      throw d;\n"
+                + "    }\n"
+                + "  }\n"
+                + "\n"
+                + "  /// Checks the response like [decodeResp] and turns its body into a result with [convert],\n"
+                + "  /// which gets the body either still as text or already decoded. Large text bodies are\n"
+                + "  /// converted by [compute] off the UI isolate, so [convert] must be a top-level or static\n"
+                + "  /// function.\n"
+                + "  Future<T> decodeRespWith<T>(d, ComputeCallback<dynamic, T> convert) async {\n"
+                + "    if (d is Response) {\n"
+                + "      final dynamic body = d.data;\n"
+                + "      final statusCode = d.statusCode;\n"
+                + "\n"
+                + "      if (statusCode < 200 || statusCode >= 300 || body == null) {\n"
+                + "        throw new Exception(\"statusCode: $statusCode\");\n"
+                + "      }\n"
+                + "\n"
+                + "      if (body is String && body.length > backgroundDecodeThreshold) {\n"
+                + "        return compute(convert, body);\n"
+                + "      } else {\n"
+                + "        return convert(body);\n"
+                + "      }\n"
+                + "    } else {\n"
+                + "      throw d;\n"
+                + "    }\n"
+                + "  }\n"
+                + "\n"
+                + "  /// The token is read from the preferences once and then kept in memory.\n"
+                + "  Future<String> _getToken() async {\n"
+                + "    if (!_tokenLoaded) {\n"
+                + "      SharedPreferences prefs = await SharedPreferences.getInstance();\n"
+                + "      _token = prefs.getString('token');\n"
+                + "      _tokenLoaded = true;\n"
+                + "    }\n"
+                + "    return _token;\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<void> _saveToken(Map results) async {\n"
+                + "    _token = results[\"token\"];\n"
+                + "    _tokenLoaded = true;\n"
+                + "    final SharedPreferences prefs = await SharedPreferences.getInstance();\n"
+                + "    prefs.setString(\"token\", results[\"token\"]);\n"
+                + "    prefs.setInt(\"expired\", results[\"expired\"]);\n"
+                + "  }\n"
+                + "\n"
+                + "  /// Logs in again with the saved credentials. Requests failing with 401 at the same time\n"
+                + "  /// share one login, and a request whose token was already replaced just uses the new one.\n"
+                + "  Future<String> _refreshToken(String staleAuthorization) {\n"
+                + "    if (_token != null && \"Bearer \" + _token != staleAuthorization) {\n"
+                + "      return new Future.value(_token);\n"
+                + "    }\n"
+                + "    if (_refreshing == null) {\n"
+                + "      _refreshing = _login().whenComplete(() {\n"
+                + "        _refreshing = null;\n"
+                + "      });\n"
+                + "    }\n"
+                + "    return _refreshing;\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<String> _login() async {\n"
+                + "    final SharedPreferences prefs = await SharedPreferences.getInstance();\n"
+                + "    FormData formData = new FormData.from({\n"
+                + "      \"username\": prefs.getString(\"username\"),\n"
+                + "      \"password\": prefs.getString(\"password\"),\n"
+                + "    });\n"
+                + "    final resultContainer = decodeResp(await _authDio.post(\"login/\", data: formData));\n"
+                + "    if (resultContainer['code'] != 0) {\n"
+                + "      throw Exception(\"Exception in re-login\");\n"
+                + "    }\n"
+                + "    await _saveToken(resultContainer['data']);\n"
+                + "    return _token;\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<RequestOptions> _onRequest(RequestOptions options) async {\n"
+                + "    String token = await _getToken();\n"
+                + "    if (token != null) {\n"
+                + "      options.headers[\"Authorization\"] = \"Bearer \" + token;\n"
+                + "    }\n"
+                + "    if (logLevel != NetworkLogLevel.none) {\n"
+                + "      print(\"Pre request:");
+        out.append("${options.method}");
+        out.append(",");
+        out.append("${options.baseUrl}");
+        out.append("${options.path}");
+        out.append("\");\n"
+                + "    }\n"
+                + "    if (logLevel == NetworkLogLevel.headers || logLevel == NetworkLogLevel.body) {\n"
+                + "      print(\"Pre request:");
+        out.append("${options.headers.toString()}");
+        out.append("\");\n"
+                + "    }\n"
+                + "    return options; //continue\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<Response> _onResponse(Response response) async {\n"
+                + "    if (response.statusCode == 200 && response.request.path == \"login/\") {\n"
+                + "      /// login complete, save the token\n"
+                + "      /// response data:\n"
+                + "      /// {\n"
+                + "      ///   \"code\": 0,\n"
+                + "      ///   \"data\": Object,\n"
+                + "      ///   \"msg\": \"OK\"\n"
+                + "      ///  }\n"
+                + "      final resultContainer = decodeResp(response);\n"
+                + "      if (resultContainer['code'] == 0) {\n"
+                + "        await _saveToken(resultContainer['data']);\n"
+                + "      }\n"
+                + "    }\n"
+                + "    if (logLevel != NetworkLogLevel.none) {\n"
+                + "      print(\"Response From:");
+        out.append("${response.request.method}");
+        out.append(",");
+        out.append("${response.request.baseUrl}");
+        out.append("${response.request.path}");
+        out.append("\");\n"
+                + "    }\n"
+                + "    if (logLevel == NetworkLogLevel.body) {\n"
+                + "      print(\"Response From:");
+        out.append("${response.toString()}");
+        out.append("\");\n"
+                + "    }\n"
+                + "    return response; // continue\n"
+                + "  }\n"
+                + "\n"
+                + "  /// A 401 refreshes the token and retries the request once.\n"
+                + "  Future<dynamic> _onError(DioError e) async {\n"
+                + "    RequestOptions options = e.request;\n"
+                + "    if (e.response != null && e.response.statusCode == 401\n"
+                + "        && options.path != \"login/\" && options.extra[\"tokenRefreshed\"] != true) {\n"
+                + "      try {\n"
+                + "        await _refreshToken(options.headers[\"Authorization\"]);\n"
+                + "      } catch (_) {\n"
+                + "        return e;\n"
+                + "      }\n"
+                + "      options.extra[\"tokenRefreshed\"] = true;\n"
+                + "      return dio.request(options.path, data: options.data, queryParameters: options.queryParameters, options: options);\n"
+                + "    }\n"
+                + "    if (logLevel != NetworkLogLevel.none) {\n"
+                + "      print(\"Request failed:");
+        out.append("${options.method}");
+        out.append(",");
+        out.append("${options.baseUrl}");
+        out.append("${options.path}");
+        out.append(",");
+        out.append("${e.message}");
+        out.append("\");\n"
+                + "    }\n"
+                + "    return e; //continue\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,76 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from network_common_test.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class NetworkCommonTestDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("// Checks the generated network layer against a local server: requests share one keep-alive\n"
+                + "// connection and send the token cached in memory. Run it from the project folder with\n"
+                + "//   flutter test test/network_common_test.dart\n"
+                + "import 'dart:convert';\n"
+                + "import 'dart:io';\n"
+                + "import 'package:flutter_test/flutter_test.dart';\n"
+                + "import 'package:shared_preferences/shared_preferences.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/network_common.dart';\n"
+                + "\n"
+                + "void main() {\n"
+                + "  HttpServer server;\n"
+                + "  Set<int> clientPorts;\n"
+                + "  List<String> authorizations;\n"
+                + "\n"
+                + "  setUp(() async {\n"
+                + "    SharedPreferences.setMockInitialValues({\"flutter.token\": \"token-1\"});\n"
+                + "    clientPorts = new Set();\n"
+                + "    authorizations = [];\n"
+                + "    server = await HttpServer.bind(InternetAddress.loopbackIPv4, 0);\n"
+                + "    server.listen((HttpRequest request) {\n"
+                + "      clientPorts.add(request.connectionInfo.remotePort);\n"
+                + "      authorizations.add(request.headers.value(\"authorization\"));\n"
+                + "      request.response\n"
+                + "        ..headers.contentType = ContentType.json\n"
+                + "        ..write(json.encode({\"code\": 0, \"data\": {}}))\n"
+                + "        ..close();\n"
+                + "    });\n"
+                + "    new NetworkCommon().dio.options.baseUrl = \"http://127.0.0.1:\" + server.port.toString() + \"/\";\n"
+                + "  });\n"
+                + "\n"
+                + "  tearDown(() async {\n"
+                + "    await server.close(force: true);\n"
+                + "  });\n"
+                + "\n"
+                + "  test(\"every access returns the same client\", () {\n"
+                + "    expect(identical(new NetworkCommon().dio, new NetworkCommon().dio), isTrue);\n"
+                + "  });\n"
+                + "\n"
+                + "  test(\"sequential requests reuse one connection\", () async {\n"
+                + "    for (int i = 0; i < 5; i++) {\n"
+                + "      await new NetworkCommon().dio.get(\"ping/\");\n"
+                + "    }\n"
+                + "    expect(authorizations.length, 5);\n"
+                + "    expect(clientPorts.length, 1);\n"
+                + "  });\n"
+                + "\n"
+                + "  test(\"requests carry the cached token\", () async {\n"
+                + "    await new NetworkCommon().dio.get(\"ping/\");\n"
+                + "    SharedPreferences prefs = await SharedPreferences.getInstance();\n"
+                + "    prefs.setString(\"token\", \"changed-behind-our-back\");\n"
+                + "    await new NetworkCommon().dio.get(\"ping/\");\n"
+                + "    expect(authorizations, everyElement(\"Bearer token-1\"));\n"
+                + "  });\n"
+                + "}\n");
+    }
+}
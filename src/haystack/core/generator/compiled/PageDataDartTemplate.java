@@ -0,0 +1,31 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from page_data.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class PageDataDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("class Page {\n"
+                + "  int totalCount;\n"
+                + "  int pageSize;\n"
+                + "  int totalPage;\n"
+                + "  int currPage;\n"
+                + "\n"
+                + "  Page(\n"
+                + "      {this.totalCount = 0,\n"
+                + "      this.pageSize = 30,\n"
+                + "      this.totalPage = 1,\n"
+                + "      this.currPage = 0});\n"
+                + "}");
+    }
+}
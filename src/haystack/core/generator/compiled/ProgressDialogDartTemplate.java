@@ -0,0 +1,183 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from progress_dialog.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ProgressDialogDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'package:flutter/material.dart';\n"
+                + "import 'package:flutter/cupertino.dart';\n"
+                + "\n"
+                + "String _dialogMessage = \"Loading...\";\n"
+                + "enum ProgressDialogType { circle, bar }\n"
+                + "\n"
+                + "ProgressDialogType _progressDialogType = ProgressDialogType.circle;\n"
+                + "double _progress = 0.0;\n"
+                + "\n"
+                + "class ProgressDialog {\n"
+                + "  _MyDialog _dialog;\n"
+                + "  bool _isShowing = false;\n"
+                + "  BuildContext _buildContext, _context;\n"
+                + "\n"
+                + "  ProgressDialog(BuildContext buildContext,\n"
+                + "      {ProgressDialogType type = ProgressDialogType.circle}) {\n"
+                + "    _buildContext = buildContext;\n"
+                + "\n"
+                + "    _progressDialogType = type;\n"
+                + "  }\n"
+                + "\n"
+                + "  void setMessage(String mess) {\n"
+                + "    _dialogMessage = mess;\n"
+                + "  }\n"
+                + "\n"
+                + "  void update({double progress, String message}) {\n"
+                + "    if (_progressDialogType == ProgressDialogType.bar) _progress = progress;\n"
+                + "    _dialogMessage = message;\n"
+                + "    _dialog.update();\n"
+                + "  }\n"
+                + "\n"
+                + "  bool isShowing() {\n"
+                + "    return _isShowing;\n"
+                + "  }\n"
+                + "\n"
+                + "  void hide() {\n"
+                + "    _isShowing = false;\n"
+                + "    Navigator.of(_context).pop();\n"
+                + "  }\n"
+                + "\n"
+                + "  void show() {\n"
+                + "    _dialog = new _MyDialog();\n"
+                + "    _isShowing = true;\n"
+                + "    showDialog<dynamic>(\n"
+                + "      context: _buildContext,\n"
+                + "      barrierDismissible: false,\n"
+                + "      builder: (BuildContext context) {\n"
+                + "        _context = context;\n"
+                + "        return Dialog(\n"
+                + "            insetAnimationCurve: Curves.easeInOut,\n"
+                + "            insetAnimationDuration: Duration(milliseconds: 100),\n"
+                + "            elevation: 10.0,\n"
+                + "            shape: RoundedRectangleBorder(\n"
+                + "                borderRadius: BorderRadius.all(Radius.circular(10.0))),\n"
+                + "            child: _dialog);\n"
+                + "      },\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _MyDialog extends StatefulWidget {\n"
+                + "  var _dialog = new _MyDialogState();\n"
+                + "\n"
+                + "  update() {\n"
+                + "    _dialog.setState(() {});\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  State<StatefulWidget> createState() {\n"
+                + "    return _dialog;\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _MyDialogState extends State<_MyDialog> {\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    return SizedBox(\n"
+                + "        height: 100.0,\n"
+                + "        child: Row(children: <Widget>[\n"
+                + "          const SizedBox(width: 15.0),\n"
+                + "          CircularProgressIndicator(),\n"
+                + "          const SizedBox(width: 15.0),\n"
+                + "          Expanded(\n"
+                + "            child: _progressDialogType == ProgressDialogType.circle\n"
+                + "                ? Text(_dialogMessage,\n"
+                + "                    textAlign: TextAlign.justify,\n"
+                + "                    style: TextStyle(color: Colors.black, fontSize: 22.0))\n"
+                + "                : Stack(\n"
+                + "                    children: <Widget>[\n"
+                + "                      Positioned(\n"
+                + "                        child: Text(_dialogMessage,\n"
+                + "                            style: TextStyle(\n"
+                + "                                color: Colors.black,\n"
+                + "                                fontSize: 22.0,\n"
+                + "                                fontWeight: FontWeight.w700)),\n"
+                + "                        top: 35.0,\n"
+                + "                      ),\n"
+                + "                      Positioned(\n"
+                + "                        child: Text(\"$_progress/100\",\n"
+                + "                            style: TextStyle(\n"
+                + "                                color: Colors.black,\n"
+                + "                                fontSize: 15.0,\n"
+                + "                                fontWeight: FontWeight.w400)),\n"
+                + "                        bottom: 15.0,\n"
+                + "                        right: 15.0,\n"
+                + "                      ),\n"
+                + "                    ],\n"
+                + "                  ),\n"
+                + "          )\n"
+                + "        ]));\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class MessageBox {\n"
+                + "  bool _isShowing = false;\n"
+                + "\n"
+                + "  BuildContext buildContext;\n"
+                + "  String message = \" \", title = \" \";\n"
+                + "\n"
+                + "  MessageBox(this.buildContext, this.message, this.title);\n"
+                + "\n"
+                + "  void show() {\n"
+                + "    _showDialog();\n"
+                + "  }\n"
+                + "\n"
+                + "  Future _showDialog() {\n"
+                + "    showDialog(\n"
+                + "      context: buildContext,\n"
+                + "      barrierDismissible: false,\n"
+                + "      builder: (BuildContext context) {\n"
+                + "        return CupertinoAlertDialog(\n"
+                + "          title: Text('$title'),\n"
+                + "          actions: <Widget>[\n"
+                + "            FlatButton(\n"
+                + "              child: Text('Ok'),\n"
+                + "              onPressed: () {\n"
+                + "                Navigator.of(context).pop();\n"
+                + "              },\n"
+                + "            )\n"
+                + "          ],\n"
+                + "          content: SizedBox(\n"
+                + "            height: 45.0,\n"
+                + "            child: Center(\n"
+                + "              child: Row(\n"
+                + "                children: <Widget>[\n"
+                + "                  SizedBox(width: 10.0),\n"
+                + "                  Expanded(\n"
+                + "                    child: Text(\n"
+                + "                      message,\n"
+                + "                      textAlign: TextAlign.center,\n"
+                + "                      style: TextStyle(color: Colors.black, fontSize: 18.0),\n"
+                + "                    ),\n"
+                + "                  ),\n"
+                + "                  SizedBox(width: 10.0),\n"
+                + "                ],\n"
+                + "              ),\n"
+                + "            ),\n"
+                + "          ),\n"
+                + "        );\n"
+                + "      },\n"
+                + "    );\n"
+                + "    return null;\n"
+                + "  }\n"
+                + "}");
+    }
+}
@@ -0,0 +1,108 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from pubspec.yaml.ftl by TemplateCompiler, do not edit.
+ */
+public final class PubspecYamlTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("name: ");
+        out.append(str(str(v_ProjectName, "(ProjectName)").toLowerCase(), "(ProjectName)?lower_case"));
+        out.append("\n"
+                + "description: auto generate charging description\n"
+                + "\n"
+                + "# The following defines the version and build number for your application.\n"
+                + "# A version number is three numbers separated by dots, like 1.2.43\n"
+                + "# followed by an optional build number separated by a +.\n"
+                + "# Both the version and the builder number may be overridden in flutter\n"
+                + "# build by specifying --build-name and --build-number, respectively.\n"
+                + "# Read more about versioning at semver.org.\n"
+                + "version: 1.0.0+1\n"
+                + "\n"
+                + "environment:\n"
+                + "  sdk: \">=2.0.0-dev.68.0 <3.0.0\"\n"
+                + "\n"
+                + "dependencies:\n"
+                + "  flutter:\n"
+                + "    sdk: flutter\n"
+                + "  flutter_localizations:\n"
+                + "    sdk: flutter\n"
+                + "#  my_new_package:\n"
+                + "#    path: ./my_new_package\n"
+                + "\n"
+                + "  # The following adds the Cupertino Icons font to your application.\n"
+                + "  # Use with the CupertinoIcons class for iOS style icons.\n"
+                + "  cupertino_icons: ^0.1.2\n"
+                + "  http: ^0.12.0+1\n"
+                + "  dio: ^2.1.0\n"
+                + "  shared_preferences: ^0.5.1+2\n"
+                + "  fluttertoast: ^3.0.3\n"
+                + "  path_provider: ^0.5.0+1\n"
+                + "  flutter_redux: ^0.5.3\n"
+                + "  redux_logging: ^0.3.0\n"
+                + "  flutter_slidable: ^0.4.9\n"
+                + "  material_design_icons_flutter: ^3.2.3595\n"
+                + "  sqflite: ^1.1.3\n"
+                + "  #badge: ^0.0.3\n"
+                + "  common_utils: 1.1.1\n"
+                + "\n"
+                + "dev_dependencies:\n"
+                + "  flutter_test:\n"
+                + "    sdk: flutter\n"
+                + "\n"
+                + "\n"
+                + "# For information on the generic Dart part of this file, see the\n"
+                + "# following page: https://www.dartlang.org/tools/pub/pubspec\n"
+                + "\n"
+                + "# The following section is specific to Flutter.\n"
+                + "flutter:\n"
+                + "\n"
+                + "  # The following line ensures that the Material Icons font is\n"
+                + "  # included with your application, so that you can use the icons in\n"
+                + "  # the material Icons class.\n"
+                + "  uses-material-design: true\n"
+                + "\n"
+                + "  # To add assets to your application, add an assets section, like this:\n"
+                + "  assets:\n"
+                + "  - assets/images/\n"
+                + "  - assets/icons/\n"
+                + "  - locale/i18n_en.json\n"
+                + "  - locale/i18n_zh.json\n"
+                + "\n"
+                + "  # An image asset can refer to one or more resolution-specific \"variants\", see\n"
+                + "  # https://flutter.io/assets-and-images/#resolution-aware.\n"
+                + "\n"
+                + "  # For details regarding adding assets from package dependencies, see\n"
+                + "  # https://flutter.io/assets-and-images/#from-packages\n"
+                + "\n"
+                + "  # To add custom fonts to your application, add a fonts section here,\n"
+                + "  # in this \"flutter\" section. Each entry in this list should have a\n"
+                + "  # \"family\" key with the font family name, and a \"fonts\" key with a\n"
+                + "  # list giving the asset and other descriptors for the font. For\n"
+                + "  # example:\n"
+                + "  # fonts:\n"
+                + "  #   - family: Schyler\n"
+                + "  #     fonts:\n"
+                + "  #       - asset: fonts/Schyler-Regular.ttf\n"
+                + "  #       - asset: fonts/Schyler-Italic.ttf\n"
+                + "  #         style: italic\n"
+                + "  #   - family: Trajan Pro\n"
+                + "  #     fonts:\n"
+                + "  #       - asset: fonts/TrajanPro.ttf\n"
+                + "  #       - asset: fonts/TrajanPro_Bold.ttf\n"
+                + "  #         weight: 700\n"
+                + "  #\n"
+                + "  # For details regarding fonts from package dependencies,\n"
+                + "  # see https://flutter.io/custom-fonts/#from-packages");
+    }
+}
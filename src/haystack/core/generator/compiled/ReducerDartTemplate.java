@@ -0,0 +1,182 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from reducer.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ReducerDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_clsUNName = model.get("clsUNName");
+        out.append("import 'package:redux/redux.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_actions.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_state.dart';\n"
+                + "\n"
+                + "final ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("Reducer = combineReducers<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State>([\n"
+                + "  TypedReducer<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State, ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction>(_");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("Status),\n"
+                + "  TypedReducer<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State, Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction>(_sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s),\n"
+                + "  TypedReducer<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State, Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action>(_sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("),\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("  TypedReducer<UserState, SyncProfileAction>(_syncProfile),\n");
+        }
+        out.append("  TypedReducer<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State, Remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action>(_remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("),\n"
+                + "]);\n"
+                + "\n");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State _");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("Status(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State state, ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("StatusAction action) {\n"
+                + "  var status = state.status ?? Map();\n"
+                + "  status.update(action.report.actionName, (v) => action.report,\n"
+                + "      ifAbsent: () => action.report);\n"
+                + "  return state.copyWith(status: status);\n"
+                + "}\n"
+                + "\n");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State _sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("s(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State state, Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sAction action) {\n"
+                + "  for (var ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(" in action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s) {\n"
+                + "    state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s.update(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(".toString(), (v) => ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(", ifAbsent: () => ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(");\n"
+                + "  }\n"
+                + "  state.page.currPage = action.page.currPage;\n"
+                + "  state.page.pageSize = action.page.pageSize;\n"
+                + "  state.page.totalCount = action.page.totalCount;\n"
+                + "  state.page.totalPage = action.page.totalPage;\n"
+                + "  return state.copyWith(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s: state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s);\n"
+                + "}\n"
+                + "\n");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State _sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State state, Sync");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action action) {\n"
+                + "  state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s.update(action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(".toString(), (u) => action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(",\n"
+                + "      ifAbsent: () => action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(");\n"
+                + "  return state.copyWith(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s: state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s, ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(": action.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(");\n"
+                + "}\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("\n");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("State _syncProfile(");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("State state, SyncProfileAction action) {\n"
+                    + "  return state.copyWith(profile: action.profile);\n"
+                    + "}\n");
+        }
+        out.append("\n");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State _remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State state, Remove");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Action action) {\n"
+                + "  return state.copyWith(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s: state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s..remove(action.");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(".toString()));\n"
+                + "}\n");
+    }
+}
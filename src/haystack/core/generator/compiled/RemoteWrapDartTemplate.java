@@ -0,0 +1,25 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from remote_wrap.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class RemoteWrapDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("/// the data structure form server\n"
+                + "class RespWrap<T> {\n"
+                + "  T data;\n"
+                + "  String msg;\n"
+                + "  int code;\n"
+                + "}");
+    }
+}
@@ -0,0 +1,266 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from repository.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class RepositoryDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_decodeInBackground = model.get("decodeInBackground");
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_cacheResponses = model.get("cacheResponses");
+        Object v_clsUNNameType = model.get("clsUNNameType");
+        Object v_clsUNName = model.get("clsUNName");
+        out.append("import 'dart:async';\n");
+        if (bool(def(v_decodeInBackground, false), "decodeInBackground!false")) {
+            out.append("import 'dart:convert';\n");
+        }
+        out.append("import 'package:dio/dio.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/network_common.dart';\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("import 'package:");
+            out.append(str(v_ProjectName, "ProjectName"));
+            out.append("/data/response_cache.dart';\n");
+        }
+        out.append("\n");
+        if (bool(def(v_decodeInBackground, false), "decodeInBackground!false")) {
+            out.append("/// Decodes a page of the list and maps its items, in a background isolate for large pages.\n"
+                    + "Map _parse");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sPage(dynamic body) {\n"
+                    + "  final Map page = new Map.from(body is String ? json.decode(body) : body);\n"
+                    + "  var l = page[\"list\"] ?? List();\n"
+                    + "  page[\"list\"] = l.map<");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(">((item) => new ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(".fromJson(item)).toList();\n"
+                    + "  return page;\n"
+                    + "}\n"
+                    + "\n");
+        }
+        out.append("class ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository {\n"
+                + "  const ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("Repository();\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("\n"
+                    + "  /// How long fetched ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s are served from [ResponseCache] before they are revalidated.\n"
+                    + "  static const Duration cacheTtl = const Duration(minutes: 5);\n");
+        }
+        out.append("\n"
+                + "  /// Requests still running, by request: an identical call made meanwhile gets the same future.\n"
+                + "  static final Map<String, Future> _inFlight = {};\n"
+                + "\n"
+                + "  static Future<T> _coalesce<T>(String key, Future<T> request()) {\n"
+                + "    Future<T> pending = _inFlight[key];\n"
+                + "    if (pending == null) {\n"
+                + "      pending = request().whenComplete(() {\n"
+                + "        _inFlight.remove(key);\n"
+                + "      });\n"
+                + "      _inFlight[key] = pending;\n"
+                + "    }\n"
+                + "    return pending;\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<Map> get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sList(String sorting, int page, int limit,\n"
+                + "      {CancelToken cancelToken");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append(", bool forceRefresh = false");
+        }
+        out.append("}) {\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("    return new ResponseCache().get(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\", queryParameters: {\n"
+                    + "      \"sorting\": sorting,\n"
+                    + "      \"page\": page,\n"
+                    + "      \"limit\": limit\n"
+                    + "    }, ttl: cacheTtl, forceRefresh: forceRefresh");
+            if (bool(def(v_decodeInBackground, false), "decodeInBackground!false")) {
+                out.append(", responseType: ResponseType.plain");
+            }
+            out.append(", cancelToken: cancelToken).then((d) {\n");
+        } else {
+            out.append("    return new NetworkCommon().dio.get(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\", queryParameters: {\n"
+                    + "      \"sorting\": sorting,\n"
+                    + "      \"page\": page,\n"
+                    + "      \"limit\": limit\n"
+                    + "    }");
+            if (bool(def(v_decodeInBackground, false), "decodeInBackground!false")) {
+                out.append(", options: Options(responseType: ResponseType.plain)");
+            }
+            out.append(", cancelToken: cancelToken).then((d) {\n");
+        }
+        if (bool(def(v_decodeInBackground, false), "decodeInBackground!false")) {
+            out.append("      return new NetworkCommon().decodeRespWith(d, _parse");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sPage);\n");
+        } else {
+            out.append("      var results = new NetworkCommon().decodeResp(d);\n"
+                    + "\n"
+                    + "      return results;\n");
+        }
+        out.append("    });\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(") {\n"
+                + "    return new NetworkCommon().dio.post(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/\", data: ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(").then((d) {\n"
+                + "      var results = new NetworkCommon().decodeResp(d);\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("      new ResponseCache().invalidate(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\");\n");
+        }
+        out.append("\n"
+                + "      return new ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(".fromJson(results);\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(") {\n"
+                + "    return new NetworkCommon().dio.put(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/\", data: ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(").then((d) {\n"
+                + "      var results = new NetworkCommon().decodeResp(d);\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("      new ResponseCache().invalidate(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\");\n");
+        }
+        out.append("\n"
+                + "      return new ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(".fromJson(results);\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<int> delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_clsUNNameType, "clsUNNameType"));
+        out.append(" ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(") {\n"
+                + "    return new NetworkCommon().dio.delete(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/\", queryParameters: {\"");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("\": ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("}).then((d) {\n"
+                + "      var results = new NetworkCommon().decodeResp(d);\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("      new ResponseCache().invalidate(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\");\n");
+        }
+        out.append("\n"
+                + "      return 0;\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_clsUNNameType, "clsUNNameType"));
+        out.append(" ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(") {\n"
+                + "    return _coalesce(\"get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(":\" + ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(".toString(), () {\n");
+        if (bool(def(v_cacheResponses, false), "cacheResponses!false")) {
+            out.append("      return new ResponseCache().get(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\", queryParameters: {\"");
+            out.append(str(v_clsUNName, "clsUNName"));
+            out.append("\": ");
+            out.append(str(v_clsUNName, "clsUNName"));
+            out.append("}, ttl: cacheTtl).then((d) {\n");
+        } else {
+            out.append("      return new NetworkCommon().dio.get(\"");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("/\", queryParameters: {\"");
+            out.append(str(v_clsUNName, "clsUNName"));
+            out.append("\": ");
+            out.append(str(v_clsUNName, "clsUNName"));
+            out.append("}).then((d) {\n");
+        }
+        out.append("        var results = new NetworkCommon().decodeResp(d);\n"
+                + "\n"
+                + "        return new ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(".fromJson(results);\n"
+                + "      });\n"
+                + "    });\n"
+                + "  }\n"
+                + "\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("  Future<");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("> login(Login login) {\n"
+                    + "    return new NetworkCommon().dio.post(\"login/\", data: login.toJson()).then((d) {\n"
+                    + "      var results = new NetworkCommon().decodeResp(d);\n"
+                    + "\n"
+                    + "      return new ");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(".fromJson(results[\"user\"]);\n"
+                    + "    });\n"
+                    + "  }\n");
+        }
+        out.append("}\n");
+    }
+}
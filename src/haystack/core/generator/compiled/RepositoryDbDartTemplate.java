@@ -0,0 +1,192 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from repository_db.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class RepositoryDbDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_clsUNNameType = model.get("clsUNNameType");
+        Object v_clsUNName = model.get("clsUNName");
+        out.append("import 'dart:async';\n"
+                + "\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/db/database_client.dart';\n"
+                + "import 'package:sqflite/sqflite.dart';\n"
+                + "\n"
+                + "class ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("RepositoryDB {\n"
+                + "  const ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("RepositoryDB();\n"
+                + "\n"
+                + "  Future<List<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(">> get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("sList(String sorting, int limit, int skipCount) async {\n"
+                + "    Database db = await DatabaseClient().db;\n"
+                + "    List<Map> results = await db.query(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("\", limit: limit, offset: skipCount, orderBy: \"");
+        out.append("${sorting}");
+        out.append(" DESC\");\n"
+                + "\n"
+                + "    List<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s = new List();\n"
+                + "    results.forEach((result) {\n"
+                + "      ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(" = ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(".fromMap(result);\n"
+                + "      ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s.add(");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(");\n"
+                + "    });\n"
+                + "    return ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s;\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> create");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(") async {\n"
+                + "    try {\n"
+                + "      Database db = await DatabaseClient().db;\n"
+                + "      await db.insert(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("\", ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".toMap(), conflictAlgorithm: ConflictAlgorithm.replace);\n"
+                + "    } catch (e) {\n"
+                + "      print(e.toString());\n"
+                + "    }\n"
+                + "    return ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "  }\n"
+                + "\n"
+                + "  /// Upserts a whole page in one batch, which sqflite commits as a single transaction.\n"
+                + "  Future<void> upsertAll(List<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s) async {\n"
+                + "    Database db = await DatabaseClient().db;\n"
+                + "    Batch batch = db.batch();\n"
+                + "    ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s.forEach((");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(") {\n"
+                + "      batch.insert(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("\", ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".toMap(), conflictAlgorithm: ConflictAlgorithm.replace);\n"
+                + "    });\n"
+                + "    await batch.commit(noResult: true);\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<int> delete");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_clsUNNameType, "clsUNNameType"));
+        out.append(" ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(") async {\n"
+                + "    Database db = await DatabaseClient().db;\n"
+                + "    return db.delete(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("\", where: \"");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(" = ?\", whereArgs: [");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("]);\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> get");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_clsUNNameType, "clsUNNameType"));
+        out.append(" ");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(") async {\n"
+                + "    Database db = await DatabaseClient().db;\n"
+                + "    List<Map> results =\n"
+                + "        await db.query(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("\", where: \"");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append(" = ?\", whereArgs: [");
+        out.append(str(v_clsUNName, "clsUNName"));
+        out.append("]);\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(" = ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(".fromMap(results[0]);\n"
+                + "    return ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "  }\n"
+                + "\n"
+                + "  Future<");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> update");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("(");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(") async {\n"
+                + "    Database db = await DatabaseClient().db;\n"
+                + "    await db.insert(\"");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("\", ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(".toMap(), conflictAlgorithm: ConflictAlgorithm.replace);\n"
+                + "    return ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "  }\n"
+                + "\n"
+                + "}");
+    }
+}
@@ -0,0 +1,129 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from response_cache.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ResponseCacheDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'dart:async';\n"
+                + "import 'dart:collection';\n"
+                + "import 'package:dio/dio.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/network_common.dart';\n"
+                + "\n"
+                + "class _CacheEntry {\n"
+                + "  _CacheEntry(this.response, this.etag) : fetched = new DateTime.now();\n"
+                + "\n"
+                + "  final Response response;\n"
+                + "  final String etag;\n"
+                + "  DateTime fetched;\n"
+                + "\n"
+                + "  bool isFresh(Duration ttl) {\n"
+                + "    return ttl != null && new DateTime.now().difference(fetched) < ttl;\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "/// In-memory cache of GET responses in front of [NetworkCommon], keyed by path and query.\n"
+                + "/// A response younger than the caller's TTL is served without a request; an older one is\n"
+                + "/// revalidated with If-None-Match when the server sent an ETag, and a 304 keeps the cached\n"
+                + "/// body. With forceRefresh a cached response is always revalidated, e.g. on pull-to-refresh.\n"
+                + "/// The least recently used entries are dropped beyond [maxEntries].\n"
+                + "class ResponseCache {\n"
+                + "  static final ResponseCache _singleton = new ResponseCache._internal();\n"
+                + "\n"
+                + "  factory ResponseCache() {\n"
+                + "    return _singleton;\n"
+                + "  }\n"
+                + "\n"
+                + "  ResponseCache._internal();\n"
+                + "\n"
+                + "  int maxEntries = 200;\n"
+                + "\n"
+                + "  /// Requests answered from memory, without or with a 304 round trip, and requests that had\n"
+                + "  /// to fetch the body.\n"
+                + "  int hits = 0;\n"
+                + "  int notModified = 0;\n"
+                + "  int misses = 0;\n"
+                + "\n"
+                + "  // LinkedHashMap keeps insertion order; entries are re-inserted on use, so the first key\n"
+                + "  // is always the least recently used one.\n"
+                + "  final LinkedHashMap<String, _CacheEntry> _entries = new LinkedHashMap();\n"
+                + "\n"
+                + "  Future<Response> get(String path,\n"
+                + "      {Map<String, dynamic> queryParameters,\n"
+                + "      Duration ttl,\n"
+                + "      bool forceRefresh = false,\n"
+                + "      ResponseType responseType,\n"
+                + "      CancelToken cancelToken}) async {\n"
+                + "    final String key = _key(path, queryParameters);\n"
+                + "    final _CacheEntry entry = _entries.remove(key);\n"
+                + "    if (entry != null) {\n"
+                + "      _entries[key] = entry;\n"
+                + "      if (!forceRefresh && entry.isFresh(ttl)) {\n"
+                + "        hits++;\n"
+                + "        return entry.response;\n"
+                + "      }\n"
+                + "    }\n"
+                + "\n"
+                + "    final Map<String, dynamic> headers = {};\n"
+                + "    if (entry != null && entry.etag != null) {\n"
+                + "      headers[\"If-None-Match\"] = entry.etag;\n"
+                + "    }\n"
+                + "    final Response response = await new NetworkCommon().dio.get(path,\n"
+                + "        queryParameters: queryParameters,\n"
+                + "        cancelToken: cancelToken,\n"
+                + "        options: Options(\n"
+                + "            headers: headers,\n"
+                + "            responseType: responseType,\n"
+                + "            validateStatus: (status) => (status >= 200 && status < 300) || status == 304));\n"
+                + "    if (response.statusCode == 304 && entry != null) {\n"
+                + "      notModified++;\n"
+                + "      entry.fetched = new DateTime.now();\n"
+                + "      return entry.response;\n"
+                + "    }\n"
+                + "\n"
+                + "    misses++;\n"
+                + "    _entries[key] = new _CacheEntry(response, response.headers.value(\"etag\"));\n"
+                + "    while (_entries.length > maxEntries) {\n"
+                + "      _entries.remove(_entries.keys.first);\n"
+                + "    }\n"
+                + "    return response;\n"
+                + "  }\n"
+                + "\n"
+                + "  /// Drops the cached responses of [path] and everything below it, e.g. after a write.\n"
+                + "  void invalidate(String path) {\n"
+                + "    _entries.removeWhere((key, entry) => key.startsWith(path));\n"
+                + "  }\n"
+                + "\n"
+                + "  void clear() {\n"
+                + "    _entries.clear();\n"
+                + "  }\n"
+                + "\n"
+                + "  String _key(String path, Map<String, dynamic> queryParameters) {\n"
+                + "    if (queryParameters == null || queryParameters.isEmpty) {\n"
+                + "      return path;\n"
+                + "    }\n"
+                + "    final List<String> names = queryParameters.keys.toList()..sort();\n"
+                + "    return path + \"?\" + names.map((name) => name + \"=\" + queryParameters[name].toString()).join(\"&\");\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  String toString() {\n"
+                + "    return \"ResponseCache(entries: \" + _entries.length.toString() + \", hits: \" + hits.toString()\n"
+                + "        + \", notModified: \" + notModified.toString() + \", misses: \" + misses.toString() + \")\";\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,78 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from settings_option.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class SettingsOptionDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'dart:ui';\n"
+                + "\n"
+                + "import 'package:flutter/cupertino.dart';\n"
+                + "import 'package:flutter/material.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/text_scale.dart';\n"
+                + "\n"
+                + "class SettingsOptions {\n"
+                + "  SettingsOptions({\n"
+                + "    this.theme,\n"
+                + "    this.textScaleFactor,\n"
+                + "    this.textDirection = TextDirection.ltr,\n"
+                + "    this.platform,\n"
+                + "  });\n"
+                + "\n"
+                + "  final ThemeData theme;\n"
+                + "  final AppTextScaleValue textScaleFactor;\n"
+                + "  final TextDirection textDirection;\n"
+                + "  final TargetPlatform platform;\n"
+                + "\n"
+                + "  SettingsOptions copyWith({\n"
+                + "    ThemeData theme,\n"
+                + "    AppTextScaleValue textScaleFactor,\n"
+                + "    TextDirection textDirection,\n"
+                + "    TargetPlatform platform,\n"
+                + "  }) {\n"
+                + "    return new SettingsOptions(\n"
+                + "      theme: theme ?? this.theme,\n"
+                + "      textScaleFactor: textScaleFactor ?? this.textScaleFactor,\n"
+                + "      textDirection: textDirection ?? this.textDirection,\n"
+                + "      platform: platform ?? this.platform,\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  bool operator ==(dynamic other) {\n"
+                + "    if (runtimeType != other.runtimeType) return false;\n"
+                + "    final SettingsOptions typedOther = other;\n"
+                + "    return theme == typedOther.theme &&\n"
+                + "        textScaleFactor == typedOther.textScaleFactor &&\n"
+                + "        textDirection == typedOther.textDirection &&\n"
+                + "        platform == typedOther.platform;\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  int get hashCode => hashValues(\n"
+                + "        theme,\n"
+                + "        textScaleFactor,\n"
+                + "        textDirection,\n"
+                + "        platform,\n"
+                + "      );\n"
+                + "\n"
+                + "  @override\n"
+                + "  String toString() {\n"
+                + "    return '$runtimeType($theme)';\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,268 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from settings_option_page.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class SettingsOptionPageDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'package:flutter/material.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/settings_option.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/text_scale.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/settings/theme.dart';\n"
+                + "import 'package:shared_preferences/shared_preferences.dart';\n"
+                + "\n"
+                + "const double _kItemHeight = 48.0;\n"
+                + "\n"
+                + "class _OptionsItem extends StatelessWidget {\n"
+                + "  const _OptionsItem({Key key, this.child}) : super(key: key);\n"
+                + "\n"
+                + "  final Widget child;\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    final double textScaleFactor = MediaQuery.textScaleFactorOf(context);\n"
+                + "\n"
+                + "    return MergeSemantics(\n"
+                + "      child: Container(\n"
+                + "        constraints: BoxConstraints(minHeight: _kItemHeight * textScaleFactor),\n"
+                + "        alignment: AlignmentDirectional.centerStart,\n"
+                + "        child: DefaultTextStyle(\n"
+                + "          style: DefaultTextStyle.of(context).style,\n"
+                + "          maxLines: 2,\n"
+                + "          overflow: TextOverflow.fade,\n"
+                + "          child: IconTheme(\n"
+                + "            data: Theme.of(context).primaryIconTheme,\n"
+                + "            child: child,\n"
+                + "          ),\n"
+                + "        ),\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _BooleanItem extends StatelessWidget {\n"
+                + "  const _BooleanItem(this.title, this.value, this.onChanged, this.iconData);\n"
+                + "\n"
+                + "  final IconData iconData;\n"
+                + "  final String title;\n"
+                + "  final bool value;\n"
+                + "  final ValueChanged<bool> onChanged;\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    final bool isDark = Theme.of(context).brightness == Brightness.dark;\n"
+                + "    return new _OptionsItem(\n"
+                + "      child: new Row(\n"
+                + "        children: <Widget>[\n"
+                + "          new Icon(iconData, color: Theme.of(context).textTheme.body1.color),\n"
+                + "          new Expanded(child: new Text(title)),\n"
+                + "          new Switch(\n"
+                + "            value: value,\n"
+                + "            onChanged: onChanged,\n"
+                + "            activeColor: const Color(0xFF39CEFD),\n"
+                + "            activeTrackColor: isDark ? Colors.white30 : Colors.black26,\n"
+                + "          ),\n"
+                + "        ],\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _ThemeItem extends StatelessWidget {\n"
+                + "  const _ThemeItem(this.options, this.onOptionsChanged);\n"
+                + "\n"
+                + "  final SettingsOptions options;\n"
+                + "  final ValueChanged<SettingsOptions> onOptionsChanged;\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    final bool isDark = Theme.of(context).brightness == Brightness.dark;\n"
+                + "    return new _BooleanItem('Dark Theme', isDark, (bool value) {\n"
+                + "      SharedPreferences.getInstance().then((prefs) {\n"
+                + "        prefs.setBool(\"isDark\", value);\n"
+                + "      });\n"
+                + "      if (value) {\n"
+                + "        AppTheme.configure(ThemeName.DARK);\n"
+                + "      } else {\n"
+                + "        AppTheme.configure(ThemeName.LIGHT);\n"
+                + "      }\n"
+                + "      onOptionsChanged(\n"
+                + "        options.copyWith(\n"
+                + "          theme: AppTheme().appTheme,\n"
+                + "        ),\n"
+                + "      );\n"
+                + "    }, Icons.brightness_3);\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _TextScaleFactorItem extends StatelessWidget {\n"
+                + "  const _TextScaleFactorItem(this.options, this.onOptionsChanged);\n"
+                + "\n"
+                + "  final SettingsOptions options;\n"
+                + "  final ValueChanged<SettingsOptions> onOptionsChanged;\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    bool isDark = Theme.of(context).brightness == Brightness.dark;\n"
+                + "    return new _OptionsItem(\n"
+                + "      child: new Row(\n"
+                + "        children: <Widget>[\n"
+                + "          new Expanded(\n"
+                + "              child: Row(\n"
+                + "                  crossAxisAlignment: CrossAxisAlignment.start,\n"
+                + "                  children: <Widget>[\n"
+                + "                Icon(\n"
+                + "                  Icons.text_format,\n"
+                + "                  color: Theme.of(context).textTheme.body1.color,\n"
+                + "                ),\n"
+                + "                new Column(\n"
+                + "                  crossAxisAlignment: CrossAxisAlignment.start,\n"
+                + "                  children: <Widget>[\n"
+                + "                    const Text('Text size'),\n"
+                + "                    new Text(options.textScaleFactor.label),\n"
+                + "                  ],\n"
+                + "                ),\n"
+                + "              ])),\n"
+                + "          new PopupMenuButton<AppTextScaleValue>(\n"
+                + "            padding: const EdgeInsetsDirectional.only(end: 16.0),\n"
+                + "            icon: const Icon(\n"
+                + "              Icons.arrow_drop_down,\n"
+                + "              color: Colors.grey,\n"
+                + "            ),\n"
+                + "            itemBuilder: (BuildContext context) {\n"
+                + "              return appTextScaleValues.map((AppTextScaleValue scaleValue) {\n"
+                + "                return new PopupMenuItem<AppTextScaleValue>(\n"
+                + "                  value: scaleValue,\n"
+                + "                  child: new Text(scaleValue.label),\n"
+                + "                );\n"
+                + "              }).toList();\n"
+                + "            },\n"
+                + "            onSelected: (AppTextScaleValue scaleValue) {\n"
+                + "              onOptionsChanged(\n"
+                + "                options.copyWith(textScaleFactor: scaleValue),\n"
+                + "              );\n"
+                + "            },\n"
+                + "          ),\n"
+                + "        ],\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class _PlatformItem extends StatelessWidget {\n"
+                + "  const _PlatformItem(this.options, this.onOptionsChanged);\n"
+                + "\n"
+                + "  final SettingsOptions options;\n"
+                + "  final ValueChanged<SettingsOptions> onOptionsChanged;\n"
+                + "\n"
+                + "  String _platformLabel(TargetPlatform platform) {\n"
+                + "    switch (platform) {\n"
+                + "      case TargetPlatform.android:\n"
+                + "        return 'Mountain View';\n"
+                + "      case TargetPlatform.fuchsia:\n"
+                + "        return 'Fuchsia';\n"
+                + "      case TargetPlatform.iOS:\n"
+                + "        return 'Cupertino';\n"
+                + "    }\n"
+                + "    assert(false);\n"
+                + "    return null;\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    return new _OptionsItem(\n"
+                + "      child: new Row(\n"
+                + "        children: <Widget>[\n"
+                + "          new Expanded(\n"
+                + "              child: Row(\n"
+                + "                  crossAxisAlignment: CrossAxisAlignment.start,\n"
+                + "                  children: <Widget>[\n"
+                + "                Icon(\n"
+                + "                  Icons.widgets,\n"
+                + "                  color: Theme.of(context).textTheme.body1.color,\n"
+                + "                ),\n"
+                + "                new Column(\n"
+                + "                  crossAxisAlignment: CrossAxisAlignment.start,\n"
+                + "                  children: <Widget>[\n"
+                + "                    const Text('Platform mechanics'),\n"
+                + "                    new Text(\n"
+                + "                      _platformLabel(options.platform),\n"
+                + "                      style: Theme.of(context).primaryTextTheme.body1,\n"
+                + "                    ),\n"
+                + "                  ],\n"
+                + "                ),\n"
+                + "              ])),\n"
+                + "          new PopupMenuButton<TargetPlatform>(\n"
+                + "            padding: const EdgeInsetsDirectional.only(end: 16.0),\n"
+                + "            icon: const Icon(Icons.arrow_drop_down),\n"
+                + "            itemBuilder: (BuildContext context) {\n"
+                + "              return TargetPlatform.values.map((TargetPlatform platform) {\n"
+                + "                return new PopupMenuItem<TargetPlatform>(\n"
+                + "                  value: platform,\n"
+                + "                  child: new Text(_platformLabel(platform)),\n"
+                + "                );\n"
+                + "              }).toList();\n"
+                + "            },\n"
+                + "            onSelected: (TargetPlatform platform) {\n"
+                + "              onOptionsChanged(\n"
+                + "                options.copyWith(platform: platform),\n"
+                + "              );\n"
+                + "            },\n"
+                + "          ),\n"
+                + "        ],\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class SettingsOptionsPage extends StatelessWidget {\n"
+                + "  const SettingsOptionsPage({\n"
+                + "    Key key,\n"
+                + "    this.options,\n"
+                + "    this.onOptionsChanged,\n"
+                + "  }) : super(key: key);\n"
+                + "\n"
+                + "  final SettingsOptions options;\n"
+                + "  final ValueChanged<SettingsOptions> onOptionsChanged;\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    return Scaffold(\n"
+                + "      appBar: AppBar(\n"
+                + "        title: Text(\"Settings\"),\n"
+                + "      ),\n"
+                + "      body: Padding(\n"
+                + "        padding: EdgeInsets.only(left: 16.0, right: 16.0),\n"
+                + "        child: new ListView(\n"
+                + "          padding: const EdgeInsets.only(bottom: 124.0),\n"
+                + "          children: <Widget>[\n"
+                + "            new _ThemeItem(options, onOptionsChanged),\n"
+                + "            const Divider(),\n"
+                + "            new _TextScaleFactorItem(options, onOptionsChanged),\n"
+                + "            const Divider(),\n"
+                + "            new _PlatformItem(options, onOptionsChanged),\n"
+                + "          ],\n"
+                + "        ),\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}");
+    }
+}
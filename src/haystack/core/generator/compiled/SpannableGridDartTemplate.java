@@ -0,0 +1,217 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from spannable_grid.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class SpannableGridDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'dart:math' as math;\n"
+                + "\n"
+                + "import 'package:flutter/material.dart';\n"
+                + "import 'package:flutter/rendering.dart';\n"
+                + "\n"
+                + "class _CoordinateOffset {\n"
+                + "  final double main, cross;\n"
+                + "  _CoordinateOffset(this.main, this.cross);\n"
+                + "}\n"
+                + "\n"
+                + "typedef int GetCrossAxisSpan(int index);\n"
+                + "\n"
+                + "typedef double GetMainAxisExtent(int index);\n"
+                + "\n"
+                + "class SpanableSliverGridLayout extends SliverGridLayout {\n"
+                + "\n"
+                + "  /// Creates a layout that uses equally sized and spaced tiles.\n"
+                + "  ///\n"
+                + "  /// All of the arguments must not be null and must not be negative. The\n"
+                + "  /// `crossAxisCount` argument must be greater than zero.\n"
+                + "  const SpanableSliverGridLayout(\n"
+                + "      this.crossAxisCount,\n"
+                + "      this.childCrossAxisExtent,\n"
+                + "      this.crossAxisStride,\n"
+                + "      this.mainAxisSpacing,\n"
+                + "      this.getCrossAxisSpan,\n"
+                + "      this.getMainAxisExtend) :\n"
+                + "        assert(crossAxisCount != null && crossAxisCount > 0),\n"
+                + "        assert(mainAxisSpacing != null && mainAxisSpacing >= 0),\n"
+                + "        assert(childCrossAxisExtent != null && childCrossAxisExtent >= 0),\n"
+                + "        assert(crossAxisStride != null && crossAxisStride >= 0),\n"
+                + "        assert(getCrossAxisSpan != null),\n"
+                + "        assert(getMainAxisExtend != null);\n"
+                + "\n"
+                + "  /// The number of children in the cross axis.\n"
+                + "  final int crossAxisCount;\n"
+                + "\n"
+                + "  /// The number of pixels from the leading edge of one tile to the trailing\n"
+                + "  /// edge of the same tile in the main axis.\n"
+                + "  final double mainAxisSpacing;\n"
+                + "\n"
+                + "  /// The number of pixels from the leading edge of one tile to the leading edge\n"
+                + "  /// of the next tile in the cross axis.\n"
+                + "  final double crossAxisStride;\n"
+                + "\n"
+                + "  /// The number of pixels from the leading edge of one tile to the trailing\n"
+                + "  /// edge of the same tile in the cross axis.\n"
+                + "  final double childCrossAxisExtent;\n"
+                + "\n"
+                + "  final GetCrossAxisSpan getCrossAxisSpan;\n"
+                + "\n"
+                + "  final GetMainAxisExtent getMainAxisExtend;\n"
+                + "\n"
+                + "  _CoordinateOffset _findOffset(int index) {\n"
+                + "    int cross= 0;\n"
+                + "    double mainOffset = 0.0;\n"
+                + "    double crossOffset = 0.0;\n"
+                + "    double extend = 0.0;\n"
+                + "    int span;\n"
+                + "\n"
+                + "    for (int i = 0; i <= index; i++) {\n"
+                + "\n"
+                + "      span = getCrossAxisSpan(i);\n"
+                + "      span = math.min(this.crossAxisCount, math.max(0, span));\n"
+                + "\n"
+                + "      if((cross + span) > this.crossAxisCount) {\n"
+                + "        cross = 0;\n"
+                + "        mainOffset += extend + this.mainAxisSpacing;\n"
+                + "        crossOffset = 0.0;\n"
+                + "        extend = 0.0;\n"
+                + "      }\n"
+                + "\n"
+                + "      crossOffset = cross * crossAxisStride;\n"
+                + "      extend = math.max(extend, getMainAxisExtend(i));\n"
+                + "      cross += span;\n"
+                + "    }\n"
+                + "\n"
+                + "    return new _CoordinateOffset(mainOffset, crossOffset);\n"
+                + "  }\n"
+                + "\n"
+                + "  int getMinOrMaxChildIndexForScrollOffset(double scrollOffset, bool min) {\n"
+                + "    int cross = 0;\n"
+                + "    double mainOffset = 0.0;\n"
+                + "    double extend = 0.0;\n"
+                + "    int i = 0;\n"
+                + "    int span = 0;\n"
+                + "\n"
+                + "    while (true) {\n"
+                + "      span = getCrossAxisSpan(i);\n"
+                + "      span = math.min(this.crossAxisCount, math.max(0, span));\n"
+                + "\n"
+                + "      if ((cross + span) > this.crossAxisCount) {\n"
+                + "        cross = 0;\n"
+                + "        mainOffset += extend + this.mainAxisSpacing;\n"
+                + "        extend = 0.0;\n"
+                + "      }\n"
+                + "\n"
+                + "      extend = math.max(extend, getMainAxisExtend(i));\n"
+                + "      cross += span;\n"
+                + "\n"
+                + "      if (min && scrollOffset <= mainOffset + extend) {\n"
+                + "        return (i ~/ this.crossAxisCount) * this.crossAxisCount;\n"
+                + "      }\n"
+                + "      else if(!min && scrollOffset < mainOffset) {\n"
+                + "        return i;\n"
+                + "      }\n"
+                + "      i++;\n"
+                + "    }\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  int getMinChildIndexForScrollOffset(double scrollOffset) => getMinOrMaxChildIndexForScrollOffset(scrollOffset, true);\n"
+                + "\n"
+                + "  @override\n"
+                + "  int getMaxChildIndexForScrollOffset(double scrollOffset) => getMinOrMaxChildIndexForScrollOffset(scrollOffset, false);\n"
+                + "\n"
+                + "  @override\n"
+                + "  SliverGridGeometry getGeometryForChildIndex(int index) {\n"
+                + "    var span = getCrossAxisSpan(index);\n"
+                + "    var mainAxisExtent = getMainAxisExtend(index);\n"
+                + "    var offset = _findOffset(index);\n"
+                + "\n"
+                + "    return new SliverGridGeometry(\n"
+                + "      scrollOffset: offset.main,\n"
+                + "      crossAxisOffset: offset.cross,\n"
+                + "      mainAxisExtent: mainAxisExtent,\n"
+                + "      crossAxisExtent: this.childCrossAxisExtent + (span - 1) * this.crossAxisStride,\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  double computeMaxScrollOffset(int childCount) {\n"
+                + "    if(childCount <= 0)\n"
+                + "      return 0.0;\n"
+                + "\n"
+                + "    var lastOffset = _findOffset(childCount-1);\n"
+                + "    var extent = getMainAxisExtend(childCount-1);\n"
+                + "    return lastOffset.main + extent;\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "abstract class SpanableSliverGridDelegate extends SliverGridDelegate {\n"
+                + "  /// Creates a delegate that makes grid layouts with a fixed number of tiles in\n"
+                + "  /// the cross axis.\n"
+                + "  ///\n"
+                + "  /// All of the arguments must not be null. The `mainAxisSpacing` and\n"
+                + "  /// `crossAxisSpacing` arguments must not be negative. The `crossAxisCount`\n"
+                + "  /// and `childAspectRatio` arguments must be greater than zero.\n"
+                + "  const SpanableSliverGridDelegate(\n"
+                + "      this.crossAxisCount,\n"
+                + "      {this.mainAxisSpacing: 0.0,\n"
+                + "        this.crossAxisSpacing: 0.0,\n"
+                + "      }) : assert(crossAxisCount != null && crossAxisCount > 0),\n"
+                + "        assert(mainAxisSpacing != null && mainAxisSpacing >= 0),\n"
+                + "        assert(crossAxisSpacing != null && crossAxisSpacing >= 0);\n"
+                + "\n"
+                + "  /// The number of children in the cross axis.\n"
+                + "  final int crossAxisCount;\n"
+                + "\n"
+                + "  /// The number of logical pixels between each child along the main axis.\n"
+                + "  final double mainAxisSpacing;\n"
+                + "\n"
+                + "  /// The number of logical pixels between each child along the cross axis.\n"
+                + "  final double crossAxisSpacing;\n"
+                + "\n"
+                + "  bool _debugAssertIsValid() {\n"
+                + "    assert(crossAxisCount > 0);\n"
+                + "    assert(mainAxisSpacing >= 0.0);\n"
+                + "    assert(crossAxisSpacing >= 0.0);\n"
+                + "    return true;\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  SliverGridLayout getLayout(SliverConstraints constraints) {\n"
+                + "    assert(_debugAssertIsValid());\n"
+                + "    final double usableCrossAxisExtent = constraints.crossAxisExtent - crossAxisSpacing * (crossAxisCount - 1);\n"
+                + "    final double childCrossAxisExtent = usableCrossAxisExtent / crossAxisCount;\n"
+                + "    return new SpanableSliverGridLayout(\n"
+                + "      crossAxisCount,\n"
+                + "      childCrossAxisExtent,\n"
+                + "      childCrossAxisExtent + crossAxisSpacing,\n"
+                + "      mainAxisSpacing,\n"
+                + "      getCrossAxisSpan,\n"
+                + "      getMainAxisExtent,\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  int getCrossAxisSpan(int index);\n"
+                + "\n"
+                + "  double getMainAxisExtent(int index);\n"
+                + "\n"
+                + "  @override\n"
+                + "  bool shouldRelayout(SpanableSliverGridDelegate oldDelegate) {\n"
+                + "    return oldDelegate.crossAxisCount != crossAxisCount\n"
+                + "        || oldDelegate.mainAxisSpacing != mainAxisSpacing\n"
+                + "        || oldDelegate.crossAxisSpacing != crossAxisSpacing;\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,113 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from state.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class StateDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        out.append("import 'package:meta/meta.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/page_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/action_report.dart';\n"
+                + "\n"
+                + "class ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State {\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("  final User profile;\n");
+        }
+        out.append("  final Map<String, ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s;\n"
+                + "  final ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n"
+                + "  final Map<String, ActionReport> status;\n"
+                + "  final Page page;\n"
+                + "\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State({\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("    @required this.profile,\n");
+        }
+        out.append("    @required this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s,\n"
+                + "    @required this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(",\n"
+                + "    @required this.status,\n"
+                + "    @required this.page,\n"
+                + "  });\n"
+                + "\n"
+                + "  ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State copyWith({\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("    User profile,\n");
+        }
+        out.append("    Map<String, ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("> ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s,\n"
+                + "    ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(",\n"
+                + "    Map<String, ActionReport> status,\n"
+                + "    Page page,\n"
+                + "  }) {\n"
+                + "    return ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append("State(\n");
+        if (eq(v_ModelEntryName, "User", "ModelEntryName == \"User\"")) {
+            out.append("      profile: profile ?? this.profile,\n");
+        }
+        out.append("      ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s: ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s ?? this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("s ?? Map(),\n"
+                + "      ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(": ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(" ?? this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(",\n"
+                + "      status: status ?? this.status,\n"
+                + "      page: page ?? this.page,\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
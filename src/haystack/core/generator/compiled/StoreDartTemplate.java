@@ -0,0 +1,40 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from store.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class StoreDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        out.append("import 'package:logging/logging.dart';\n"
+                + "import 'package:redux/redux.dart';\n"
+                + "import 'package:redux_logging/redux_logging.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_state.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_reducer.dart';\n"
+                + "\n"
+                + "Future<Store<AppState>> createStore() async {\n"
+                + "  return Store(\n"
+                + "    appReducer,\n"
+                + "    initialState: AppState.initial(),\n"
+                + "    middleware: []\n"
+                + "      ..addAll([\n"
+                + "        LoggingMiddleware<dynamic>.printer(level: Level.ALL),\n"
+                + "      ]),\n"
+                + "  );\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,62 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from swipe_list_item.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class SwipeListItemDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'package:flutter/material.dart';\n"
+                + "import 'package:flutter_slidable/flutter_slidable.dart';\n"
+                + "\n"
+                + "class SwipeListItem<T> extends StatelessWidget {\n"
+                + "  const SwipeListItem(\n"
+                + "      {Key key,\n"
+                + "      @required this.item,\n"
+                + "      @required this.child,\n"
+                + "      @required this.onArchive,\n"
+                + "      @required this.onDelete})\n"
+                + "      : super(key: key);\n"
+                + "\n"
+                + "  final T item;\n"
+                + "  final void Function(T) onArchive;\n"
+                + "  final void Function(T) onDelete;\n"
+                + "  final Widget child;\n"
+                + "\n"
+                + "  void _handleArchive() {\n"
+                + "    onArchive(item);\n"
+                + "  }\n"
+                + "\n"
+                + "  void _handleDelete() {\n"
+                + "    onDelete(item);\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    final ThemeData theme = Theme.of(context);\n"
+                + "    return Slidable(\n"
+                + "      delegate: SlidableDrawerDelegate(),\n"
+                + "      actionExtentRatio: 0.25,\n"
+                + "      child: this.child,\n"
+                + "      secondaryActions: <Widget>[\n"
+                + "        IconSlideAction(\n"
+                + "          caption: 'Delete',\n"
+                + "          color: Colors.red,\n"
+                + "          icon: Icons.delete,\n"
+                + "          onTap: _handleDelete,\n"
+                + "        ),\n"
+                + "      ],\n"
+                + "    );\n"
+                + "  }\n"
+                + "}");
+    }
+}
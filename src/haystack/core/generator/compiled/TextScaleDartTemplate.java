@@ -0,0 +1,51 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from text_scale.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class TextScaleDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'package:flutter/material.dart';\n"
+                + "\n"
+                + "class AppTextScaleValue {\n"
+                + "  const AppTextScaleValue(this.scale, this.label);\n"
+                + "\n"
+                + "  final double scale;\n"
+                + "  final String label;\n"
+                + "\n"
+                + "  @override\n"
+                + "  bool operator ==(dynamic other) {\n"
+                + "    if (runtimeType != other.runtimeType) return false;\n"
+                + "    final AppTextScaleValue typedOther = other;\n"
+                + "    return scale == typedOther.scale && label == typedOther.label;\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  int get hashCode => hashValues(scale, label);\n"
+                + "\n"
+                + "  @override\n"
+                + "  String toString() {\n"
+                + "    return '$runtimeType($label)';\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "const List<AppTextScaleValue> appTextScaleValues =\n"
+                + "    const <AppTextScaleValue>[\n"
+                + "  const AppTextScaleValue(null, 'System Default'),\n"
+                + "  const AppTextScaleValue(0.8, 'Small'),\n"
+                + "  const AppTextScaleValue(1.0, 'Normal'),\n"
+                + "  const AppTextScaleValue(1.3, 'Large'),\n"
+                + "  const AppTextScaleValue(2.0, 'Huge'),\n"
+                + "];\n");
+    }
+}
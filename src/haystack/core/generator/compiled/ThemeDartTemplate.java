@@ -0,0 +1,98 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from theme.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ThemeDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'package:flutter/material.dart';\n"
+                + "\n"
+                + "enum ThemeName { DARK, LIGHT }\n"
+                + "\n"
+                + "class AppTheme {\n"
+                + "  static final AppTheme _singleton = new AppTheme._internal();\n"
+                + "  static ThemeName _themeName = ThemeName.LIGHT;\n"
+                + "\n"
+                + "  factory AppTheme() {\n"
+                + "    return _singleton;\n"
+                + "  }\n"
+                + "\n"
+                + "  AppTheme._internal();\n"
+                + "\n"
+                + "  static void configure(ThemeName themeName) {\n"
+                + "    _themeName = themeName;\n"
+                + "  }\n"
+                + "\n"
+                + "  ThemeData get appTheme {\n"
+                + "    switch (_themeName) {\n"
+                + "      case ThemeName.DARK:\n"
+                + "        return _buildDarkTheme();\n"
+                + "      default: // Flavor.PRO:\n"
+                + "        return _buildLightTheme();\n"
+                + "    }\n"
+                + "  }\n"
+                + "\n"
+                + "  TextTheme _buildTextTheme(TextTheme base) {\n"
+                + "    return base.copyWith(\n"
+                + "      title: base.title.copyWith(\n"
+                + "        fontFamily: 'GoogleSans',\n"
+                + "      ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  ThemeData _buildDarkTheme() {\n"
+                + "    const Color primaryColor = const Color(0xFF3B3B48);\n"
+                + "    final ThemeData base = new ThemeData.dark();\n"
+                + "    return base.copyWith(\n"
+                + "      primaryColor: primaryColor,\n"
+                + "      buttonColor: primaryColor,\n"
+                + "      indicatorColor: const Color(0xFF3F3F4C),\n"
+                + "      accentColor: Colors.blueAccent,\n"
+                + "      canvasColor: const Color(0xFF2B2B2B),\n"
+                + "      scaffoldBackgroundColor: const Color(0xFF2E2E3B),\n"
+                + "      backgroundColor: const Color(0xFF2E2E3B),\n"
+                + "      errorColor: const Color(0xFFB00020),\n"
+                + "      buttonTheme: const ButtonThemeData(\n"
+                + "        textTheme: ButtonTextTheme.primary,\n"
+                + "      ),\n"
+                + "      textTheme: _buildTextTheme(base.textTheme),\n"
+                + "      primaryTextTheme: _buildTextTheme(base.primaryTextTheme),\n"
+                + "      accentTextTheme: _buildTextTheme(base.accentTextTheme),\n"
+                + "    );\n"
+                + "  }\n"
+                + "\n"
+                + "  ThemeData _buildLightTheme() {\n"
+                + "    const Color primaryColor = Colors.lightBlue;\n"
+                + "    final ThemeData base = new ThemeData.light();\n"
+                + "    return base.copyWith(\n"
+                + "      primaryColor: primaryColor,\n"
+                + "      buttonColor: primaryColor,\n"
+                + "      indicatorColor: Colors.white,\n"
+                + "      splashColor: Colors.white24,\n"
+                + "      splashFactory: InkRipple.splashFactory,\n"
+                + "      accentColor: Colors.lightBlueAccent,\n"
+                + "      canvasColor: Colors.white,\n"
+                + "      scaffoldBackgroundColor: Colors.white,\n"
+                + "      backgroundColor: Colors.white,\n"
+                + "      errorColor: const Color(0xFFB00020),\n"
+                + "      buttonTheme: const ButtonThemeData(\n"
+                + "        textTheme: ButtonTextTheme.primary,\n"
+                + "      ),\n"
+                + "      textTheme: _buildTextTheme(base.textTheme),\n"
+                + "      primaryTextTheme: _buildTextTheme(base.primaryTextTheme),\n"
+                + "      accentTextTheme: _buildTextTheme(base.accentTextTheme),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,28 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from toast_utils.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ToastUtilsDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'package:fluttertoast/fluttertoast.dart';\n"
+                + "\n"
+                + "void showToast(String msg) {\n"
+                + "  Fluttertoast.showToast(\n"
+                + "      msg: msg,\n"
+                + "      toastLength: Toast.LENGTH_SHORT,\n"
+                + "      gravity: ToastGravity.BOTTOM,\n"
+                + "      timeInSecForIos: 1);\n"
+                + "}");
+    }
+}
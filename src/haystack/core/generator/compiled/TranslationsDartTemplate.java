@@ -0,0 +1,68 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from translations.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class TranslationsDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        out.append("import 'dart:async';\n"
+                + "import 'dart:convert';\n"
+                + "import 'package:flutter/material.dart';\n"
+                + "import 'package:flutter/services.dart' show rootBundle;\n"
+                + "\n"
+                + "///usage:\n"
+                + "///Translations.of(context).text('bottom_bar_label_home'),\n"
+                + "class Translations {\n"
+                + "  Translations(Locale locale) {\n"
+                + "    this.locale = locale;\n"
+                + "    _localizedValues = null;\n"
+                + "  }\n"
+                + "\n"
+                + "  Locale locale;\n"
+                + "  static Map<dynamic, dynamic> _localizedValues;\n"
+                + "\n"
+                + "  static Translations of(BuildContext context) {\n"
+                + "    return Localizations.of<Translations>(context, Translations);\n"
+                + "  }\n"
+                + "\n"
+                + "  String text(String key) {\n"
+                + "    return _localizedValues[key] ?? '** $key not found';\n"
+                + "  }\n"
+                + "\n"
+                + "  static Future<Translations> load(Locale locale) async {\n"
+                + "    Translations translations = new Translations(locale);\n"
+                + "    String jsonContent =\n"
+                + "        await rootBundle.loadString(\"locale/i18n_");
+        out.append("${locale.languageCode}");
+        out.append(".json\");\n"
+                + "    _localizedValues = json.decode(jsonContent);\n"
+                + "    return translations;\n"
+                + "  }\n"
+                + "\n"
+                + "  get currentLanguage => locale.languageCode;\n"
+                + "}\n"
+                + "\n"
+                + "class TranslationsDelegate extends LocalizationsDelegate<Translations> {\n"
+                + "  const TranslationsDelegate();\n"
+                + "\n"
+                + "  @override\n"
+                + "  bool isSupported(Locale locale) => ['en', 'zh'].contains(locale.languageCode);\n"
+                + "\n"
+                + "  @override\n"
+                + "  Future<Translations> load(Locale locale) => Translations.load(locale);\n"
+                + "\n"
+                + "  @override\n"
+                + "  bool shouldReload(TranslationsDelegate old) => false;\n"
+                + "}");
+    }
+}
@@ -0,0 +1,1235 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from view.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ViewDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_GenerateActionButton = model.get("GenerateActionButton");
+        Object v_IsCustomWidget = model.get("IsCustomWidget");
+        Object v_PageName = model.get("PageName");
+        Object v_viewModelDelete = model.get("viewModelDelete");
+        Object v_GenSliverGrid = model.get("GenSliverGrid");
+        Object v_FabInAppBar = model.get("FabInAppBar");
+        Object v_GenerateCustomScrollView = model.get("GenerateCustomScrollView");
+        Object v_HasActionSearch = model.get("HasActionSearch");
+        Object v_GenerateListView = model.get("GenerateListView");
+        Object v_GenerateBottomTabBar = model.get("GenerateBottomTabBar");
+        Object v_viewModelCreate = model.get("viewModelCreate");
+        Object v_viewModelUpdate = model.get("viewModelUpdate");
+        Object v_PageType = model.get("PageType");
+        Object v_viewModelQuery = model.get("viewModelQuery");
+        Object v_GenerateTopTabBar = model.get("GenerateTopTabBar");
+        Object v_ActionList = model.get("ActionList");
+        Object v_GenerateAppBar = model.get("GenerateAppBar");
+        Object v_GenerateDrawer = model.get("GenerateDrawer");
+        Object v_ActionBtnCount = model.get("ActionBtnCount");
+        Object v_GenSliverToBoxAdapter = model.get("GenSliverToBoxAdapter");
+        Object v_GenSliverFixedExtentList = model.get("GenSliverFixedExtentList");
+        out.append("import 'dart:async';\n"
+                + "import 'package:flutter/cupertino.dart';\n"
+                + "import 'package:flutter/material.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n");
+        if (bool(v_GenerateActionButton, "GenerateActionButton")) {
+            out.append("import 'package:");
+            out.append(str(v_ProjectName, "ProjectName"));
+            out.append("/data/model/choice_data.dart';\n");
+        }
+        out.append("import 'package:shared_preferences/shared_preferences.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/trans/translations.dart';\n"
+                + "import 'package:flutter_redux/flutter_redux.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_state.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/features/");
+        if (bool(v_IsCustomWidget, "IsCustomWidget")) {
+            out.append("customize/");
+        }
+        out.append(str(str(v_PageName, "(PageName)").toLowerCase(), "(PageName)?lower_case"));
+        out.append("/");
+        out.append(str(str(v_PageName, "(PageName)").toLowerCase(), "(PageName)?lower_case"));
+        out.append("_view_model.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/action_report.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/utils/progress_dialog.dart';\n");
+        if (bool(v_viewModelDelete, "viewModelDelete")) {
+            out.append("import 'package:");
+            out.append(str(v_ProjectName, "ProjectName"));
+            out.append("/features/widget/swipe_list_item.dart';\n");
+        }
+        if (bool(v_GenSliverGrid, "GenSliverGrid")) {
+            out.append("import 'package:");
+            out.append(str(v_ProjectName, "ProjectName"));
+            out.append("/features/widget/spannable_grid.dart';\n");
+        }
+        out.append("\n"
+                + "class ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("View extends StatelessWidget {\n"
+                + "  ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("View({Key key}) : super(key: key);\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    return StoreConnector<AppState, ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel>(\n"
+                + "      distinct: true,\n"
+                + "      converter: (store) => ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel.fromStore(store),\n"
+                + "      builder: (_, viewModel) => ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContent(\n"
+                + "            viewModel: viewModel,\n"
+                + "          ),\n"
+                + "    );\n"
+                + "  }\n"
+                + "}\n"
+                + "\n"
+                + "class ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContent extends StatefulWidget {\n"
+                + "  final ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel viewModel;\n"
+                + "\n"
+                + "  ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContent({Key key, this.viewModel}) : super(key: key);\n"
+                + "\n"
+                + "  @override\n"
+                + "  _");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContentState createState() => _");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContentState();\n"
+                + "}\n"
+                + "\n");
+        if ((bool(v_FabInAppBar, "FabInAppBar") || bool(v_GenerateCustomScrollView, "GenerateCustomScrollView"))) {
+            out.append("const double _fabHalfSize = 28.0;\n"
+                    + "\n");
+        }
+        out.append("class _");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContentState extends State<");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContent> {\n");
+        if (bool(v_HasActionSearch, "HasActionSearch")) {
+            out.append("  final _SearchDemoSearchDelegate _delegate = _SearchDemoSearchDelegate();\n");
+        }
+        if (bool(v_GenerateListView, "GenerateListView")) {
+            out.append("  final GlobalKey<RefreshIndicatorState> _refreshIndicatorKey = GlobalKey<RefreshIndicatorState>();\n"
+                    + "  final TrackingScrollController _scrollController = TrackingScrollController();\n");
+        }
+        out.append("  final GlobalKey<ScaffoldState> _scaffoldKey = GlobalKey<ScaffoldState>();\n");
+        if (bool(v_GenerateBottomTabBar, "GenerateBottomTabBar")) {
+            out.append("  PageController pageController;\n"
+                    + "  int page = 0;\n"
+                    + "  List pages = [\"Home\",\"Notice\",\"Mine\"];\n");
+        }
+        if (bool(v_GenerateCustomScrollView, "GenerateCustomScrollView")) {
+            out.append("  final double _appBarHeight = 256.0;\n"
+                    + "  final double _appBarHeight = 256.0;\n");
+        }
+        if (bool(v_viewModelCreate, "viewModelCreate")) {
+            out.append("  var cpr;\n");
+        }
+        if (bool(v_viewModelUpdate, "viewModelUpdate")) {
+            out.append("  var upr;\n");
+        }
+        if (bool(v_viewModelDelete, "viewModelDelete")) {
+            out.append("  var dpr;\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("  var lpr;\n");
+        }
+        out.append("\n");
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("  String _userName = \"\";\n"
+                    + "  String _password = \"\";\n"
+                    + "  FocusNode _focusUserName = FocusNode();\n"
+                    + "  FocusNode _focusPassword = FocusNode();\n");
+        }
+        out.append("\n"
+                + "  @override\n"
+                + "  void initState() {\n"
+                + "    super.initState();\n");
+        if (bool(v_GenerateListView, "GenerateListView")) {
+            out.append("    if (this.widget.viewModel.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s.length == 0) {\n"
+                    + "      this.widget.viewModel.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s(true);\n"
+                    + "    }\n");
+        }
+        if (bool(v_GenerateBottomTabBar, "GenerateBottomTabBar")) {
+            out.append("\tpageController = PageController(initialPage: this.page);\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("    initLogin();\n");
+        }
+        out.append("  }\n");
+        if ((bool(v_viewModelQuery, "viewModelQuery") || bool(v_GenerateListView, "GenerateListView"))) {
+            out.append("\n"
+                    + "  @override\n"
+                    + "  void dispose() {\n"
+                    + "    widget.viewModel.cancel");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s();\n"
+                    + "    super.dispose();\n"
+                    + "  }\n");
+        }
+        out.append("  \n");
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("  Future initLogin() async {\n"
+                    + "    final SharedPreferences prefs = await SharedPreferences.getInstance();\n"
+                    + "    _userName = prefs.getString(\"username\");\n"
+                    + "    _password = prefs.getString(\"password\");\n"
+                    + "    if (_userName != null &&\n"
+                    + "        _password != null &&\n"
+                    + "        _password.isNotEmpty &&\n"
+                    + "        _userName.isNotEmpty) {\n"
+                    + "      widget.viewModel.login(Login(_userName, _password));\n"
+                    + "    }\n"
+                    + "  }\n");
+        }
+        out.append("\n"
+                + "\n"
+                + "  @override\n"
+                + "  void didUpdateWidget(");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewContent oldWidget) {\n"
+                + "    super.didUpdateWidget(oldWidget);\n"
+                + "    Future.delayed(Duration.zero, () {\n");
+        if (bool(v_viewModelCreate, "viewModelCreate")) {
+            out.append("      if (this.widget.viewModel.create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report?.status ==\n"
+                    + "          ActionStatus.running) {\n"
+                    + "        if (cpr == null) {\n"
+                    + "          cpr = new ProgressDialog(context);\n"
+                    + "        }\n"
+                    + "        cpr.setMessage(\"Creating...\");\n"
+                    + "        cpr.show();\n"
+                    + "      } else {\n"
+                    + "        if (cpr != null && cpr.isShowing()) {\n"
+                    + "          cpr.hide();\n"
+                    + "          cpr = null;\n"
+                    + "        }\n"
+                    + "      }\n");
+        }
+        if (bool(v_viewModelUpdate, "viewModelUpdate")) {
+            out.append("\n"
+                    + "      if (this.widget.viewModel.update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report?.status ==\n"
+                    + "          ActionStatus.running) {\n"
+                    + "        if (upr == null) {\n"
+                    + "          upr = new ProgressDialog(context);\n"
+                    + "        }\n"
+                    + "        upr.setMessage(\"Updating...\");\n"
+                    + "        upr.show();\n"
+                    + "      } else {\n"
+                    + "        if (upr != null && upr.isShowing()) {\n"
+                    + "          upr.hide();\n"
+                    + "          upr = null;\n"
+                    + "        }\n"
+                    + "      }\n");
+        }
+        if (bool(v_viewModelDelete, "viewModelDelete")) {
+            out.append("\n"
+                    + "      if (this.widget.viewModel.delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report?.status ==\n"
+                    + "          ActionStatus.running) {\n"
+                    + "        if (dpr == null) {\n"
+                    + "          dpr = new ProgressDialog(context);\n"
+                    + "        }\n"
+                    + "        dpr.setMessage(\"Deleting...\");\n"
+                    + "        dpr.show();\n"
+                    + "      } else {\n"
+                    + "        if (dpr != null && dpr.isShowing()) {\n"
+                    + "          dpr.hide();\n"
+                    + "          dpr = null;\n"
+                    + "        }\n"
+                    + "      }\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("      if (this.widget.viewModel.loginReport?.status ==\n"
+                    + "          ActionStatus.running) {\n"
+                    + "        if (lpr == null) {\n"
+                    + "          lpr = new ProgressDialog(context);\n"
+                    + "        }\n"
+                    + "        lpr.setMessage(\"Login...\");\n"
+                    + "        lpr.show();\n"
+                    + "      } else if (this.widget.viewModel.loginReport?.status ==\n"
+                    + "          ActionStatus.error) {\n"
+                    + "        if (lpr != null && lpr.isShowing()) {\n"
+                    + "          lpr.hide();\n"
+                    + "          lpr = null;\n"
+                    + "        }\n"
+                    + "        showError(this.widget.viewModel.loginReport?.msg.toString());\n"
+                    + "      } else if (this.widget.viewModel.loginReport?.status ==\n"
+                    + "          ActionStatus.complete) {\n"
+                    + "        if (lpr != null && lpr.isShowing()) {\n"
+                    + "          lpr.hide();\n"
+                    + "          lpr = null;\n"
+                    + "        }\n"
+                    + "        Navigator.of(context).pushReplacementNamed(\"/home\");\n"
+                    + "      } else {\n"
+                    + "        if (lpr != null && lpr.isShowing()) {\n"
+                    + "          lpr.hide();\n"
+                    + "          lpr = null;\n"
+                    + "        }\n"
+                    + "        Navigator.of(context).pushReplacementNamed(\"/home\");\n"
+                    + "      }\n");
+        }
+        out.append("    });\n"
+                + "  }\n"
+                + "\n"
+                + "  void showError(String error) {\n"
+                + "    final snackBar = SnackBar(content: Text(error));\n"
+                + "    _scaffoldKey.currentState.showSnackBar(snackBar);\n"
+                + "  }\n"
+                + "\n"
+                + "  @override\n"
+                + "  Widget build(BuildContext context) {\n"
+                + "    var widget;\n"
+                + "\n");
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("    widget = loginForm();\n");
+        } else if (eq(v_PageType, "CUSTOMSCROLLVIEW", "PageType == \"CUSTOMSCROLLVIEW\"")) {
+            out.append("    widget = buildCustomScrollView();\n");
+        } else if (eq(v_PageType, "PROFILE", "PageType == \"PROFILE\"")) {
+        } else {
+            if (bool(v_GenerateListView, "GenerateListView")) {
+                out.append("    widget = NotificationListener(\n"
+                        + "        onNotification: _onNotification,\n"
+                        + "        child: RefreshIndicator(\n"
+                        + "          key: _refreshIndicatorKey,\n"
+                        + "          onRefresh: _handleRefresh,\n"
+                        + "          child: ListView.builder(\n"
+                        + "            controller: _scrollController,\n"
+                        + "            physics: const AlwaysScrollableScrollPhysics(),\n"
+                        + "            itemCount: this.widget.viewModel.");
+                out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+                out.append("s.length + 1,\n"
+                        + "            itemBuilder: (_, int index) => _createItem(context, index),\n"
+                        + "          ),\n"
+                        + "        ));\n");
+            } else if (bool(v_GenerateTopTabBar, "GenerateTopTabBar")) {
+                out.append("    widget = TabBarView(\n"
+                        + "      children: [\n"
+                        + "        Icon(Icons.directions_car),\n"
+                        + "        Icon(Icons.directions_transit),\n"
+                        + "        Icon(Icons.directions_bike),\n"
+                        + "      ],\n"
+                        + "    );\n");
+            } else if (bool(v_GenerateBottomTabBar, "GenerateBottomTabBar")) {
+                out.append("\twidget = PageView(\n"
+                        + "        children: <Widget>[ContactView(), Message(), Mine()],\n"
+                        + "        controller: pageController,\n"
+                        + "        onPageChanged: onPageChanged,\n"
+                        + "      );\n");
+            } else {
+                out.append("\t  widget = Text(\"Hello word\");\n");
+            }
+        }
+        if (bool(v_GenerateTopTabBar, "GenerateTopTabBar")) {
+            out.append("    return DefaultTabController(\n"
+                    + "      length: 3,\n"
+                    + "      child: Scaffold(\n"
+                    + "        appBar: AppBar(\n"
+                    + "          bottom: TabBar(\n"
+                    + "            tabs: [\n"
+                    + "              Tab(icon: Icon(Icons.directions_car)),\n"
+                    + "              Tab(icon: Icon(Icons.directions_transit)),\n"
+                    + "              Tab(icon: Icon(Icons.directions_bike)),\n"
+                    + "            ],\n"
+                    + "          ),\n"
+                    + "          title: Text(\"");
+            out.append(str(v_PageName, "PageName"));
+            out.append("\"),\n");
+            if ((size(v_ActionList, "ActionList") > 0)) {
+                out.append("\t\t  actions: _buildActionButton(),\n");
+            }
+            out.append("        ),\n"
+                    + "        body: widget,\n"
+                    + "      ),\n"
+                    + "    );\n");
+        } else {
+            out.append("    return Scaffold(\n"
+                    + "      key: _scaffoldKey,\n");
+            if ((eq(v_PageType, "MANNUL", "PageType ==\"MANNUL\"") && bool(v_GenerateAppBar, "GenerateAppBar"))) {
+                out.append("      appBar: AppBar(\n"
+                        + "        title: Text(");
+                if (bool(v_GenerateBottomTabBar, "GenerateBottomTabBar")) {
+                    out.append("pages[page]");
+                } else {
+                    out.append("\"");
+                    out.append(str(v_PageName, "PageName"));
+                    out.append("View\"");
+                }
+                out.append("),\n");
+                if ((size(v_ActionList, "ActionList") > 0)) {
+                    out.append("\t\tactions: _buildActionButton(),\n");
+                }
+                out.append("      ),\n");
+            }
+            if (bool(v_GenerateDrawer, "GenerateDrawer")) {
+                out.append("\t  drawer: _buildDrawer(),\n");
+            }
+            out.append("      body: widget,\n");
+            if (bool(v_GenerateBottomTabBar, "GenerateBottomTabBar")) {
+                out.append("\t  bottomNavigationBar: BottomNavigationBar(items: [\n"
+                        + "          BottomNavigationBarItem(\n"
+                        + "              icon: Icon(Icons.home),\n"
+                        + "              title: Text(pages[0]),\n"
+                        + "              backgroundColor: Colors.grey),\n"
+                        + "          BottomNavigationBarItem(\n"
+                        + "              icon: Icon(Icons.list),\n"
+                        + "              title: Text(pages[1]),\n"
+                        + "              backgroundColor: Colors.grey),\n"
+                        + "          BottomNavigationBarItem(\n"
+                        + "              icon: Icon(Icons.account_box),\n"
+                        + "              title: Text(pages[2]),\n"
+                        + "              backgroundColor: Colors.blue)\n"
+                        + "        ], onTap: onTap, currentIndex: page)\n");
+            }
+            out.append("    );\n");
+        }
+        out.append("  }\n");
+        if (bool(v_GenerateListView, "GenerateListView")) {
+            out.append("\n"
+                    + "  bool _onNotification(ScrollNotification notification) {\n"
+                    + "    if (notification is ScrollUpdateNotification) {\n"
+                    + "\n"
+                    + "      if (_scrollController.mostRecentlyUpdatedPosition.maxScrollExtent > _scrollController.offset &&\n"
+                    + "          _scrollController.mostRecentlyUpdatedPosition.maxScrollExtent - _scrollController.offset <= 50) {\n"
+                    + "        // load more\n"
+                    + "        if (this.widget.viewModel.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sReport?.status == ActionStatus.complete ||\n"
+                    + "            this.widget.viewModel.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sReport?.status == ActionStatus.error) {\n"
+                    + "          // have next page\n"
+                    + "          _loadMoreData();\n"
+                    + "          setState(() {});\n"
+                    + "        } else {}\n"
+                    + "      }\n"
+                    + "    }\n"
+                    + "\n"
+                    + "    return true;\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  Future<Null> _loadMoreData() {\n"
+                    + "    widget.viewModel.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s(false);\n"
+                    + "    return null;\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  Future<Null> _handleRefresh() async {\n"
+                    + "    _refreshIndicatorKey.currentState.show();\n"
+                    + "    widget.viewModel.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s(true);\n"
+                    + "    return null;\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  _createItem(BuildContext context, int index) {\n"
+                    + "    if (index < this.widget.viewModel.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s?.length) {\n"
+                    + "      return ");
+            if (bool(v_viewModelDelete, "viewModelDelete")) {
+                out.append("SwipeListItem<");
+                out.append(str(v_ModelEntryName, "ModelEntryName"));
+                out.append(">(\n"
+                        + "          item: this.widget.viewModel.");
+                out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+                out.append("s[index],\n"
+                        + "          onArchive: _handleArchive,\n"
+                        + "          onDelete: _handleDelete,\n"
+                        + "          child: ");
+            }
+            out.append("Container(\n"
+                    + "              child: _");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("ListItem(\n"
+                    + "                ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(": this.widget.viewModel.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s[index],\n"
+                    + "                onTap: () {\n"
+                    + "                  //Navigator.push(\n"
+                    + "                  //  context,\n"
+                    + "                  //  MaterialPageRoute(\n"
+                    + "                  //    builder: (context) =>\n"
+                    + "                  //        View");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("(");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(": this.widget.viewModel.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s[index]),\n"
+                    + "                  //  ),\n"
+                    + "                  //);\n"
+                    + "                },\n"
+                    + "              ),\n"
+                    + "              decoration: BoxDecoration(\n"
+                    + "                  border: Border(bottom: BorderSide(color: Theme.of(context).dividerColor))))");
+            if (bool(v_viewModelDelete, "viewModelDelete")) {
+                out.append(")");
+            }
+            out.append(";\n"
+                    + "    }\n"
+                    + "\n"
+                    + "    return Container(\n"
+                    + "      height: 44.0,\n"
+                    + "      child: Center(\n"
+                    + "        child: _getLoadMoreWidget(),\n"
+                    + "      ),\n"
+                    + "    );\n"
+                    + "  }\n");
+            if (bool(v_viewModelDelete, "viewModelDelete")) {
+                out.append("\n"
+                        + "  void _handleArchive(");
+                out.append(str(v_ModelEntryName, "ModelEntryName"));
+                out.append(" item) {}\n"
+                        + "\n"
+                        + "  void _handleDelete(");
+                out.append(str(v_ModelEntryName, "ModelEntryName"));
+                out.append(" item) {\n"
+                        + "    showDialog(\n"
+                        + "      context: context,\n"
+                        + "      builder: (BuildContext context) => AlertDialog(\n"
+                        + "            title: Text(\"DELETE\"),\n"
+                        + "            content: Text('Do you want to delete this item'),\n"
+                        + "            actions: <Widget>[\n"
+                        + "              FlatButton(\n"
+                        + "                  child: const Text('Cancel'),\n"
+                        + "                  onPressed: () {\n"
+                        + "                    Navigator.pop(context);\n"
+                        + "                  }),\n"
+                        + "              FlatButton(\n"
+                        + "                  child: const Text('Delete'),\n"
+                        + "                  onPressed: () {\n"
+                        + "                    this.widget.viewModel.delete");
+                out.append(str(v_ModelEntryName, "ModelEntryName"));
+                out.append("(item);\n"
+                        + "                    Navigator.pop(context);\n"
+                        + "                  })\n"
+                        + "            ],\n"
+                        + "          ),\n"
+                        + "    );\n"
+                        + "  }\n");
+            }
+            out.append("  \n"
+                    + "  Widget _getLoadMoreWidget() {\n"
+                    + "    if (this.widget.viewModel.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sReport?.status == ActionStatus.running) {\n"
+                    + "      return Padding(\n"
+                    + "          padding: const EdgeInsets.only(left: 16.0, right: 16.0),\n"
+                    + "          child: CircularProgressIndicator());\n"
+                    + "    } else {\n"
+                    + "      return SizedBox();\n"
+                    + "    }\n"
+                    + "  }\n");
+        }
+        if (bool(v_GenerateBottomTabBar, "GenerateBottomTabBar")) {
+            out.append("  \n"
+                    + "  void onTap(int index) {\n"
+                    + "    pageController.animateToPage(index,\n"
+                    + "        duration: const Duration(milliseconds: 300),\n"
+                    + "        curve: Curves.ease);\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  void onPageChanged(int page) {\n"
+                    + "    setState(() {\n"
+                    + "      this.page = page;\n"
+                    + "    });\n"
+                    + "  }\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("\n"
+                    + "  Widget loginForm() {\n"
+                    + "\treturn Center(\n"
+                    + "      child: Padding(\n"
+                    + "        padding: const EdgeInsets.only(\n"
+                    + "          left: 30.0,\n"
+                    + "          right: 30.0,\n"
+                    + "        ),\n"
+                    + "        child: ListView(\n"
+                    + "          shrinkWrap: true,\n"
+                    + "          children: [\n"
+                    + "            CircleAvatar(\n"
+                    + "                backgroundColor: Colors.transparent,\n"
+                    + "                radius: 48.0,\n"
+                    + "                child: Image.asset('assets/images/flower.png'),\n"
+                    + "            ),\n"
+                    + "            SizedBox(\n"
+                    + "              height: 48.0,\n"
+                    + "            ),\n"
+                    + "            TextField(\n"
+                    + "              maxLines: 1,\n"
+                    + "              onChanged: (name) => _userName = name,\n"
+                    + "              style: TextStyle(fontSize: 15.0, color: Colors.black),\n"
+                    + "              focusNode: _focusUserName,\n"
+                    + "              decoration: InputDecoration(\n"
+                    + "                  hintText: \"UserName\",\n"
+                    + "                  contentPadding: EdgeInsets.fromLTRB(20.0, 10.0, 20.0, 10.0),\n"
+                    + "                  border: OutlineInputBorder(\n"
+                    + "                      borderRadius: BorderRadius.circular(32.0)),\n"
+                    + "                  labelStyle: TextStyle(fontWeight: FontWeight.w700)),\n"
+                    + "            ),\n"
+                    + "            SizedBox(\n"
+                    + "              height: 20.0,\n"
+                    + "            ),\n"
+                    + "            TextField(\n"
+                    + "              maxLines: 1,\n"
+                    + "              obscureText: true,\n"
+                    + "              onChanged: (password) => _password = password,\n"
+                    + "              style: TextStyle(fontSize: 15.0, color: Colors.black),\n"
+                    + "              focusNode: _focusPassword,\n"
+                    + "              decoration: InputDecoration(\n"
+                    + "                  hintText: \"Password\",\n"
+                    + "                  contentPadding: EdgeInsets.fromLTRB(20.0, 10.0, 20.0, 10.0),\n"
+                    + "                  border: OutlineInputBorder(\n"
+                    + "                      borderRadius: BorderRadius.circular(32.0)),\n"
+                    + "                  labelStyle: TextStyle(fontWeight: FontWeight.w700)),\n"
+                    + "            ),\n"
+                    + "            SizedBox(\n"
+                    + "              height: 24.0,\n"
+                    + "            ),\n"
+                    + "            Padding(\n"
+                    + "              padding: EdgeInsets.symmetric(vertical: 16.0),\n"
+                    + "              child: Material(\n"
+                    + "                borderRadius: BorderRadius.circular(30.0),\n"
+                    + "                shadowColor: Colors.lightBlueAccent.shade100,\n"
+                    + "                elevation: 5.0,\n"
+                    + "                child: MaterialButton(\n"
+                    + "                  minWidth: 200.0,\n"
+                    + "                  height: 42.0,\n"
+                    + "                  onPressed: () {\n"
+                    + "                    if (_userName.isEmpty) {\n"
+                    + "                      showError(\"UserName is empty!\");\n"
+                    + "                      return;\n"
+                    + "                    }\n"
+                    + "\n"
+                    + "                    if (_password.isEmpty) {\n"
+                    + "                      showError(\"Password is empty!\");\n"
+                    + "                      return;\n"
+                    + "                    }\n"
+                    + "\n"
+                    + "                    widget.viewModel.login(Login(_userName, _password));\n"
+                    + "                  },\n"
+                    + "                  color: Colors.lightBlueAccent,\n"
+                    + "                  child: Text('Log In', style: TextStyle(color: Colors.white)),\n"
+                    + "                ),\n"
+                    + "              ),\n"
+                    + "            ),\n"
+                    + "            FlatButton(\n"
+                    + "              child: Text(\n"
+                    + "                'Forgot password?',\n"
+                    + "                style: TextStyle(color: Colors.black54),\n"
+                    + "              ),\n"
+                    + "              onPressed: () {},\n"
+                    + "            ),\n"
+                    + "          ],\n"
+                    + "        ),\n"
+                    + "      ),\n"
+                    + "    );\n"
+                    + "  }\n");
+        }
+        out.append("\n");
+        if (bool(v_GenerateCustomScrollView, "GenerateCustomScrollView")) {
+            out.append("\n"
+                    + "  Stack buildCustomScrollView() {\n"
+                    + "    var imagePath = \"assets/images/flower2.png\";\n"
+                    + "    return Stack(children: <Widget>[\n");
+            if (bool(v_FabInAppBar, "FabInAppBar")) {
+                out.append("      Positioned(\n"
+                        + "        top: 0.0,\n"
+                        + "        left: 0.0,\n"
+                        + "        right: 0.0,\n"
+                        + "        height: _appBarHeight + _fabHalfSize,\n"
+                        + "        child: Hero(\n"
+                        + "          tag: 'imagePath',\n"
+                        + "          child: Image.asset(\n"
+                        + "            imagePath,\n"
+                        + "            fit: BoxFit.cover,\n"
+                        + "          ),\n"
+                        + "        ),\n"
+                        + "      ),\n");
+            }
+            out.append("      CustomScrollView(\n"
+                    + "        slivers: <Widget>[\n"
+                    + "          SliverAppBar(\n"
+                    + "            expandedHeight: _appBarHeight");
+            if (bool(v_FabInAppBar, "FabInAppBar")) {
+                out.append(" - _fabHalfSize");
+            }
+            out.append(",\n"
+                    + "            pinned: true,\n"
+                    + "            floating: false,\n"
+                    + "            snap: false,\n"
+                    + "            backgroundColor: Colors.transparent,\n");
+            if ((num(v_ActionBtnCount, "ActionBtnCount") > 0)) {
+                out.append("            actions: _buildActionButton(),\n");
+            }
+            out.append("            flexibleSpace: FlexibleSpaceBar(\n"
+                    + "              title: const Text('Title'),\n"
+                    + "              background: Stack(\n"
+                    + "                fit: StackFit.expand,\n"
+                    + "                children: <Widget>[\n");
+            if (!bool(v_FabInAppBar, "FabInAppBar")) {
+                out.append("                  Hero(\n"
+                        + "                      tag: imagePath,\n"
+                        + "                      child: Image.asset(\n"
+                        + "                        imagePath,\n"
+                        + "                        fit: BoxFit.cover,\n"
+                        + "                        height: _appBarHeight,\n"
+                        + "                      )),\n");
+            }
+            out.append("                  // This gradient ensures that the toolbar icons are distinct\n"
+                    + "                  // against the background image.\n"
+                    + "                  const DecoratedBox(\n"
+                    + "                    decoration: const BoxDecoration(\n"
+                    + "                      gradient: const LinearGradient(\n"
+                    + "                        begin: const Alignment(0.0, -1.0),\n"
+                    + "                        end: const Alignment(0.0, -0.4),\n"
+                    + "                        colors: const <Color>[\n"
+                    + "                          const Color(0x60000000),\n"
+                    + "                          const Color(0x00000000)\n"
+                    + "                        ],\n"
+                    + "                      ),\n"
+                    + "                    ),\n"
+                    + "                  ),\n"
+                    + "                ],\n"
+                    + "              ),\n"
+                    + "            ),\n"
+                    + "          ),\n");
+            if (bool(v_GenSliverToBoxAdapter, "GenSliverToBoxAdapter")) {
+                out.append("          SliverToBoxAdapter(\n"
+                        + "              child: Stack(children: <Widget>[\n"
+                        + "              Container(\n"
+                        + "                padding: const EdgeInsets.only(top: _fabHalfSize),\n"
+                        + "                child: Container(\n"
+                        + "                    color: Theme.of(context).canvasColor,\n"
+                        + "                    child: Row(\n"
+                        + "                      children: <Widget>[\n"
+                        + "                        Expanded(\n"
+                        + "                          child: Card(\n"
+                        + "                            child: Text(\n"
+                        + "                                \"\\n1\\n2\\n3\\n4\\n5\\n6\\n7\\n8\\n9\\n10\\n11\\n12\\n13\\n14\\n15\\n16\\n17\\n18\\n19\\n20\\n21\\n22\\n1\\n2\\n3\\n4\\n5\\n6\\n7\\n8\\n9\\n10\\n11\\n12\\n13\\n14\\n15\\n16\\n17\\n18\\n19\\n20\\n2\"),\n"
+                        + "                          ),\n"
+                        + "                        )\n"
+                        + "                      ],\n"
+                        + "                    ))),\n");
+                if (bool(v_FabInAppBar, "FabInAppBar")) {
+                    out.append("            Positioned(\n"
+                            + "              right: 16.0,\n"
+                            + "              child: FloatingActionButton(\n"
+                            + "                child: Icon(Icons.favorite),\n"
+                            + "                onPressed: () {},\n"
+                            + "              ),\n"
+                            + "            )\n");
+                }
+                out.append("          ])),\n");
+            }
+            if (bool(v_GenSliverGrid, "GenSliverGrid")) {
+                out.append("          SliverGrid(\n"
+                        + "            gridDelegate: ");
+                out.append(str(v_PageName, "PageName"));
+                out.append("GridDelegate(),\n"
+                        + "            delegate: SliverChildBuilderDelegate(\n"
+                        + "              (BuildContext context, int index) {\n"
+                        + "                return _ProductItem(\n"
+                        + "                  product: index,\n"
+                        + "                  onPressed: () {},\n"
+                        + "                );\n"
+                        + "              },\n"
+                        + "              childCount: 20,\n"
+                        + "            ),\n"
+                        + "          ),\n");
+            }
+            if (bool(v_GenSliverFixedExtentList, "GenSliverFixedExtentList")) {
+                out.append("          SliverFixedExtentList(\n"
+                        + "            itemExtent: 50.0,\n"
+                        + "            delegate: SliverChildBuilderDelegate(\n"
+                        + "              (BuildContext context, int index) {\n"
+                        + "                return Container(\n"
+                        + "                  alignment: Alignment.center,\n"
+                        + "                  color: Colors.lightGreen[100 * (index % 9)],\n"
+                        + "                  child: Text('list item $index'),\n"
+                        + "                );\n"
+                        + "              },\n"
+                        + "              childCount: 15,\n"
+                        + "            ),\n"
+                        + "          ),\n");
+            }
+            out.append("        ],\n"
+                    + "      )\n"
+                    + "    ]);\n"
+                    + "  }\n");
+        }
+        if (bool(v_GenerateDrawer, "GenerateDrawer")) {
+            out.append(" \n"
+                    + "  Drawer _buildDrawer() {\n"
+                    + "    var fontFamily = \"Roboto\";\n"
+                    + "    var accountEmail = Text(\n"
+                    + "        \"hay@gmail.com\",\n"
+                    + "        style: TextStyle(\n"
+                    + "            color: Colors.white,\n"
+                    + "            fontSize: 14.0,\n"
+                    + "            fontFamily: fontFamily\n"
+                    + "        )\n"
+                    + "    );\n"
+                    + "    var accountName = Text(\n"
+                    + "        \"HAY\",\n"
+                    + "        style: TextStyle(\n"
+                    + "            color: Colors.white,\n"
+                    + "            fontSize: 18.0,\n"
+                    + "            fontFamily: fontFamily\n"
+                    + "        )\n"
+                    + "    );\n"
+                    + "    var accountPicture = CircleAvatar(\n"
+                    + "        child: Image.asset(\"assets/icons/ic_launcher.png\"),\n"
+                    + "        backgroundColor: Theme.of(context).accentColor\n"
+                    + "    );\n"
+                    + "\n"
+                    + "    var header = UserAccountsDrawerHeader(\n"
+                    + "      accountEmail: accountEmail,\n"
+                    + "      accountName: accountName,\n"
+                    + "      onDetailsPressed: _onTap,\n"
+                    + "      currentAccountPicture: accountPicture,\n"
+                    + "      decoration: BoxDecoration(\n"
+                    + "          color: Theme.of(context).primaryColor\n"
+                    + "      ),\n"
+                    + "    );\n"
+                    + "\n"
+                    + "    var tileItem1 = ListTile(\n"
+                    + "        leading: Icon(Icons.add_a_photo),\n"
+                    + "        title: Text(\"Add Photo\"),\n"
+                    + "        subtitle: Text(\"Add a photo to your album\"),\n"
+                    + "        onTap: _onTap\n"
+                    + "    );\n"
+                    + "    var tileItem2 = ListTile(\n"
+                    + "        leading: Icon(Icons.exit_to_app),\n"
+                    + "        title: Text(\"Exit\"),\n"
+                    + "        onTap: _onTap\n"
+                    + "    );\n"
+                    + "\n"
+                    + "    var listView = ListView(children: [header, tileItem1, tileItem2]);\n"
+                    + "\n"
+                    + "    var drawer = Drawer(child: listView);\n"
+                    + "\n"
+                    + "    return drawer;\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  void _onTap() {\n"
+                    + "    // Update the state of the app\n"
+                    + "    // ...\n"
+                    + "    // Then close the drawer\n"
+                    + "    Navigator.pop(context);\n"
+                    + "  }\n");
+        }
+        if ((num(v_ActionBtnCount, "ActionBtnCount") > 0)) {
+            out.append("  List<Widget> _buildActionButton() {\n"
+                    + "    return <Widget>[\n");
+            List<?> list0 = list(v_ActionList, "ActionList");
+            for (int v_act_index = 0; v_act_index < list0.size(); v_act_index++) {
+                String v_act = (String) list0.get(v_act_index);
+                boolean v_act_has_next = v_act_index + 1 < list0.size();
+                if ((v_act_index == 0)) {
+                    if (eq(v_act, "search", "act == \"search\"")) {
+                        out.append("      IconButton(\n"
+                                + "        icon: Icon(choices[0].icon),\n"
+                                + "        onPressed: () async {\n"
+                                + "          final int selected = await showSearch<int>(\n"
+                                + "            context: context,\n"
+                                + "            delegate: _delegate,\n"
+                                + "          );\n"
+                                + "          if (selected != null) {\n"
+                                + "            setState(() {\n"
+                                + "              showError(\"you select $selected\");\n"
+                                + "            });\n"
+                                + "          }\n"
+                                + "        },\n"
+                                + "      ),\n");
+                    } else {
+                        out.append("      IconButton(\n"
+                                + "        icon: Icon(choices[0].icon),\n"
+                                + "        onPressed: () {\n"
+                                + "          _select(choices[0]);\n"
+                                + "        },\n"
+                                + "      ),\n");
+                    }
+                }
+            }
+            if ((num(v_ActionBtnCount, "ActionBtnCount") > 1)) {
+                out.append("      // overflow menu\n"
+                        + "      PopupMenuButton<Choice>(\n"
+                        + "        onSelected: _select,\n"
+                        + "        itemBuilder: (BuildContext context) {\n"
+                        + "          return choices.skip(1).map((Choice choice) {\n"
+                        + "            return PopupMenuItem<Choice>(\n"
+                        + "              value: choice,\n"
+                        + "              child: Row(\n"
+                        + "                children: <Widget>[Icon(choice.icon), Text(choice.title)],\n"
+                        + "              ),\n"
+                        + "            );\n"
+                        + "          }).toList();\n"
+                        + "        },\n"
+                        + "      ),\n");
+            }
+            out.append("    ];\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  void _select(Choice choice) {\n"
+                    + "    // Causes the app to rebuild with the new _selectedChoice.\n"
+                    + "    setState(() {});\n"
+                    + "  }\n");
+        }
+        out.append("\n"
+                + "}\n");
+        if (bool(v_GenerateActionButton, "GenerateActionButton")) {
+            out.append("\n"
+                    + "const List<Choice> choices = const <Choice>[\n");
+            List<?> list1 = list(v_ActionList, "ActionList");
+            for (int v_act_index = 0; v_act_index < list1.size(); v_act_index++) {
+                String v_act = (String) list1.get(v_act_index);
+                boolean v_act_has_next = v_act_index + 1 < list1.size();
+                if (eq(v_act, "search", "act == \"search\"")) {
+                    out.append("  const Choice(title: 'Search', icon: Icons.search),\n");
+                }
+                if (eq(v_act, "add", "act == \"add\"")) {
+                    out.append("  const Choice(title: 'Add', icon: Icons.add),\n");
+                }
+                if (eq(v_act, "save", "act == \"save\"")) {
+                    out.append("  const Choice(title: 'Save', icon: Icons.save),\n");
+                }
+                if (eq(v_act, "edit", "act == \"edit\"")) {
+                    out.append("  const Choice(title: 'Edit', icon: Icons.edit),\n");
+                }
+            }
+            out.append("];\n");
+        }
+        if (bool(v_GenerateListView, "GenerateListView")) {
+            out.append("\n"
+                    + "class _");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("ListItem extends ListTile {\n"
+                    + "  _");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("ListItem({");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(" ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(", GestureTapCallback onTap})\n"
+                    + "      : super(\n"
+                    + "            title: Text(\"Title\"),\n"
+                    + "            subtitle: Text(\"Subtitle\"),\n"
+                    + "            leading: CircleAvatar(child: Text(\"T\")),\n"
+                    + "            onTap: onTap);\n"
+                    + "}\n");
+        }
+        if (bool(v_GenSliverGrid, "GenSliverGrid")) {
+            out.append("\n"
+                    + "class ");
+            out.append(str(v_PageName, "PageName"));
+            out.append("GridDelegate extends SpanableSliverGridDelegate {\n"
+                    + "  ");
+            out.append(str(v_PageName, "PageName"));
+            out.append("GridDelegate() : super(2, mainAxisSpacing: 10.0, crossAxisSpacing: 10.0);\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  int getCrossAxisSpan(int index) {\n"
+                    + "    if (index % 5 == 0) return 2;\n"
+                    + "\n"
+                    + "    return 1;\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  double getMainAxisExtent(int index) {\n"
+                    + "//    if(index == 0)\n"
+                    + "//      return 320.0;\n"
+                    + "//\n"
+                    + "//    if(index == 1 || index == 10)\n"
+                    + "//      return 250.0;\n"
+                    + "\n"
+                    + "    return 220.0;\n"
+                    + "  }\n"
+                    + "}\n"
+                    + "\n"
+                    + "class _ProductItem extends StatelessWidget {\n"
+                    + "  const _ProductItem({Key key, @required this.product, this.onPressed})\n"
+                    + "      : assert(product != null),\n"
+                    + "        super(key: key);\n"
+                    + "\n"
+                    + "  final int product;\n"
+                    + "  final VoidCallback onPressed;\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  Widget build(BuildContext context) {\n"
+                    + "    return MergeSemantics(\n"
+                    + "      child: Card(\n"
+                    + "        elevation: 2.0,\n"
+                    + "        child: Stack(\n"
+                    + "          children: <Widget>[\n"
+                    + "            Column(\n"
+                    + "              children: <Widget>[\n"
+                    + "                Align(\n"
+                    + "                  alignment: Alignment.centerRight,\n"
+                    + "                  child: Container(\n"
+                    + "                      padding:\n"
+                    + "                          EdgeInsets.symmetric(horizontal: 16.0, vertical: 8.0),\n"
+                    + "                      decoration:\n"
+                    + "                          BoxDecoration(color: Theme.of(context).canvasColor),\n"
+                    + "                      child: Text(\"\uffe512.0\")),\n"
+                    + "                ),\n"
+                    + "                Container(\n"
+                    + "                  foregroundDecoration: BoxDecoration(\n"
+                    + "                      border: Border.all(color: Colors.lightGreen)),\n"
+                    + "                  height: 144.0,\n"
+                    + "                  padding: const EdgeInsets.symmetric(horizontal: 8.0),\n"
+                    + "                  child: Hero(\n"
+                    + "                    tag: \"123 $product\",\n"
+                    + "                    child: Image.asset(\n"
+                    + "                      \"assets/products/shirt.png\",\n"
+                    + "                      fit: BoxFit.contain,\n"
+                    + "                    ),\n"
+                    + "                  ),\n"
+                    + "                ),\n"
+                    + "                Padding(\n"
+                    + "                  padding: const EdgeInsets.symmetric(horizontal: 8.0),\n"
+                    + "                  child: SizedBox(\n"
+                    + "                    height: 24.0,\n"
+                    + "                    child: Row(\n"
+                    + "                      children: <Widget>[\n"
+                    + "                        SizedBox(\n"
+                    + "                          width: 24.0,\n"
+                    + "                          child: ClipRRect(\n"
+                    + "                            borderRadius: BorderRadius.circular(12.0),\n"
+                    + "                            child: Image.asset(\n"
+                    + "                              \"assets/images/flower2.png\",\n"
+                    + "                              fit: BoxFit.cover,\n"
+                    + "                            ),\n"
+                    + "                          ),\n"
+                    + "                        ),\n"
+                    + "                        const SizedBox(width: 8.0),\n"
+                    + "                        Expanded(\n"
+                    + "                          child: Text(\"name $product\"),\n"
+                    + "                        ),\n"
+                    + "                      ],\n"
+                    + "                    ),\n"
+                    + "                  ),\n"
+                    + "                ),\n"
+                    + "              ],\n"
+                    + "            ),\n"
+                    + "            Material(\n"
+                    + "              type: MaterialType.transparency,\n"
+                    + "              child: InkWell(onTap: onPressed),\n"
+                    + "            ),\n"
+                    + "          ],\n"
+                    + "        ),\n"
+                    + "      ),\n"
+                    + "    );\n"
+                    + "  }\n"
+                    + "}\n");
+        }
+        if (bool(v_HasActionSearch, "HasActionSearch")) {
+            out.append("\n"
+                    + "class _SearchDemoSearchDelegate extends SearchDelegate<int> {\n"
+                    + "  final List<int> _data =\n"
+                    + "      List<int>.generate(100001, (int i) => i).reversed.toList();\n"
+                    + "  final List<int> _history = <int>[42607, 85604, 66374, 44, 174];\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  Widget buildLeading(BuildContext context) {\n"
+                    + "    return IconButton(\n"
+                    + "      tooltip: 'Back',\n"
+                    + "      icon: AnimatedIcon(\n"
+                    + "        icon: AnimatedIcons.menu_arrow,\n"
+                    + "        progress: transitionAnimation,\n"
+                    + "      ),\n"
+                    + "      onPressed: () {\n"
+                    + "        close(context, null);\n"
+                    + "      },\n"
+                    + "    );\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  Widget buildSuggestions(BuildContext context) {\n"
+                    + "    final Iterable<int> suggestions = query.isEmpty\n"
+                    + "        ? _history\n"
+                    + "        : _data.where((int i) => '$i'.startsWith(query));\n"
+                    + "\n"
+                    + "    return _SuggestionList(\n"
+                    + "      query: query,\n"
+                    + "      suggestions: suggestions.map((int i) => '$i').toList(),\n"
+                    + "      onSelected: (String suggestion) {\n"
+                    + "        query = suggestion;\n"
+                    + "        showResults(context);\n"
+                    + "      },\n"
+                    + "    );\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  Widget buildResults(BuildContext context) {\n"
+                    + "    final int searched = int.tryParse(query);\n"
+                    + "    if (searched == null || !_data.contains(searched)) {\n"
+                    + "      return Center(\n"
+                    + "        child: Text(\n"
+                    + "          '\"$query\"\\n is not a valid integer between 0 and 100,000.\\nTry again.',\n"
+                    + "          textAlign: TextAlign.center,\n"
+                    + "        ),\n"
+                    + "      );\n"
+                    + "    }\n"
+                    + "\n"
+                    + "    return ListView(\n"
+                    + "      children: <Widget>[\n"
+                    + "        _ResultCard(\n"
+                    + "          title: 'This integer',\n"
+                    + "          integer: searched,\n"
+                    + "          searchDelegate: this,\n"
+                    + "        ),\n"
+                    + "        _ResultCard(\n"
+                    + "          title: 'Next integer',\n"
+                    + "          integer: searched + 1,\n"
+                    + "          searchDelegate: this,\n"
+                    + "        ),\n"
+                    + "        _ResultCard(\n"
+                    + "          title: 'Previous integer',\n"
+                    + "          integer: searched - 1,\n"
+                    + "          searchDelegate: this,\n"
+                    + "        ),\n"
+                    + "      ],\n"
+                    + "    );\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  List<Widget> buildActions(BuildContext context) {\n"
+                    + "    return <Widget>[\n"
+                    + "      query.isEmpty\n"
+                    + "          ? IconButton(\n"
+                    + "              tooltip: 'Voice Search',\n"
+                    + "              icon: const Icon(Icons.mic),\n"
+                    + "              onPressed: () {\n"
+                    + "                query = 'TODO: implement voice input';\n"
+                    + "              },\n"
+                    + "            )\n"
+                    + "          : IconButton(\n"
+                    + "              tooltip: 'Clear',\n"
+                    + "              icon: const Icon(Icons.clear),\n"
+                    + "              onPressed: () {\n"
+                    + "                query = '';\n"
+                    + "                showSuggestions(context);\n"
+                    + "              },\n"
+                    + "            )\n"
+                    + "    ];\n"
+                    + "  }\n"
+                    + "}\n"
+                    + "\n"
+                    + "class _ResultCard extends StatelessWidget {\n"
+                    + "  const _ResultCard({this.integer, this.title, this.searchDelegate});\n"
+                    + "\n"
+                    + "  final int integer;\n"
+                    + "  final String title;\n"
+                    + "  final SearchDelegate<int> searchDelegate;\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  Widget build(BuildContext context) {\n"
+                    + "    final ThemeData theme = Theme.of(context);\n"
+                    + "    return GestureDetector(\n"
+                    + "      onTap: () {\n"
+                    + "        searchDelegate.close(context, integer);\n"
+                    + "      },\n"
+                    + "      child: Card(\n"
+                    + "        child: Padding(\n"
+                    + "          padding: const EdgeInsets.all(8.0),\n"
+                    + "          child: Column(\n"
+                    + "            children: <Widget>[\n"
+                    + "              Text(title),\n"
+                    + "              Text(\n"
+                    + "                '$integer',\n"
+                    + "                style: theme.textTheme.headline.copyWith(fontSize: 72.0),\n"
+                    + "              ),\n"
+                    + "            ],\n"
+                    + "          ),\n"
+                    + "        ),\n"
+                    + "      ),\n"
+                    + "    );\n"
+                    + "  }\n"
+                    + "}\n"
+                    + "\n"
+                    + "class _SuggestionList extends StatelessWidget {\n"
+                    + "  const _SuggestionList({this.suggestions, this.query, this.onSelected});\n"
+                    + "\n"
+                    + "  final List<String> suggestions;\n"
+                    + "  final String query;\n"
+                    + "  final ValueChanged<String> onSelected;\n"
+                    + "\n"
+                    + "  @override\n"
+                    + "  Widget build(BuildContext context) {\n"
+                    + "    final ThemeData theme = Theme.of(context);\n"
+                    + "    return ListView.builder(\n"
+                    + "      itemCount: suggestions.length,\n"
+                    + "      itemBuilder: (BuildContext context, int i) {\n"
+                    + "        final String suggestion = suggestions[i];\n"
+                    + "        return ListTile(\n"
+                    + "          leading: query.isEmpty ? const Icon(Icons.history) : const Icon(null),\n"
+                    + "          title: RichText(\n"
+                    + "            text: TextSpan(\n"
+                    + "              text: suggestion.substring(0, query.length),\n"
+                    + "              style:\n"
+                    + "                  theme.textTheme.subhead.copyWith(fontWeight: FontWeight.bold),\n"
+                    + "              children: <TextSpan>[\n"
+                    + "                TextSpan(\n"
+                    + "                  text: suggestion.substring(query.length),\n"
+                    + "                  style: theme.textTheme.subhead,\n"
+                    + "                ),\n"
+                    + "              ],\n"
+                    + "            ),\n"
+                    + "          ),\n"
+                    + "          onTap: () {\n"
+                    + "            onSelected(suggestion);\n"
+                    + "          },\n"
+                    + "        );\n"
+                    + "      },\n"
+                    + "    );\n"
+                    + "  }\n"
+                    + "}\n");
+        }
+    }
+}
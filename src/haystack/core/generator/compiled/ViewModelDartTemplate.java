@@ -0,0 +1,326 @@
+package haystack.core.generator.compiled;
+
+import haystack.core.generator.CompiledTemplate;
+import haystack.core.models.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static haystack.core.generator.RenderSupport.*;
+
+/**
+ * Generated from view_model.dart.ftl by TemplateCompiler, do not edit.
+ */
+public final class ViewModelDartTemplate implements CompiledTemplate {
+
+    @Override
+    public void render(Map<String, Object> model, StringBuilder out) {
+        Object v_ProjectName = model.get("ProjectName");
+        Object v_ModelEntryName = model.get("ModelEntryName");
+        Object v_PageName = model.get("PageName");
+        Object v_viewModelQuery = model.get("viewModelQuery");
+        Object v_GenerateListView = model.get("GenerateListView");
+        Object v_viewModelGet = model.get("viewModelGet");
+        Object v_clsUNNameType = model.get("clsUNNameType");
+        Object v_viewModelCreate = model.get("viewModelCreate");
+        Object v_viewModelUpdate = model.get("viewModelUpdate");
+        Object v_viewModelDelete = model.get("viewModelDelete");
+        Object v_PageType = model.get("PageType");
+        Object v_clsUNName = model.get("clsUNName");
+        out.append("import 'package:redux/redux.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/data/model/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_data.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/action_report.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/app/app_state.dart';\n"
+                + "import 'package:");
+        out.append(str(v_ProjectName, "ProjectName"));
+        out.append("/redux/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("/");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("_actions.dart';\n"
+                + "\n"
+                + "class ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel {\n"
+                + "  final ");
+        out.append(str(v_ModelEntryName, "ModelEntryName"));
+        out.append(" ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(";\n");
+        if ((bool(v_viewModelQuery, "viewModelQuery") || bool(v_GenerateListView, "GenerateListView"))) {
+            out.append("  final List<");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("> ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s;\n"
+                    + "  final Function(bool) get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s;\n"
+                    + "  final Function() cancel");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s;\n"
+                    + "  final ActionReport get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sReport;\n");
+        }
+        if (bool(v_viewModelGet, "viewModelGet")) {
+            out.append("  final Function(");
+            out.append(str(def(v_clsUNNameType, ""), "clsUNNameType!"));
+            out.append(") get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(";\n"
+                    + "  final ActionReport get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report;\n");
+        }
+        if (bool(v_viewModelCreate, "viewModelCreate")) {
+            out.append("  final Function(");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(") create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(";\n"
+                    + "  final ActionReport create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report;\n");
+        }
+        if (bool(v_viewModelUpdate, "viewModelUpdate")) {
+            out.append("  final Function(");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(") update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(";\n"
+                    + "  final ActionReport update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report;\n");
+        }
+        if (bool(v_viewModelDelete, "viewModelDelete")) {
+            out.append("  final Function(");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(") delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(";\n"
+                    + "  final ActionReport delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report;\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("  final Function(Login) login;\n"
+                    + "  final ActionReport loginReport;\n");
+        }
+        out.append("\n"
+                + "  ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel({\n"
+                + "    this.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(",\n");
+        if ((bool(v_viewModelQuery, "viewModelQuery") || bool(v_GenerateListView, "GenerateListView"))) {
+            out.append("    this.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s,\n"
+                    + "    this.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s,\n"
+                    + "    this.cancel");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s,\n"
+                    + "    this.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sReport,\n");
+        }
+        if (bool(v_viewModelGet, "viewModelGet")) {
+            out.append("    this.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(",\n"
+                    + "    this.get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report,\n");
+        }
+        if (bool(v_viewModelCreate, "viewModelCreate")) {
+            out.append("    this.create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(",\n"
+                    + "    this.create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report,\n");
+        }
+        if (bool(v_viewModelUpdate, "viewModelUpdate")) {
+            out.append("    this.update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(",\n"
+                    + "    this.update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report,\n");
+        }
+        if (bool(v_viewModelDelete, "viewModelDelete")) {
+            out.append("    this.delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(",\n"
+                    + "    this.delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report,\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("    this.login,\n"
+                    + "    this.loginReport,\n");
+        }
+        out.append("  });\n"
+                + "\n"
+                + "  static ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel fromStore(Store<AppState> store) {\n"
+                + "    return ");
+        out.append(str(v_PageName, "PageName"));
+        out.append("ViewModel(\n"
+                + "      ");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(": store.state.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append("State.");
+        out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+        out.append(",\n");
+        if ((bool(v_viewModelQuery, "viewModelQuery") || bool(v_GenerateListView, "GenerateListView"))) {
+            out.append("      ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s: store.state.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("State.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("s.values.toList() ?? [],\n"
+                    + "      get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s: (isRefresh) {\n"
+                    + "        store.dispatch(Get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sAction(isRefresh: isRefresh));\n"
+                    + "      },\n"
+                    + "      cancel");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("s: () {\n"
+                    + "        store.dispatch(Cancel");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sAction());\n"
+                    + "      },\n"
+                    + "      get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sReport: store.state.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("State.status[\"Get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("sAction\"],\n");
+        }
+        if (bool(v_viewModelGet, "viewModelGet")) {
+            out.append("      get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(": (");
+            if ((v_clsUNNameType != null)) {
+                out.append(str(def(v_clsUNName, ""), "clsUNName!"));
+            } else {
+            }
+            out.append(") {\n"
+                    + "        store.dispatch(Get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action(");
+            if ((v_clsUNNameType != null)) {
+                out.append(str(def(v_clsUNName, ""), "clsUNName!"));
+                out.append(": ");
+                out.append(str(def(v_clsUNName, ""), "clsUNName!"));
+            } else {
+            }
+            out.append("));\n"
+                    + "      },\n"
+                    + "      get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report: store.state.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("State.status[\"Get");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action\"],\n");
+        }
+        if (bool(v_viewModelCreate, "viewModelCreate")) {
+            out.append("      create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(": (");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(") {\n"
+                    + "        store.dispatch(Create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action(");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(": ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("));\n"
+                    + "      },\n"
+                    + "      create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report: store.state.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("State.status[\"Create");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action\"],\n");
+        }
+        if (bool(v_viewModelUpdate, "viewModelUpdate")) {
+            out.append("      update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(": (");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(") {\n"
+                    + "        store.dispatch(Update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action(");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(": ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("));\n"
+                    + "      },\n"
+                    + "      update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report: store.state.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("State.status[\"Update");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action\"],\n");
+        }
+        if (bool(v_viewModelDelete, "viewModelDelete")) {
+            out.append("      delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append(": (");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(") {\n"
+                    + "        store.dispatch(Delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action(");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append(": ");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("));\n"
+                    + "      },\n"
+                    + "      delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Report: store.state.");
+            out.append(str(str(v_ModelEntryName, "(ModelEntryName)").toLowerCase(), "(ModelEntryName)?lower_case"));
+            out.append("State.status[\"Delete");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("Action\"],\n");
+        }
+        if (eq(v_PageType, "LOGIN", "PageType == \"LOGIN\"")) {
+            out.append("      login: (l) {\n"
+                    + "        store.dispatch(");
+            out.append(str(v_ModelEntryName, "ModelEntryName"));
+            out.append("LoginAction(l: l));\n"
+                    + "      },\n"
+                    + "      loginReport: store.state.userState.status[\"UserLoginAction\"],\n");
+        }
+        out.append("    );\n"
+                + "  }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,123 @@
+package haystack.core.generator.compiler;
+
+import haystack.core.generator.LayeredModel;
+import haystack.core.generator.ModelWrapper;
+import haystack.core.generator.RenderJob;
+import haystack.core.generator.RenderPipeline;
+import haystack.core.generator.RenderedFile;
+import haystack.core.generator.TemplateEngine;
+import haystack.core.generator.compiled.CompiledTemplates;
+import haystack.core.models.FieldModel;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Renders the page and model templates for a synthetic schema with Freemarker over plain maps,
+ * with Freemarker over {@link LayeredModel}s and with the compiled templates, checks all give
+ * the same text and prints the time each takes.
+ * Arguments: class count, fields per class and rounds (default 200, 40, 10). Needs the
+ * templates on the classpath.
+ */
+public class TemplateBenchmark {
+
+    private static final String[] TYPES = {"int", "double", "String", "bool", "DateTime", "List<int>", "List<String>"};
+
+    private static final String[] PAGE_TEMPLATES = {"view.dart.ftl", "view_model.dart.ftl", "actions.dart.ftl",
+            "middleware.dart.ftl", "reducer.dart.ftl", "state.dart.ftl", "repository.dart.ftl", "repository_db.dart.ftl"};
+
+    public static void main(String[] args) {
+        int classCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int fieldCount = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        List<RenderJob> jobs = createJobs(classCount, fieldCount, false);
+        List<RenderJob> layeredJobs = createJobs(classCount, fieldCount, true);
+        TemplateEngine engine = new TemplateEngine(TemplateBenchmark.class.getClassLoader(), "/");
+        engine.precompile();
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        RenderPipeline interpreted = new RenderPipeline(engine.getConfiguration(), name -> null, singleThread);
+        RenderPipeline compiled = new RenderPipeline(engine.getConfiguration(), CompiledTemplates::get, singleThread);
+
+        List<RenderedFile> expected = interpreted.render(jobs);
+        check(expected, interpreted.render(layeredJobs));
+        check(expected, compiled.render(jobs));
+
+        System.out.println(jobs.size() + " files, " + classCount + " classes of " + fieldCount + " fields, single thread");
+        System.out.println("interpreted:             " + time(interpreted, jobs, rounds) + " ms per round");
+        System.out.println("interpreted, layered:    " + time(interpreted, layeredJobs, rounds) + " ms per round");
+        System.out.println("compiled:                " + time(compiled, jobs, rounds) + " ms per round");
+        singleThread.shutdown();
+    }
+
+    private static void check(List<RenderedFile> expected, List<RenderedFile> actual) {
+        if (actual.size() != expected.size()) {
+            throw new IllegalStateException("Some templates failed to render");
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).getContent().equals(actual.get(i).getContent())) {
+                throw new IllegalStateException("Output differs for " + expected.get(i).getTemplate());
+            }
+        }
+    }
+
+    private static long time(RenderPipeline pipeline, List<RenderJob> jobs, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            pipeline.render(jobs);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            pipeline.render(jobs);
+        }
+        return (System.nanoTime() - start) / rounds / 1000000;
+    }
+
+    private static List<RenderJob> createJobs(int classCount, int fieldCount, boolean layered) {
+        Random random = new Random(42);
+        Map<String, Object> rootMap = layered ? new LayeredModel(new ModelWrapper()) : new HashMap<>();
+        rootMap.put("ProjectName", "benchmark");
+        rootMap.put("PageName", "Catalog");
+        rootMap.put("ModelEntryName", "Item0");
+        rootMap.put("PageType", "MANNUL");
+        for (String flag : new String[]{"GenerateCustomScrollView", "GenerateListView", "GenerateBottomTabBar",
+                "GenerateAppBar", "GenerateDrawer", "GenerateTopTabBar", "GenerateWebView", "GenerateActionButton",
+                "viewModelQuery", "viewModelGet", "viewModelCreate", "viewModelUpdate", "viewModelDelete",
+                "GenSliverFixedExtentList", "GenSliverGrid", "GenSliverToBoxAdapter", "FabInAppBar", "IsCustomWidget",
+                "HasActionSearch", "genDatabase", "decodeInBackground", "cacheResponses"}) {
+            rootMap.put(flag, true);
+        }
+        rootMap.put("GenerateCustomScrollView", false);
+        rootMap.put("IsCustomWidget", false);
+        List<String> actions = Arrays.asList("search", "add", "edit", "save");
+        rootMap.put("ActionList", actions);
+        rootMap.put("ActionBtnCount", actions.size());
+        rootMap.put("clsUNName", "id");
+        rootMap.put("clsUNNameType", "int");
+
+        List<RenderJob> jobs = new ArrayList<>();
+        for (int c = 0; c < classCount; c++) {
+            List<FieldModel> fields = new ArrayList<>();
+            FieldModel id = new FieldModel("id", "id", "int", "int");
+            id.setDefaultValue("null");
+            fields.add(id);
+            for (int f = 1; f < fieldCount; f++) {
+                String type = c + 1 < classCount && f == 1 ? "Item" + (c + 1) : TYPES[random.nextInt(TYPES.length)];
+                FieldModel field = new FieldModel("field_" + f, "field" + f, type, type.startsWith("Item") ? "Object" : type);
+                field.setDefaultValue("null");
+                fields.add(field);
+            }
+            Map<String, Object> subMap = layered ? ((LayeredModel) rootMap).child() : new HashMap<>(rootMap);
+            subMap.put("ModelEntryName", "Item" + c);
+            subMap.put("Fields", fields);
+            jobs.add(new RenderJob(new File("item" + c + "_data.dart"), "model_entry_data.dart.ftl", subMap));
+            if (c == 0) {
+                rootMap.put("Fields", fields);
+            }
+        }
+        for (String template : PAGE_TEMPLATES) {
+            jobs.add(new RenderJob(new File(template), template, rootMap));
+        }
+        return jobs;
+    }
+}
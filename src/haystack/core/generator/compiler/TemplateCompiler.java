@@ -0,0 +1,797 @@
+package haystack.core.generator.compiler;
+
+import haystack.core.generator.TemplateEngine;
+import haystack.core.models.FieldModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Build step translating the bundled templates into {@link haystack.core.generator.CompiledTemplate}
+ * classes, one per template plus a {@code CompiledTemplates} registry, written to the
+ * {@code haystack.core.generator.compiled} package. Run it after changing a template:
+ * <pre>
+ * java haystack.core.generator.compiler.TemplateCompiler resources src/haystack/core/generator/compiled
+ * </pre>
+ * Only the subset of FTL the templates use is understood: {@code if/elseif/else}, {@code list}
+ * with {@code _index} and {@code _has_next}, interpolations, comparisons, {@code !}, {@code ??}
+ * and a few string and sequence built-ins, with Freemarker's white-space stripping. A template
+ * using anything else is skipped and keeps being rendered by Freemarker. Properties of list
+ * items with a known type (see {@link #ITEM_TYPES}) become direct getter calls.
+ */
+public class TemplateCompiler {
+
+    static final String PACKAGE = "haystack.core.generator.compiled";
+
+    static final Map<String, Class<?>> ITEM_TYPES = new HashMap<>();
+
+    static {
+        ITEM_TYPES.put("Fields", FieldModel.class);
+        ITEM_TYPES.put("ActionList", String.class);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TemplateCompiler <template dir> <output dir>");
+            System.exit(1);
+        }
+        File templateDir = new File(args[0]);
+        File outputDir = new File(args[1]);
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Cannot create " + outputDir);
+        }
+        Map<String, String> compiled = new TreeMap<>();
+        for (String name : TemplateEngine.TEMPLATE_NAMES) {
+            String source = new String(Files.readAllBytes(new File(templateDir, name).toPath()), StandardCharsets.UTF_8);
+            String className = className(name);
+            try {
+                String java = new TemplateCompiler().compile(name, className, source);
+                Files.write(new File(outputDir, className + ".java").toPath(), java.getBytes(StandardCharsets.UTF_8));
+                compiled.put(name, className);
+            } catch (CompileException e) {
+                System.err.println(name + ": " + e.getMessage() + ", left to Freemarker");
+            }
+        }
+        Files.write(new File(outputDir, "CompiledTemplates.java").toPath(),
+                registry(compiled).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Compiled " + compiled.size() + " of " + TemplateEngine.TEMPLATE_NAMES.length + " templates");
+    }
+
+    static String className(String templateName) {
+        StringBuilder name = new StringBuilder();
+        boolean upper = true;
+        for (char c : templateName.substring(0, templateName.length() - ".ftl".length()).toCharArray()) {
+            if (!Character.isLetterOrDigit(c)) {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.append("Template").toString();
+    }
+
+    private static String registry(Map<String, String> compiled) {
+        StringBuilder java = new StringBuilder();
+        java.append("package ").append(PACKAGE).append(";\n\n")
+                .append("import haystack.core.generator.CompiledTemplate;\n\n")
+                .append("import java.util.HashMap;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n * Generated by TemplateCompiler, do not edit.\n */\n")
+                .append("public final class CompiledTemplates {\n\n")
+                .append("    private static final Map<String, CompiledTemplate> TEMPLATES = new HashMap<>();\n\n")
+                .append("    static {\n");
+        for (Map.Entry<String, String> entry : compiled.entrySet()) {
+            java.append("        TEMPLATES.put(\"").append(entry.getKey()).append("\", new ")
+                    .append(entry.getValue()).append("());\n");
+        }
+        java.append("    }\n\n")
+                .append("    private CompiledTemplates() {\n    }\n\n")
+                .append("    public static CompiledTemplate get(String templateName) {\n")
+                .append("        return TEMPLATES.get(templateName);\n")
+                .append("    }\n")
+                .append("}\n");
+        return java.toString();
+    }
+
+    // ---- template structure ----
+
+    private static final int TEXT = 0;
+    private static final int INTERPOLATION = 1;
+    private static final int TAG = 2;
+
+    private static class Token {
+        final int type;
+        final String text;
+        final String name;
+        final int start;
+        final int end;
+
+        Token(int type, String text, String name, int start, int end) {
+            this.type = type;
+            this.text = text;
+            this.name = name;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private String source;
+    private int pos;
+    private boolean scanning;
+    private final Deque<Map<String, Expr>> scopes = new ArrayDeque<>();
+    private final Map<String, String> rootVariables = new LinkedHashMap<>();
+    private int listCount;
+
+    String compile(String templateName, String className, String source) {
+        this.source = source;
+        scanning = true;
+        List<Token> tokens = stripWhiteSpace(tokenize());
+        scanning = false;
+        StringBuilder body = new StringBuilder();
+        scopes.push(new HashMap<>());
+        int end = emitBlock(tokens, 0, body, 2);
+        if (end != tokens.size()) {
+            throw new CompileException("Unexpected <#" + tokens.get(end).name + ">");
+        }
+
+        StringBuilder java = new StringBuilder();
+        java.append("package ").append(PACKAGE).append(";\n\n")
+                .append("import haystack.core.generator.CompiledTemplate;\n")
+                .append("import haystack.core.models.FieldModel;\n\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n\n")
+                .append("import static haystack.core.generator.RenderSupport.*;\n\n")
+                .append("/**\n * Generated from ").append(templateName).append(" by TemplateCompiler, do not edit.\n */\n")
+                .append("public final class ").append(className).append(" implements CompiledTemplate {\n\n")
+                .append("    @Override\n")
+                .append("    public void render(Map<String, Object> model, StringBuilder out) {\n");
+        for (Map.Entry<String, String> variable : rootVariables.entrySet()) {
+            java.append("        Object ").append(variable.getValue()).append(" = model.get(\"")
+                    .append(variable.getKey()).append("\");\n");
+        }
+        java.append(body)
+                .append("    }\n")
+                .append("}\n");
+        return java.toString();
+    }
+
+    /**
+     * Splits the template into text, interpolations and tags. Expressions are only scanned
+     * here, to find where they end; they are compiled once the loop variables are known.
+     */
+    private List<Token> tokenize() {
+        List<Token> tokens = new ArrayList<>();
+        int textStart = 0;
+        pos = 0;
+        while (pos < source.length()) {
+            int start = pos;
+            if (source.startsWith("${", pos)) {
+                addText(tokens, textStart, start);
+                pos += 2;
+                int exprStart = pos;
+                parseExpression(false);
+                expect('}');
+                tokens.add(new Token(INTERPOLATION, source.substring(exprStart, pos - 1), null, start, pos));
+                textStart = pos;
+            } else if (source.startsWith("<#--", pos)) {
+                addText(tokens, textStart, start);
+                int end = source.indexOf("-->", pos);
+                if (end < 0) {
+                    throw new CompileException("Unclosed comment");
+                }
+                pos = end + 3;
+                tokens.add(new Token(TAG, null, "--", start, pos));
+                textStart = pos;
+            } else if (source.startsWith("<#", pos) || source.startsWith("</#", pos)) {
+                addText(tokens, textStart, start);
+                boolean closing = source.charAt(pos + 1) == '/';
+                pos += closing ? 3 : 2;
+                int nameStart = pos;
+                while (pos < source.length() && Character.isLetter(source.charAt(pos))) {
+                    pos++;
+                }
+                String name = (closing ? "/" : "") + source.substring(nameStart, pos);
+                int paramsStart = pos;
+                if (name.equals("if") || name.equals("elseif") || name.equals("list")) {
+                    parseExpression(true);
+                    if (name.equals("list")) {
+                        skipSpaces();
+                        if (!source.startsWith("as", pos)) {
+                            throw new CompileException("Expected 'as' in <#list>");
+                        }
+                        pos += 2;
+                        skipSpaces();
+                        identifier();
+                    }
+                }
+                String params = source.substring(paramsStart, pos).trim();
+                skipSpaces();
+                expect('>');
+                tokens.add(new Token(TAG, params, name, start, pos));
+                textStart = pos;
+            } else {
+                pos++;
+            }
+        }
+        addText(tokens, textStart, source.length());
+        return tokens;
+    }
+
+    /**
+     * Adds the text between two tags, split after each line break so white-space stripping
+     * can work line by line.
+     */
+    private void addText(List<Token> tokens, int start, int end) {
+        while (start < end) {
+            int lineEnd = source.indexOf('\n', start);
+            int pieceEnd = lineEnd < 0 || lineEnd >= end ? end : lineEnd + 1;
+            tokens.add(new Token(TEXT, source.substring(start, pieceEnd), null, start, pieceEnd));
+            start = pieceEnd;
+        }
+    }
+
+    /**
+     * Drops the indentation and the line break of every line holding nothing but FTL tags.
+     */
+    private static List<Token> stripWhiteSpace(List<Token> tokens) {
+        List<Token> result = new ArrayList<>(tokens.size());
+        int lineStart = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            boolean lineEnd = i == tokens.size() - 1 || token.type == TEXT && token.text.endsWith("\n");
+            if (!lineEnd) {
+                continue;
+            }
+            boolean hasTag = false;
+            boolean onlyTags = true;
+            for (int j = lineStart; j <= i; j++) {
+                Token t = tokens.get(j);
+                if (t.type == TAG) {
+                    hasTag = true;
+                } else if (t.type == INTERPOLATION || !t.text.trim().isEmpty()) {
+                    onlyTags = false;
+                }
+            }
+            for (int j = lineStart; j <= i; j++) {
+                Token t = tokens.get(j);
+                if (!(hasTag && onlyTags && t.type == TEXT)) {
+                    result.add(t);
+                }
+            }
+            lineStart = i + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Emits tokens from {@code index} until a tag closing or continuing the enclosing block,
+     * returning that tag's index.
+     */
+    private int emitBlock(List<Token> tokens, int index, StringBuilder java, int indent) {
+        StringBuilder text = new StringBuilder();
+        while (index < tokens.size()) {
+            Token token = tokens.get(index);
+            if (token.type == TEXT) {
+                text.append(token.text);
+                index++;
+                continue;
+            }
+            emitText(text, java, indent);
+            if (token.type == INTERPOLATION) {
+                pos = token.start + 2;
+                Expr expr = parseExpression(false);
+                line(java, indent, "out.append(" + expr.asString() + ");");
+                index++;
+            } else if (token.name.equals("--")) {
+                index++;
+            } else if (token.name.equals("if")) {
+                index = emitIf(tokens, index, java, indent);
+            } else if (token.name.equals("list")) {
+                index = emitList(tokens, index, java, indent);
+            } else if (token.name.equals("else") || token.name.equals("elseif")
+                    || token.name.equals("/if") || token.name.equals("/list")) {
+                return index;
+            } else {
+                throw new CompileException("Unsupported directive <#" + token.name + ">");
+            }
+        }
+        emitText(text, java, indent);
+        return index;
+    }
+
+    private int emitIf(List<Token> tokens, int index, StringBuilder java, int indent) {
+        Token token = tokens.get(index);
+        pos = token.start + 4;
+        line(java, indent, "if (" + parseExpression(true).asBoolean() + ") {");
+        while (true) {
+            index = emitBlock(tokens, index + 1, java, indent + 1);
+            if (index == tokens.size()) {
+                throw new CompileException("Unclosed <#if>");
+            }
+            token = tokens.get(index);
+            if (token.name.equals("elseif")) {
+                pos = token.start + "<#elseif".length();
+                line(java, indent, "} else if (" + parseExpression(true).asBoolean() + ") {");
+            } else if (token.name.equals("else")) {
+                line(java, indent, "} else {");
+            } else if (token.name.equals("/if")) {
+                line(java, indent, "}");
+                return index + 1;
+            } else {
+                throw new CompileException("Unexpected <#" + token.name + "> in <#if>");
+            }
+        }
+    }
+
+    private int emitList(List<Token> tokens, int index, StringBuilder java, int indent) {
+        Token token = tokens.get(index);
+        pos = token.start + "<#list".length();
+        Expr sequence = parseExpression(true);
+        skipSpaces();
+        pos += 2;
+        skipSpaces();
+        String name = identifier();
+
+        Class<?> itemType = sequence.root != null ? ITEM_TYPES.get(sequence.root) : null;
+        String javaType = itemType == null ? "Object" : itemType.getSimpleName();
+        String list = "list" + listCount++;
+        String item = "v_" + name;
+        String itemIndex = "v_" + name + "_index";
+        line(java, indent, "List<?> " + list + " = list(" + sequence.code + ", " + quote(sequence.source) + ");");
+        line(java, indent, "for (int " + itemIndex + " = 0; " + itemIndex + " < " + list + ".size(); " + itemIndex + "++) {");
+        line(java, indent + 1, javaType + " " + item + " = (" + javaType + ") " + list + ".get(" + itemIndex + ");");
+        line(java, indent + 1, "boolean " + item + "_has_next = " + itemIndex + " + 1 < " + list + ".size();");
+
+        Map<String, Expr> scope = new HashMap<>();
+        scope.put(name, new Expr(item, Expr.OBJECT, itemType, name));
+        scope.put(name + "_index", new Expr(itemIndex, Expr.NUMBER, null, name + "_index"));
+        scope.put(name + "_has_next", new Expr(item + "_has_next", Expr.BOOLEAN, null, name + "_has_next"));
+        scopes.push(scope);
+        index = emitBlock(tokens, index + 1, java, indent + 1);
+        scopes.pop();
+        if (index == tokens.size() || !tokens.get(index).name.equals("/list")) {
+            throw new CompileException("Unclosed <#list>");
+        }
+        line(java, indent, "}");
+        return index + 1;
+    }
+
+    private static void emitText(StringBuilder text, StringBuilder java, int indent) {
+        if (text.length() == 0) {
+            return;
+        }
+        String[] lines = text.toString().split("(?<=\n)");
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                literal.append("\n").append(indent(indent + 2)).append("+ ");
+            }
+            literal.append(quote(lines[i]));
+        }
+        line(java, indent, "out.append(" + literal + ");");
+        text.setLength(0);
+    }
+
+    private static void line(StringBuilder java, int indent, String code) {
+        java.append(indent(indent)).append(code).append('\n');
+    }
+
+    private static String indent(int level) {
+        StringBuilder indent = new StringBuilder();
+        for (int i = 0; i < level * 4; i++) {
+            indent.append(' ');
+        }
+        return indent.toString();
+    }
+
+    static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    // ---- expressions ----
+
+    private static class Expr {
+        static final int OBJECT = 0;
+        static final int BOOLEAN = 1;
+        static final int NUMBER = 2;
+        static final int LITERAL = 3;
+
+        final String code;
+        final int kind;
+        final Class<?> javaClass;
+        final String source;
+        String root;
+
+        Expr(String code, int kind, Class<?> javaClass, String source) {
+            this.code = code;
+            this.kind = kind;
+            this.javaClass = javaClass;
+            this.source = source;
+        }
+
+        String asString() {
+            if (kind == LITERAL) {
+                return code;
+            }
+            if (kind != OBJECT) {
+                throw new CompileException("Can't print " + source);
+            }
+            return "str(" + code + ", " + quote(source) + ")";
+        }
+
+        String asBoolean() {
+            return kind == BOOLEAN ? code : "bool(" + code + ", " + quote(source) + ")";
+        }
+
+        String asNumber() {
+            return kind == NUMBER ? code : "num(" + code + ", " + quote(source) + ")";
+        }
+
+        /**
+         * Number expressions typed {@code int} are used as they are, others are truncated.
+         */
+        String asInt() {
+            return javaClass == int.class ? code : "(int) " + asNumber();
+        }
+    }
+
+    /**
+     * Parses an expression at {@code pos}; inside a directive a '>' outside parentheses ends
+     * it instead of comparing.
+     */
+    private Expr parseExpression(boolean inDirective) {
+        int start = pos;
+        Expr left = parseAnd(inDirective);
+        while (peek("||")) {
+            pos += 2;
+            Expr right = parseAnd(inDirective);
+            left = new Expr("(" + left.asBoolean() + " || " + right.asBoolean() + ")", Expr.BOOLEAN, null, source(start));
+        }
+        return left;
+    }
+
+    private Expr parseAnd(boolean inDirective) {
+        int start = pos;
+        Expr left = parseComparison(inDirective);
+        while (peek("&&")) {
+            pos += 2;
+            Expr right = parseComparison(inDirective);
+            left = new Expr("(" + left.asBoolean() + " && " + right.asBoolean() + ")", Expr.BOOLEAN, null, source(start));
+        }
+        return left;
+    }
+
+    private Expr parseComparison(boolean inDirective) {
+        int start = pos;
+        Expr left = parseAdditive(inDirective);
+        skipSpaces();
+        String operator = null;
+        for (String candidate : new String[]{"==", "!=", ">=", "<=", "=", ">", "<"}) {
+            if (source.startsWith(candidate, pos)) {
+                operator = candidate;
+                break;
+            }
+        }
+        if (operator == null || inDirective && operator.startsWith(">")) {
+            return left;
+        }
+        pos += operator.length();
+        Expr right = parseAdditive(inDirective);
+        String description = quote(source(start));
+        switch (operator) {
+            case "==":
+            case "=":
+                return new Expr(left.kind == Expr.NUMBER && right.kind == Expr.NUMBER
+                        ? "(" + left.code + " == " + right.code + ")"
+                        : "eq(" + left.code + ", " + right.code + ", " + description + ")", Expr.BOOLEAN, null, source(start));
+            case "!=":
+                return new Expr("!eq(" + left.code + ", " + right.code + ", " + description + ")", Expr.BOOLEAN, null, source(start));
+            default:
+                return new Expr("(" + left.asNumber() + " " + operator + " " + right.asNumber() + ")", Expr.BOOLEAN, null, source(start));
+        }
+    }
+
+    private Expr parseAdditive(boolean inDirective) {
+        int start = pos;
+        Expr left = parseUnary(inDirective);
+        while (true) {
+            skipSpaces();
+            if (peekChar('-')) {
+                pos++;
+                Expr right = parseUnary(inDirective);
+                Class<?> type = left.javaClass == int.class && right.javaClass == int.class ? int.class : null;
+                left = new Expr("(" + left.asNumber() + " - " + right.asNumber() + ")", Expr.NUMBER, type, source(start));
+            } else if (peekChar('+')) {
+                pos++;
+                Expr right = parseUnary(inDirective);
+                left = new Expr("add(" + left.code + ", " + right.code + ", " + quote(source(start)) + ")", Expr.OBJECT, null, source(start));
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Expr parseUnary(boolean inDirective) {
+        skipSpaces();
+        int start = pos;
+        if (peekChar('!')) {
+            pos++;
+            Expr operand = parseUnary(inDirective);
+            return new Expr("!" + operand.asBoolean(), Expr.BOOLEAN, null, source(start));
+        }
+        return parsePostfix(parsePrimary(), start);
+    }
+
+    private Expr parsePrimary() {
+        skipSpaces();
+        int start = pos;
+        if (pos >= source.length()) {
+            throw new CompileException("Unexpected end of template");
+        }
+        char c = source.charAt(pos);
+        if (c == '(') {
+            pos++;
+            Expr inner = parseExpression(false);
+            expect(')');
+            return new Expr(inner.code, inner.kind, inner.javaClass, source(start));
+        }
+        if (c == 'r' && pos + 1 < source.length() && (source.charAt(pos + 1) == '"' || source.charAt(pos + 1) == '\'')) {
+            char quote = source.charAt(pos + 1);
+            int end = source.indexOf(quote, pos + 2);
+            if (end < 0) {
+                throw new CompileException("Unclosed string");
+            }
+            pos = end + 1;
+            return new Expr(quote(source.substring(start + 2, end)), Expr.LITERAL, String.class, source(start));
+        }
+        if (c == '"' || c == '\'') {
+            return parseString(c);
+        }
+        if (Character.isDigit(c)) {
+            while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+                pos++;
+            }
+            return new Expr(source(start), Expr.NUMBER, source(start).contains(".") ? null : int.class, source(start));
+        }
+        String name = identifier();
+        if (scanning) {
+            return new Expr(name, Expr.OBJECT, null, name);
+        }
+        if (name.equals("true") || name.equals("false")) {
+            return new Expr(name, Expr.BOOLEAN, null, name);
+        }
+        for (Map<String, Expr> scope : scopes) {
+            Expr local = scope.get(name);
+            if (local != null) {
+                return local;
+            }
+        }
+        String variable = rootVariables.computeIfAbsent(name, key -> "v_" + key);
+        Expr expr = new Expr(variable, Expr.OBJECT, null, name);
+        expr.root = name;
+        return expr;
+    }
+
+    /**
+     * A quoted string, where {@code ${...}} parts are concatenated in.
+     */
+    private Expr parseString(char quote) {
+        int start = pos;
+        pos++;
+        List<String> parts = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            if (pos >= source.length()) {
+                throw new CompileException("Unclosed string");
+            }
+            char c = source.charAt(pos++);
+            if (c == quote) {
+                break;
+            }
+            if (c == '\\') {
+                char escaped = source.charAt(pos++);
+                int index = "nrt".indexOf(escaped);
+                text.append(index >= 0 ? "\n\r\t".charAt(index) : escaped);
+            } else if (c == '$' && peekChar('{')) {
+                pos++;
+                if (text.length() > 0) {
+                    parts.add(quote(text.toString()));
+                    text.setLength(0);
+                }
+                parts.add(parseExpression(false).asString());
+                expect('}');
+            } else {
+                text.append(c);
+            }
+        }
+        if (text.length() > 0 || parts.isEmpty()) {
+            parts.add(quote(text.toString()));
+        }
+        boolean literal = parts.size() == 1 && parts.get(0).startsWith("\"");
+        String code = parts.size() == 1 ? parts.get(0) : "(" + String.join(" + ", parts) + ")";
+        return new Expr(code, literal ? Expr.LITERAL : Expr.OBJECT, String.class, source(start));
+    }
+
+    private Expr parsePostfix(Expr expr, int start) {
+        while (true) {
+            if (peekChar('.')) {
+                pos++;
+                expr = property(expr, identifier(), start);
+            } else if (source.startsWith("??", pos)) {
+                pos += 2;
+                expr = new Expr("(" + expr.code + " != null)", Expr.BOOLEAN, null, source(start));
+            } else if (peekChar('?')) {
+                pos++;
+                expr = builtIn(expr, identifier(), start);
+            } else if (peekChar('!') && !source.startsWith("!=", pos)) {
+                pos++;
+                skipSpaces();
+                Expr defaultValue;
+                if (pos < source.length() && (source.charAt(pos) == '"' || source.charAt(pos) == '\''
+                        || source.charAt(pos) == '(' || Character.isLetterOrDigit(source.charAt(pos)))) {
+                    defaultValue = parsePrimary();
+                } else {
+                    defaultValue = new Expr("\"\"", Expr.LITERAL, String.class, "");
+                }
+                expr = new Expr("def(" + expr.code + ", " + defaultValue.code + ")", Expr.OBJECT, null, source(start));
+            } else if (peekChar('(')) {
+                throw new CompileException("Method calls are not supported: " + source(start));
+            } else {
+                return expr;
+            }
+        }
+    }
+
+    private Expr property(Expr receiver, String name, int start) {
+        if (scanning) {
+            return new Expr(name, Expr.OBJECT, null, source(start));
+        }
+        if (receiver.javaClass == null || receiver.kind != Expr.OBJECT) {
+            throw new CompileException("Unknown type of " + receiver.source + " for ." + name);
+        }
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                Method getter = receiver.javaClass.getMethod(prefix + suffix);
+                String code = receiver.code + "." + getter.getName() + "()";
+                Class<?> type = getter.getReturnType();
+                if (type == boolean.class) {
+                    return new Expr(code, Expr.BOOLEAN, null, source(start));
+                }
+                if (type.isPrimitive()) {
+                    return new Expr(code, Expr.NUMBER, null, source(start));
+                }
+                return new Expr(code, Expr.OBJECT, type, source(start));
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        throw new CompileException("No property " + name + " in " + receiver.javaClass.getSimpleName());
+    }
+
+    private Expr builtIn(Expr target, String name, int start) {
+        String text = target.asString();
+        switch (name) {
+            case "lower_case":
+                return new Expr(text + ".toLowerCase()", Expr.OBJECT, String.class, source(start));
+            case "upper_case":
+                return new Expr(text + ".toUpperCase()", Expr.OBJECT, String.class, source(start));
+            case "length":
+                return new Expr(text + ".length()", Expr.NUMBER, int.class, source(start));
+            case "size":
+                return new Expr("size(" + target.code + ", " + quote(target.source) + ")", Expr.NUMBER, int.class, source(start));
+            case "starts_with":
+            case "ends_with":
+            case "contains": {
+                List<Expr> args = arguments(1, 1);
+                String method = name.equals("starts_with") ? "startsWith" : name.equals("ends_with") ? "endsWith" : "contains";
+                return new Expr(text + "." + method + "(" + args.get(0).asString() + ")", Expr.BOOLEAN, null, source(start));
+            }
+            case "substring": {
+                List<Expr> args = arguments(1, 2);
+                StringBuilder code = new StringBuilder(text).append(".substring(").append(args.get(0).asInt());
+                if (args.size() == 2) {
+                    code.append(", ").append(args.get(1).asInt());
+                }
+                return new Expr(code.append(")").toString(), Expr.OBJECT, String.class, source(start));
+            }
+            default:
+                throw new CompileException("Unsupported built-in ?" + name);
+        }
+    }
+
+    private List<Expr> arguments(int min, int max) {
+        expect('(');
+        List<Expr> args = new ArrayList<>();
+        skipSpaces();
+        if (!peekChar(')')) {
+            do {
+                args.add(parseExpression(false));
+                skipSpaces();
+            } while (peekChar(',') && ++pos > 0);
+        }
+        expect(')');
+        if (args.size() < min || args.size() > max) {
+            throw new CompileException("Wrong number of arguments");
+        }
+        return args;
+    }
+
+    private String identifier() {
+        skipSpaces();
+        int start = pos;
+        while (pos < source.length() && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '_')) {
+            pos++;
+        }
+        if (start == pos) {
+            throw new CompileException("Expected a name at " + start);
+        }
+        return source.substring(start, pos);
+    }
+
+    private String source(int start) {
+        return source.substring(start, pos).trim();
+    }
+
+    private boolean peek(String text) {
+        skipSpaces();
+        return source.startsWith(text, pos);
+    }
+
+    private boolean peekChar(char c) {
+        return pos < source.length() && source.charAt(pos) == c;
+    }
+
+    private void expect(char c) {
+        skipSpaces();
+        if (!peekChar(c)) {
+            throw new CompileException("Expected '" + c + "' at " + pos);
+        }
+        pos++;
+    }
+
+    private void skipSpaces() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    static class CompileException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        CompileException(String message) {
+            super(message);
+        }
+    }
+}
@@ -6,6 +6,7 @@ public class FieldModel {
     private String name;
     private String type;
     private boolean optional;
+    private boolean nullable;
     private String originalValue;
     private boolean enabled;
     private boolean isUnique;
@@ -52,6 +53,14 @@ public class FieldModel {
         this.optional = optional;
     }
 
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public void setNullable(boolean nullable) {
+        this.nullable = nullable;
+    }
+
     public String getOriginalValue() {
         return originalValue;
     }
@@ -23,10 +23,14 @@ public class PageModel {
     public boolean viewModelCreate;
     public boolean viewModelUpdate;
     public boolean viewModelDelete;
+    public boolean decodeInBackground;
+    public boolean cacheResponses;
 
     public boolean genSliverFixedList;
     public boolean genSliverGrid;
     public boolean genSliverToBoxAdapter;
     public boolean genSliverFab;
     public List<ClassModel> classModels;
+    public String schemaFingerprint;
+    public boolean useSchemaCache;
 }
@@ -0,0 +1,167 @@
+package haystack.core.parser;
+
+import haystack.core.LanguageResolver;
+import haystack.core.models.ClassModel;
+import haystack.core.models.FieldModel;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Collapses classes that have the same structure under different names ({@code author},
+ * {@code owner}, {@code creator}, ...). A class fingerprint hashes its sorted
+ * {@code jsonName:type} pairs, where a type naming another class (or a list of one) is replaced
+ * by that class's fingerprint, so fingerprints are computed bottom-up and ignore class names.
+ * Nullable and optional fields are marked in their pair, as they change the generated code.
+ */
+public class ClassDeduplicator {
+
+    private final LanguageResolver languageResolver;
+
+    private Map<String, ClassModel> classesByType;
+    private Map<String, String> fingerprints;
+
+    public ClassDeduplicator(LanguageResolver resolver) {
+        this.languageResolver = resolver;
+    }
+
+    /**
+     * Returns the classes with every group of identical shapes reduced to one class, keeping
+     * the root class name when it is part of a group and the alphabetically first name
+     * otherwise. Field types referring to a dropped class are rewritten to the kept one.
+     */
+    public List<ClassModel> deduplicate(List<ClassModel> classes, String rootClassName) {
+        computeFingerprints(classes);
+
+        Map<String, ClassModel> kept = new HashMap<>();
+        for (ClassModel classModel : classes) {
+            if (classModel.getFields().isEmpty()) {
+                continue;
+            }
+            String fingerprint = fingerprints.get(classModel.getName());
+            ClassModel current = kept.get(fingerprint);
+            if (current == null || isPreferred(classModel, current, rootClassName)) {
+                kept.put(fingerprint, classModel);
+            }
+        }
+
+        Map<String, String> renames = new HashMap<>();
+        List<ClassModel> result = new ArrayList<>();
+        for (ClassModel classModel : classes) {
+            ClassModel target = classModel.getFields().isEmpty()
+                    ? classModel : kept.get(fingerprints.get(classModel.getName()));
+            if (target == classModel) {
+                result.add(classModel);
+            } else {
+                renames.put(languageResolver.resolve(classModel.getName()), languageResolver.resolve(target.getName()));
+                renames.put(languageResolver.getArrayType(classModel.getName()), languageResolver.getArrayType(target.getName()));
+            }
+        }
+        for (ClassModel classModel : result) {
+            for (FieldModel field : classModel.getFields()) {
+                String type = renames.get(field.getType());
+                if (type != null) {
+                    field.setType(type);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Structural fingerprint of {@code classModel} within {@code classes}, as a hex SHA-1.
+     */
+    public String fingerprint(ClassModel classModel, List<ClassModel> classes) {
+        computeFingerprints(classes);
+        return fingerprints.get(classModel.getName());
+    }
+
+    private boolean isPreferred(ClassModel candidate, ClassModel current, String rootClassName) {
+        if (current.getName().equals(rootClassName)) {
+            return false;
+        }
+        return candidate.getName().equals(rootClassName) || candidate.getName().compareTo(current.getName()) < 0;
+    }
+
+    private void computeFingerprints(List<ClassModel> classes) {
+        classesByType = new HashMap<>();
+        for (ClassModel classModel : classes) {
+            classesByType.put(languageResolver.resolve(classModel.getName()), classModel);
+            classesByType.put(languageResolver.getArrayType(classModel.getName()), classModel);
+        }
+        fingerprints = new HashMap<>();
+        for (ClassModel classModel : classes) {
+            computeFingerprint(classModel);
+        }
+    }
+
+    /**
+     * Post-order walk over the class references with an explicit stack; a reference back to a
+     * class still being fingerprinted falls back to its name.
+     */
+    private void computeFingerprint(ClassModel root) {
+        if (fingerprints.containsKey(root.getName())) {
+            return;
+        }
+        Set<String> inProgress = new HashSet<>();
+        Deque<ClassModel> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            ClassModel classModel = stack.peek();
+            if (fingerprints.containsKey(classModel.getName())) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            if (inProgress.add(classModel.getName())) {
+                for (FieldModel field : classModel.getFields()) {
+                    ClassModel referenced = classesByType.get(field.getType());
+                    if (referenced != null && !fingerprints.containsKey(referenced.getName())
+                            && !inProgress.contains(referenced.getName())) {
+                        stack.push(referenced);
+                        ready = false;
+                    }
+                }
+            }
+            if (ready) {
+                stack.pop();
+                inProgress.remove(classModel.getName());
+                fingerprints.put(classModel.getName(), hash(canonicalForm(classModel)));
+            }
+        }
+    }
+
+    private String canonicalForm(ClassModel classModel) {
+        List<String> entries = new ArrayList<>();
+        for (FieldModel field : classModel.getFields()) {
+            String type = field.getType();
+            ClassModel referenced = classesByType.get(type);
+            if (referenced != null) {
+                String fingerprint = fingerprints.get(referenced.getName());
+                String reference = fingerprint != null ? fingerprint : "@" + referenced.getName();
+                type = type.equals(languageResolver.getArrayType(referenced.getName()))
+                        ? "[" + reference + "]" : "{" + reference + "}";
+            }
+            entries.add(field.getJsonName() + ":" + type + (field.isNullable() ? "|nullable" : "")
+                    + (field.isOptional() ? "|optional" : ""));
+        }
+        Collections.sort(entries);
+        return String.join(",", entries);
+    }
+
+    static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] bytes = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
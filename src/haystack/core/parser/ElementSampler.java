@@ -0,0 +1,104 @@
+package haystack.core.parser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Picks the array elements inspected by {@link SamplingParser}: the first {@code firstCount}
+ * elements plus {@code randomCount} distinct random ones from the rest, and counts how many
+ * elements were inspected out of how many were seen.
+ */
+class ElementSampler {
+
+    private final int firstCount;
+    private final int randomCount;
+    private final Random random;
+
+    private final AtomicLong sampled = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+
+    ElementSampler(int firstCount, int randomCount, long seed) {
+        this.firstCount = firstCount;
+        this.randomCount = randomCount;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns the indexes to inspect in ascending order.
+     */
+    int[] select(int length) {
+        int head = Math.min(firstCount, length);
+        int rest = length - head;
+        int picks = Math.min(randomCount, rest);
+        int[] indexes = new int[head + picks];
+        for (int i = 0; i < head; i++) {
+            indexes[i] = i;
+        }
+        if (picks == rest) {
+            for (int i = 0; i < picks; i++) {
+                indexes[head + i] = head + i;
+            }
+        } else {
+            // Floyd's algorithm: picks distinct indexes with one random draw each.
+            BitSet chosen = new BitSet(rest);
+            int n = head;
+            for (int j = rest - picks; j < rest; j++) {
+                int candidate;
+                synchronized (random) {
+                    candidate = random.nextInt(j + 1);
+                }
+                if (chosen.get(candidate)) {
+                    candidate = j;
+                }
+                chosen.set(candidate);
+                indexes[n++] = head + candidate;
+            }
+            Arrays.sort(indexes, head, indexes.length);
+        }
+        sampled.addAndGet(indexes.length);
+        total.addAndGet(length);
+        return indexes;
+    }
+
+    /**
+     * Streaming form of {@link #select} for arrays of unknown length: returns the slot, below
+     * {@link #getCapacity()}, taken by element {@code index}, or -1 to skip it. The random
+     * elements are kept by reservoir sampling, so a later element can take an earlier one's slot.
+     */
+    int offer(int index) {
+        if (index < firstCount) {
+            return index;
+        }
+        int seen = index - firstCount;
+        if (seen < randomCount) {
+            return firstCount + seen;
+        }
+        int candidate;
+        synchronized (random) {
+            candidate = random.nextInt(seen + 1);
+        }
+        return candidate < randomCount ? firstCount + candidate : -1;
+    }
+
+    int getCapacity() {
+        return firstCount + randomCount;
+    }
+
+    /**
+     * Counts a streamed array of {@code length} elements once it has ended.
+     */
+    void count(int length) {
+        sampled.addAndGet(Math.min(length, getCapacity()));
+        total.addAndGet(length);
+    }
+
+    long getSampled() {
+        return sampled.get();
+    }
+
+    long getTotal() {
+        return total.get();
+    }
+}
@@ -0,0 +1,104 @@
+package haystack.core.parser;
+
+import org.json.JSONObject;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Validates and pretty-prints JSON in a single pass over a {@link JsonTokenizer}, in the
+ * layout of {@code JSONObject.toString(indent)} but keeping key order and number literals
+ * as written. Throws {@link CancellationException} when the calling thread is interrupted.
+ */
+public class JsonFormatter {
+
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    private final int indentFactor;
+
+    public JsonFormatter(int indentFactor) {
+        this.indentFactor = indentFactor;
+    }
+
+    public String format(CharSequence json) {
+        return format(new StringReader(json.toString()), json.length());
+    }
+
+    public String format(Reader reader, int sizeHint) {
+        JsonTokenizer tokenizer = new JsonTokenizer(reader);
+        StringBuilder out = new StringBuilder(sizeHint + sizeHint / 4);
+        boolean[] objectStack = new boolean[16];
+        int tokens = 0;
+
+        tokenizer.beginObject();
+        out.append('{');
+        objectStack[0] = true;
+        boolean inObject = true;
+        boolean first = true;
+        int level = 1;
+        while (level > 0) {
+            if (++tokens % CANCEL_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            if (!tokenizer.hasNext()) {
+                level--;
+                if (inObject) {
+                    tokenizer.endObject();
+                } else {
+                    tokenizer.endArray();
+                }
+                if (!first) {
+                    newLine(out, level);
+                }
+                out.append(inObject ? '}' : ']');
+                inObject = level > 0 && objectStack[level - 1];
+                first = false;
+                continue;
+            }
+            if (!first) {
+                out.append(',');
+            }
+            newLine(out, level);
+            first = false;
+            if (inObject) {
+                out.append(JSONObject.quote(tokenizer.nextName())).append(": ");
+            }
+            switch (tokenizer.peek()) {
+                case BEGIN_OBJECT:
+                case BEGIN_ARRAY:
+                    boolean object = tokenizer.peek() == JsonTokenizer.Token.BEGIN_OBJECT;
+                    if (object) {
+                        tokenizer.beginObject();
+                    } else {
+                        tokenizer.beginArray();
+                    }
+                    out.append(object ? '{' : '[');
+                    if (level == objectStack.length) {
+                        objectStack = Arrays.copyOf(objectStack, level * 2);
+                    }
+                    objectStack[level++] = object;
+                    inObject = object;
+                    first = true;
+                    break;
+                case STRING:
+                    out.append(JSONObject.quote(tokenizer.nextString()));
+                    break;
+                default:
+                    String literal = tokenizer.nextLiteral();
+                    Object value = JSONObject.stringToValue(literal);
+                    out.append(value instanceof String ? JSONObject.quote(literal) : literal);
+                    break;
+            }
+        }
+        return out.toString();
+    }
+
+    private void newLine(StringBuilder out, int level) {
+        out.append('\n');
+        for (int i = level * indentFactor; i > 0; i--) {
+            out.append(' ');
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package haystack.core.parser;
+
+import java.util.Arrays;
+
+/**
+ * Character level lexing shared by {@link JsonTokenizer} and {@link JsonValidator}: the
+ * container stack and the lenient strings of {@link org.json.JSONTokener}. Subclasses supply
+ * the characters and decide what a lexing error does; when {@link #lexError} returns instead of
+ * throwing, lexing carries on past the bad character.
+ */
+abstract class JsonLexer {
+
+    static final int EMPTY_DOCUMENT = 0;
+    static final int NONEMPTY_DOCUMENT = 1;
+    static final int EMPTY_OBJECT = 2;
+    static final int DANGLING_NAME = 3;
+    static final int NONEMPTY_OBJECT = 4;
+    static final int EMPTY_ARRAY = 5;
+    static final int NONEMPTY_ARRAY = 6;
+
+    int[] stack = new int[32];
+    int stackSize;
+
+    /**
+     * The next character, or -1 at the end of the input.
+     */
+    abstract int next();
+
+    /**
+     * Steps back over {@code c}, the character {@link #next()} just returned. Whitespace may
+     * stay consumed, as the next read would skip it anyway.
+     */
+    abstract void unread(int c);
+
+    abstract void lexError(String message);
+
+    void push(int context) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = context;
+    }
+
+    int nextClean() {
+        while (true) {
+            int c = next();
+            if (c == -1 || c > ' ') {
+                return c;
+            }
+        }
+    }
+
+    static boolean isUnquoted(int c) {
+        return c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0;
+    }
+
+    /**
+     * Reads the unquoted string starting with {@code c} into {@code text}, or just skips it
+     * when {@code text} is null. The character after it is left unread.
+     */
+    void readUnquoted(int c, StringBuilder text) {
+        while (isUnquoted(c)) {
+            if (text != null) {
+                text.append((char) c);
+            }
+            c = next();
+        }
+        unread(c);
+    }
+
+    /**
+     * Reads a string up to the closing {@code quote} into {@code text}, decoding escapes, or
+     * just skips it when {@code text} is null. A string ends at the end of its line.
+     */
+    void readQuoted(char quote, StringBuilder text) {
+        while (true) {
+            int c = next();
+            switch (c) {
+                case -1:
+                case '\n':
+                case '\r':
+                    lexError("Unterminated string");
+                    return;
+                case '\\':
+                    c = next();
+                    int decoded;
+                    switch (c) {
+                        case 'b':
+                            decoded = '\b';
+                            break;
+                        case 't':
+                            decoded = '\t';
+                            break;
+                        case 'n':
+                            decoded = '\n';
+                            break;
+                        case 'f':
+                            decoded = '\f';
+                            break;
+                        case 'r':
+                            decoded = '\r';
+                            break;
+                        case 'u':
+                            decoded = readUnicodeEscape();
+                            break;
+                        case '"':
+                        case '\'':
+                        case '\\':
+                        case '/':
+                            decoded = c;
+                            break;
+                        default:
+                            lexError("Illegal escape.");
+                            if (c == '\n' || c == '\r') {
+                                unread(c);
+                            }
+                            decoded = -1;
+                            break;
+                    }
+                    if (decoded >= 0 && text != null) {
+                        text.append((char) decoded);
+                    }
+                    break;
+                default:
+                    if (c == quote) {
+                        return;
+                    }
+                    if (text != null) {
+                        text.append((char) c);
+                    }
+            }
+        }
+    }
+
+    private int readUnicodeEscape() {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int c = next();
+            int digit = Character.digit(c, 16);
+            if (digit < 0) {
+                lexError("Illegal escape.");
+                unread(c);
+                return -1;
+            }
+            code = (code << 4) + digit;
+        }
+        return code;
+    }
+}
@@ -11,6 +11,9 @@ public abstract class JsonParser {
 
     protected LanguageResolver languageResolver;
 
+    private int maxDepth;
+    private int nodeCount;
+
     public JsonParser(LanguageResolver resolver) {
         this.languageResolver = resolver;
     }
@@ -19,4 +22,32 @@ public abstract class JsonParser {
 
     public abstract List<ClassModel> getClasses();
 
+    /**
+     * Deepest nesting level reached while parsing, the root object being level 1.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Number of JSON values visited while parsing.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    protected void visitNode(int depth) {
+        visitNodes(1, depth);
+    }
+
+    /**
+     * Counts {@code count} values at once, the deepest of them at level {@code depth}.
+     */
+    protected void visitNodes(int count, int depth) {
+        nodeCount += count;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
 }
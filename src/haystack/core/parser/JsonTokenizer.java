@@ -0,0 +1,284 @@
+package haystack.core.parser;
+
+import org.json.JSONException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Pull tokenizer reading JSON from a character stream without building a tree.
+ * Accepts the same lenient input as {@link org.json.JSONTokener} (single quoted and
+ * unquoted strings) and reports errors in the same "at N [character C line L]" form.
+ */
+public class JsonTokenizer extends JsonLexer {
+
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, LITERAL, END_DOCUMENT
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+
+    private long index;
+    private long line = 1;
+    private long character = 1;
+    private boolean afterCarriageReturn;
+
+    private Token peeked;
+    private final StringBuilder text = new StringBuilder();
+
+    public JsonTokenizer(Reader reader) {
+        this.reader = reader;
+        stack[stackSize++] = EMPTY_DOCUMENT;
+    }
+
+    public Token peek() {
+        if (peeked == null) {
+            peeked = advance();
+        }
+        return peeked;
+    }
+
+    public boolean hasNext() {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public void beginObject() {
+        expect(Token.BEGIN_OBJECT, "A JSONObject text must begin with '{'");
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() {
+        expect(Token.END_OBJECT, "Expected a ',' or '}'");
+        stackSize--;
+    }
+
+    public void beginArray() {
+        expect(Token.BEGIN_ARRAY, "A JSONArray text must start with '['");
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() {
+        expect(Token.END_ARRAY, "Expected a ',' or ']'");
+        stackSize--;
+    }
+
+    public String nextName() {
+        expect(Token.NAME, "A JSONObject text must begin with '{'");
+        return text.toString();
+    }
+
+    public String nextString() {
+        expect(Token.STRING, "Expected a string");
+        return text.toString();
+    }
+
+    /**
+     * Returns the raw text of an unquoted value ({@code true}, {@code 12}, {@code null}, ...),
+     * to be typed with {@link org.json.JSONObject#stringToValue(String)}.
+     */
+    public String nextLiteral() {
+        expect(Token.LITERAL, "Missing value");
+        return text.toString();
+    }
+
+    /**
+     * Skips the next value, including nested containers, without keeping its content.
+     */
+    public void skipValue() {
+        int depth = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case END_DOCUMENT:
+                    throw syntaxError("Unexpected end of text");
+                default:
+                    peeked = null;
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    public JSONException syntaxError(String message) {
+        return new JSONException(message + " at " + index + " [character " + character + " line " + line + "]");
+    }
+
+    private void expect(Token expected, String message) {
+        if (peek() != expected) {
+            throw syntaxError(message);
+        }
+        peeked = null;
+    }
+
+    private Token advance() {
+        int context = stack[stackSize - 1];
+        if (context == EMPTY_DOCUMENT) {
+            stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+        } else if (context == NONEMPTY_DOCUMENT) {
+            return Token.END_DOCUMENT;
+        } else if (context == EMPTY_OBJECT || context == NONEMPTY_OBJECT) {
+            int c = nextClean();
+            if (c == '}') {
+                return Token.END_OBJECT;
+            }
+            if (context == NONEMPTY_OBJECT) {
+                if (c != ',' && c != ';') {
+                    throw syntaxError("Expected a ',' or '}'");
+                }
+                c = nextClean();
+                if (c == '}') {
+                    return Token.END_OBJECT;
+                }
+            }
+            stack[stackSize - 1] = DANGLING_NAME;
+            if (c == -1) {
+                throw syntaxError("A JSONObject text must end with '}'");
+            }
+            if (c == '{' || c == '[') {
+                throw syntaxError("A JSONObject text must begin with '{'");
+            }
+            readString(c);
+            return Token.NAME;
+        } else if (context == DANGLING_NAME) {
+            int c = nextClean();
+            if (c != ':') {
+                throw syntaxError("Expected a ':' after a key");
+            }
+            stack[stackSize - 1] = NONEMPTY_OBJECT;
+        } else if (context == EMPTY_ARRAY || context == NONEMPTY_ARRAY) {
+            int c = nextClean();
+            if (c == ']') {
+                return Token.END_ARRAY;
+            }
+            if (context == NONEMPTY_ARRAY) {
+                if (c != ',') {
+                    throw syntaxError("Expected a ',' or ']'");
+                }
+                c = nextClean();
+                if (c == ']') {
+                    return Token.END_ARRAY;
+                }
+            }
+            stack[stackSize - 1] = NONEMPTY_ARRAY;
+            unread(c);
+        }
+        return readValue();
+    }
+
+    private Token readValue() {
+        int c = nextClean();
+        switch (c) {
+            case -1:
+                throw syntaxError("Unexpected end of text");
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+            case '\'':
+                readQuoted((char) c);
+                return Token.STRING;
+            default:
+                readUnquoted(c);
+                if (text.length() == 0) {
+                    throw syntaxError("Missing value");
+                }
+                return Token.LITERAL;
+        }
+    }
+
+    private void readString(int c) {
+        if (c == '"' || c == '\'') {
+            readQuoted((char) c);
+        } else {
+            readUnquoted(c);
+        }
+    }
+
+    private void readQuoted(char quote) {
+        text.setLength(0);
+        readQuoted(quote, text);
+    }
+
+    private void readUnquoted(int c) {
+        text.setLength(0);
+        readUnquoted(c, text);
+        int end = text.length();
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        text.setLength(end);
+    }
+
+    @Override
+    void lexError(String message) {
+        throw syntaxError(message);
+    }
+
+    @Override
+    int next() {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        char c = buffer[pos++];
+        index++;
+        if (c == '\r') {
+            line++;
+            character = 0;
+            afterCarriageReturn = true;
+        } else if (c == '\n') {
+            if (!afterCarriageReturn) {
+                line++;
+            }
+            character = 0;
+            afterCarriageReturn = false;
+        } else {
+            character++;
+            afterCarriageReturn = false;
+        }
+        return c;
+    }
+
+    @Override
+    void unread(int c) {
+        if (c <= ' ') {
+            return;
+        }
+        pos--;
+        index--;
+        character--;
+    }
+
+    private boolean fill() {
+        try {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                return false;
+            }
+            pos = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+}
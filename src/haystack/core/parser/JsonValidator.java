@@ -0,0 +1,248 @@
+package haystack.core.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tolerant syntax check of the input {@link JsonTokenizer} accepts. Instead of stopping at
+ * the first error it records it, assumes the most likely fix (a missing ':' or ',', a
+ * missing closing bracket) and carries on, so one pass finds every error up to a limit.
+ */
+public class JsonValidator extends JsonLexer {
+
+    private final int maxErrors;
+
+    private CharSequence text;
+    private int pos;
+    private List<SyntaxError> errors;
+
+    public JsonValidator(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public List<SyntaxError> validate(CharSequence text) {
+        this.text = text;
+        pos = 0;
+        stackSize = 0;
+        errors = new ArrayList<>();
+        push(EMPTY_DOCUMENT);
+        while (errors.size() < maxErrors && stackSize > 0) {
+            int c = nextClean();
+            int context = stack[stackSize - 1];
+            switch (context) {
+                case EMPTY_DOCUMENT:
+                    stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                    if (c != '{') {
+                        error("A JSONObject text must begin with '{'");
+                        if (c == -1) {
+                            return errors;
+                        }
+                        pos--;
+                    }
+                    push(EMPTY_OBJECT);
+                    break;
+                case NONEMPTY_DOCUMENT:
+                    return errors;
+                case EMPTY_OBJECT:
+                case NONEMPTY_OBJECT:
+                    if (c == '}') {
+                        stackSize--;
+                        break;
+                    }
+                    if (context == NONEMPTY_OBJECT) {
+                        if (c == ',' || c == ';') {
+                            c = nextClean();
+                            if (c == '}') {
+                                stackSize--;
+                                break;
+                            }
+                        } else if (c == ']') {
+                            error("Expected a ',' or '}'");
+                            if (closes(EMPTY_ARRAY, NONEMPTY_ARRAY)) {
+                                pos--;
+                                stackSize--;
+                            }
+                            break;
+                        } else {
+                            error("Expected a ',' or '}'");
+                            if (c == -1) {
+                                return errors;
+                            }
+                        }
+                    }
+                    if (c == -1) {
+                        error("A JSONObject text must end with '}'");
+                        return errors;
+                    }
+                    stack[stackSize - 1] = DANGLING_NAME;
+                    if (c == '{' || c == '[') {
+                        error("A JSONObject text must begin with '{'");
+                        stack[stackSize - 1] = NONEMPTY_OBJECT;
+                        readValue(c);
+                    } else if (!readString(c)) {
+                        pos--;
+                    }
+                    break;
+                case DANGLING_NAME:
+                    stack[stackSize - 1] = NONEMPTY_OBJECT;
+                    if (c != ':') {
+                        error("Expected a ':' after a key");
+                        if (c == -1) {
+                            return errors;
+                        }
+                        pos--;
+                    }
+                    readValue(nextClean());
+                    break;
+                default:
+                    if (c == ']') {
+                        stackSize--;
+                        break;
+                    }
+                    if (context == NONEMPTY_ARRAY) {
+                        if (c == ',') {
+                            c = nextClean();
+                            if (c == ']') {
+                                stackSize--;
+                                break;
+                            }
+                        } else if (c == '}') {
+                            error("Expected a ',' or ']'");
+                            if (closes(EMPTY_OBJECT, NONEMPTY_OBJECT)) {
+                                pos--;
+                                stackSize--;
+                            }
+                            break;
+                        } else {
+                            error("Expected a ',' or ']'");
+                            if (c == -1) {
+                                return errors;
+                            }
+                        }
+                    }
+                    stack[stackSize - 1] = NONEMPTY_ARRAY;
+                    readValue(c);
+                    break;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Whether the container around the current one is of one of the two given kinds, so a
+     * closing bracket of that kind most likely means the current one was left open.
+     */
+    private boolean closes(int empty, int nonEmpty) {
+        if (stackSize < 2) {
+            return false;
+        }
+        int outer = stack[stackSize - 2];
+        return outer == empty || outer == nonEmpty;
+    }
+
+    private void readValue(int c) {
+        switch (c) {
+            case -1:
+                error("Unexpected end of text");
+                stackSize = 0;
+                break;
+            case '{':
+                push(EMPTY_OBJECT);
+                break;
+            case '[':
+                push(EMPTY_ARRAY);
+                break;
+            default:
+                if (!readString(c)) {
+                    pos--;
+                    error("Missing value");
+                    if (c != ',' && c != '}' && c != ']') {
+                        pos++;
+                    }
+                }
+                break;
+        }
+    }
+
+    /**
+     * Reads a quoted or unquoted string starting with {@code c}; returns false when there is
+     * none, leaving {@code c} consumed. An empty unquoted key is accepted as by the tokenizer.
+     */
+    private boolean readString(int c) {
+        if (c == '"' || c == '\'') {
+            readQuoted((char) c, null);
+            return true;
+        }
+        if (!isUnquoted(c)) {
+            return false;
+        }
+        readUnquoted(c, null);
+        return true;
+    }
+
+    /**
+     * Records an error at the last read character, unless the previous error is already
+     * there (a recovery step that failed too).
+     */
+    @Override
+    void lexError(String message) {
+        error(message);
+    }
+
+    private void error(String message) {
+        int offset = Math.max(Math.min(pos, text.length()) - 1, 0);
+        if (errors.isEmpty() || errors.get(errors.size() - 1).getOffset() != offset) {
+            errors.add(new SyntaxError(message, offset));
+        }
+    }
+
+    @Override
+    int next() {
+        if (pos >= text.length()) {
+            pos = text.length() + 1;
+            return -1;
+        }
+        return text.charAt(pos++);
+    }
+
+    @Override
+    void unread(int c) {
+        if (c != -1) {
+            pos--;
+        }
+    }
+
+    public static class SyntaxError {
+
+        private final String message;
+        private final int offset;
+
+        public SyntaxError(String message, int offset) {
+            this.message = message;
+            this.offset = offset;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Offset of the offending character.
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * The message in the "at N [character C line L]" form of {@link org.json.JSONException},
+         * which counts the position after the offending character and, on the first line only,
+         * columns from 1.
+         */
+        public String format(LineIndex lineIndex) {
+            int position = offset + 1;
+            int line = lineIndex.getLine(position);
+            int character = lineIndex.getColumn(position) + (line == 0 ? 1 : 0);
+            return message + " at " + position + " [character " + character + " line " + (line + 1) + "]";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package haystack.core.parser;
+
+import java.util.Arrays;
+
+/**
+ * Sorted start offsets of the lines of a text, mapping offsets to line and column by binary
+ * search. Kept in step with an edited text through {@link #insert} and {@link #remove}, which
+ * only look at the edited characters. Lines and columns are 0-based; only '\n' ends a line.
+ */
+public class LineIndex {
+
+    private int[] starts = new int[64];
+    private int lineCount;
+
+    public LineIndex(CharSequence text) {
+        starts[lineCount++] = 0;
+        addLines(text, 0, 1);
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getLineStart(int line) {
+        return starts[line];
+    }
+
+    public int getLine(int offset) {
+        int line = Arrays.binarySearch(starts, 0, lineCount, offset);
+        return line >= 0 ? line : -line - 2;
+    }
+
+    public int getColumn(int offset) {
+        return offset - starts[getLine(offset)];
+    }
+
+    public void insert(int offset, CharSequence text) {
+        int length = text.length();
+        int next = getLine(offset) + 1;
+        for (int i = next; i < lineCount; i++) {
+            starts[i] += length;
+        }
+        addLines(text, offset, next);
+    }
+
+    public void remove(int offset, int length) {
+        int first = getLine(offset) + 1;
+        int last = first;
+        while (last < lineCount && starts[last] <= offset + length) {
+            last++;
+        }
+        System.arraycopy(starts, last, starts, first, lineCount - last);
+        lineCount -= last - first;
+        for (int i = first; i < lineCount; i++) {
+            starts[i] -= length;
+        }
+    }
+
+    /**
+     * Inserts the starts of the lines following each '\n' in {@code text}, which begins at
+     * {@code offset}, before index {@code at}.
+     */
+    private void addLines(CharSequence text, int offset, int at) {
+        int added = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                added++;
+            }
+        }
+        if (added == 0) {
+            return;
+        }
+        if (lineCount + added > starts.length) {
+            starts = Arrays.copyOf(starts, Math.max(starts.length * 2, lineCount + added));
+        }
+        System.arraycopy(starts, at, starts, at + added, lineCount - at);
+        lineCount += added;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                starts[at++] = offset + i + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package haystack.core.parser;
+
+import org.json.JSONArray;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Splits a large array in halves and merges the element schemas of both sides.
+ */
+class MergeTask extends RecursiveTask<SchemaNode> {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int THRESHOLD = 512;
+
+    private final JSONArray array;
+    private final int from;
+    private final int to;
+    private final SchemaNode.Stats stats;
+    private final int depth;
+
+    /**
+     * {@code depth} is the level of the elements, for {@code stats}.
+     */
+    MergeTask(JSONArray array, int from, int to, SchemaNode.Stats stats, int depth) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.stats = stats;
+        this.depth = depth;
+    }
+
+    @Override
+    protected SchemaNode compute() {
+        if (to - from <= THRESHOLD) {
+            return SchemaNode.inferItems(array, from, to, stats, depth);
+        }
+        int middle = (from + to) >>> 1;
+        MergeTask left = new MergeTask(array, from, middle, stats, depth);
+        left.fork();
+        SchemaNode right = new MergeTask(array, middle, to, stats, depth).compute();
+        return SchemaNode.merge(left.join(), right);
+    }
+}
@@ -0,0 +1,274 @@
+package haystack.core.parser;
+
+import haystack.core.LanguageResolver;
+import haystack.core.models.ClassModel;
+import haystack.core.models.FieldModel;
+import org.apache.commons.lang.StringUtils;
+import org.json.JSONObject;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Infers one class per JSON object shape from every element of every array instead of only
+ * the first one. Element shapes are merged associatively on a {@link ForkJoinPool}: numbers
+ * widen (int to double), a value seen as null becomes nullable and a key missing from some
+ * elements becomes optional. Repeated {@link #parse} calls with the same root fold the samples
+ * into the same classes. Read from text, the sample is walked as a token stream instead, never
+ * held as a {@link JSONObject}, so its nesting depth is bounded by heap rather than by the
+ * thread stack.
+ */
+public class MergingParser extends JsonParser {
+
+    private final ForkJoinPool pool;
+    private final Map<String, SchemaNode> roots;
+
+    public MergingParser(LanguageResolver resolver) {
+        this(resolver, ForkJoinPool.commonPool());
+    }
+
+    public MergingParser(LanguageResolver resolver, ForkJoinPool pool) {
+        super(resolver);
+        this.pool = pool;
+        roots = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void parse(JSONObject json, String rootClassName) {
+        SchemaNode.Stats stats = new SchemaNode.Stats();
+        addRoot(rootClassName, pool.invoke(ForkJoinTask.adapt(() -> SchemaNode.infer(json, null, stats, 1))));
+        visitNodes(stats.getNodeCount(), stats.getMaxDepth());
+    }
+
+    public void parse(CharSequence json, String rootClassName) {
+        parse(new StringReader(json.toString()), rootClassName);
+    }
+
+    public void parse(Reader reader, String rootClassName) {
+        SchemaNode.Stats stats = new SchemaNode.Stats();
+        addRoot(rootClassName, infer(new JsonTokenizer(reader), null, stats));
+        visitNodes(stats.getNodeCount(), stats.getMaxDepth());
+    }
+
+    /**
+     * Walks the token stream with an explicit stack of open objects and arrays. With a
+     * {@code sampler}, array elements are offered to it as they come and the ones it keeps are
+     * merged once the array has ended; without one every element is merged. Keys end up in the
+     * order {@link JSONObject} keeps them, so both inputs give the same classes.
+     */
+    SchemaNode infer(JsonTokenizer tokenizer, ElementSampler sampler, SchemaNode.Stats stats) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        tokenizer.beginObject();
+        stack.push(new Frame(SchemaNode.object(), null));
+        stats.visit(1);
+        while (true) {
+            Frame frame = stack.peek();
+            if (!tokenizer.hasNext()) {
+                stack.pop();
+                if (frame.fields != null) {
+                    tokenizer.endObject();
+                    frame.node.fields.putAll(frame.fields);
+                } else {
+                    tokenizer.endArray();
+                    if (frame.slots != null) {
+                        frame.mergeSlots();
+                        sampler.count(frame.length);
+                    }
+                }
+                if (stack.isEmpty()) {
+                    return frame.node;
+                }
+                stack.peek().attach(frame.node);
+                continue;
+            }
+            if (frame.fields != null) {
+                frame.key = tokenizer.nextName();
+                if (frame.fields.containsKey(frame.key)) {
+                    throw tokenizer.syntaxError("Duplicate key \"" + frame.key + "\"");
+                }
+            } else {
+                frame.index = frame.length++;
+                if (frame.slots != null) {
+                    frame.slot = sampler.offer(frame.index);
+                    if (frame.slot < 0) {
+                        tokenizer.skipValue();
+                        continue;
+                    }
+                }
+            }
+            stats.visit(stack.size() + 1);
+            JsonTokenizer.Token token = tokenizer.peek();
+            if (token == JsonTokenizer.Token.BEGIN_OBJECT) {
+                tokenizer.beginObject();
+                stack.push(new Frame(SchemaNode.object(), null));
+            } else if (token == JsonTokenizer.Token.BEGIN_ARRAY) {
+                tokenizer.beginArray();
+                stack.push(new Frame(SchemaNode.array(), sampler));
+            } else {
+                frame.attach(SchemaNode.leaf(StreamingParser.nextValue(tokenizer)));
+            }
+        }
+    }
+
+    void addRoot(String rootClassName, SchemaNode node) {
+        roots.put(rootClassName, SchemaNode.merge(roots.get(rootClassName), node));
+    }
+
+    public void parseAll(List<JSONObject> samples, String rootClassName) {
+        for (JSONObject sample : samples) {
+            parse(sample, rootClassName);
+        }
+    }
+
+    @Override
+    public List<ClassModel> getClasses() {
+        Map<String, SchemaNode> shapes = new LinkedHashMap<>();
+        for (Map.Entry<String, SchemaNode> root : roots.entrySet()) {
+            collectShapes(languageResolver.getClassName(root.getKey()), root.getValue(), shapes);
+        }
+        List<ClassModel> classes = new ArrayList<>();
+        for (Map.Entry<String, SchemaNode> shape : shapes.entrySet()) {
+            classes.add(toClassModel(shape.getKey(), shape.getValue()));
+        }
+        return classes;
+    }
+
+    /**
+     * Folds every object shape reachable from {@code root} into {@code shapes}, keyed by class name.
+     * Shapes are taken from an explicit stack with the children pushed in reverse, so classes
+     * keep the depth first order of the keys.
+     */
+    private void collectShapes(String rootClassName, SchemaNode root, Map<String, SchemaNode> shapes) {
+        Deque<String> names = new ArrayDeque<>();
+        Deque<SchemaNode> nodes = new ArrayDeque<>();
+        names.push(rootClassName);
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            String className = names.pop();
+            SchemaNode node = nodes.pop();
+            SchemaNode shape = shapes.get(className);
+            shapes.put(className, shape == null ? node.copy() : shape.merge(node.copy()));
+            List<Map.Entry<String, SchemaNode>> entries = new ArrayList<>(node.fields.entrySet());
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                String key = entries.get(i).getKey();
+                SchemaNode child = entries.get(i).getValue();
+                if (child.kind == SchemaNode.Kind.OBJECT) {
+                    names.push(languageResolver.getClassName(key));
+                    nodes.push(child);
+                } else if (child.kind == SchemaNode.Kind.ARRAY && child.items != null
+                        && child.items.kind == SchemaNode.Kind.OBJECT) {
+                    names.push(getItemClassName(key));
+                    nodes.push(child.items);
+                }
+            }
+        }
+    }
+
+    private ClassModel toClassModel(String className, SchemaNode node) {
+        ClassModel classData = new ClassModel(className);
+        for (Map.Entry<String, SchemaNode> entry : node.fields.entrySet()) {
+            String key = entry.getKey();
+            SchemaNode child = entry.getValue();
+            FieldModel field;
+            switch (child.kind) {
+                case OBJECT:
+                    field = new FieldModel(key, languageResolver.getFieldName(key),
+                            languageResolver.resolve(languageResolver.getClassName(key)),
+                            languageResolver.getObjectOriginalValue());
+                    break;
+                case ARRAY:
+                    if (child.items == null) {
+                        continue;
+                    }
+                    field = new FieldModel(key, languageResolver.getFieldName(key),
+                            languageResolver.getArrayType(getItemType(key, child.items)),
+                            languageResolver.getArrayOriginalValue());
+                    break;
+                case NULL:
+                    field = new FieldModel(key, languageResolver.getFieldName(key),
+                            languageResolver.resolve("Null"), "null");
+                    field.setDefaultValue(languageResolver.getDefaultValue(field.getType()));
+                    break;
+                default:
+                    String resolvedType = languageResolver.resolve(child.valueType);
+                    field = new FieldModel(key, languageResolver.getFieldName(key), resolvedType,
+                            child.sample);
+                    field.setDefaultValue(languageResolver.getDefaultValue(resolvedType));
+                    break;
+            }
+            if (child.isNullable()) {
+                field.setNullable(true);
+                field.setDefaultValue("null");
+            }
+            field.setOptional(node.isOptional(key));
+            classData.addField(field);
+        }
+        return classData;
+    }
+
+    private String getItemType(String key, SchemaNode items) {
+        switch (items.kind) {
+            case OBJECT:
+                return getItemClassName(key);
+            case ARRAY:
+                return "JSONArray";
+            case NULL:
+                return "Null";
+            default:
+                return items.valueType;
+        }
+    }
+
+    private String getItemClassName(String key) {
+        return languageResolver.resolve(languageResolver.getArrayItemOriginalValue(StringUtils.capitalize(key)));
+    }
+
+    private static class Frame {
+        final SchemaNode node;
+        // fields of an object, hashed like JSONObject's until it ends; null for an array
+        final Map<String, SchemaNode> fields;
+        // sampled elements of an array and their indexes; null unless sampling
+        final SchemaNode[] slots;
+        final int[] indexes;
+        String key;
+        int length;
+        int index;
+        int slot;
+
+        Frame(SchemaNode node, ElementSampler sampler) {
+            this.node = node;
+            boolean array = node.kind == SchemaNode.Kind.ARRAY;
+            this.fields = array ? null : new HashMap<>();
+            this.slots = array && sampler != null ? new SchemaNode[sampler.getCapacity()] : null;
+            this.indexes = slots != null ? new int[slots.length] : null;
+        }
+
+        void attach(SchemaNode child) {
+            if (fields != null) {
+                fields.put(key, child);
+            } else if (slots != null) {
+                slots[slot] = child;
+                indexes[slot] = index;
+            } else {
+                node.items = SchemaNode.merge(node.items, child);
+            }
+        }
+
+        /**
+         * Merges the kept elements in array order, as sampling a {@link JSONObject} does.
+         */
+        void mergeSlots() {
+            Integer[] order = new Integer[Math.min(length, slots.length)];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (left, right) -> Integer.compare(indexes[left], indexes[right]));
+            for (int i : order) {
+                node.items = SchemaNode.merge(node.items, slots[i]);
+            }
+        }
+    }
+}
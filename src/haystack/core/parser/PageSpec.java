@@ -0,0 +1,200 @@
+package haystack.core.parser;
+
+import haystack.core.LanguageResolver;
+import haystack.core.models.ClassModel;
+import haystack.core.models.FieldModel;
+import haystack.core.models.PageModel;
+import haystack.core.models.PageType;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a spec file: the {@link PageModel} fields under their own names, plus
+ * <ul>
+ * <li>{@code sample}: the JSON sample of the model, relative to the spec file</li>
+ * <li>{@code inference}: {@code merge} (default), {@code sample} or {@code stream}</li>
+ * <li>{@code uniqueFields}: unique field name per class, required for the page's model</li>
+ * <li>{@code dbModules}: classes that get a database module</li>
+ * </ul>
+ * A spec file holds one page object or an array of them.
+ */
+public class PageSpec {
+
+    private static final int SAMPLE_FIRST_ELEMENTS = 20;
+    private static final int SAMPLE_RANDOM_ELEMENTS = 30;
+
+    private final File specFile;
+    private final JSONObject json;
+    private int maxDepth;
+    private int nodeCount;
+
+    private PageSpec(File specFile, JSONObject json) {
+        this.specFile = specFile;
+        this.json = json;
+    }
+
+    public static List<PageSpec> read(File specFile) throws IOException {
+        String text = new String(Files.readAllBytes(specFile.toPath()), StandardCharsets.UTF_8).trim();
+        List<PageSpec> specs = new ArrayList<>();
+        if (text.startsWith("[")) {
+            JSONArray pages = new JSONArray(text);
+            for (int i = 0; i < pages.length(); i++) {
+                specs.add(new PageSpec(specFile, pages.getJSONObject(i)));
+            }
+        } else {
+            specs.add(new PageSpec(specFile, new JSONObject(text)));
+        }
+        return specs;
+    }
+
+    public String getName() {
+        return specFile.getName() + ":" + json.optString("pageName");
+    }
+
+    /**
+     * Deepest nesting level of the sample, once {@link #inferClasses} has run.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Number of sample values visited by {@link #inferClasses}.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Identifies the classes this page infers: pages with the same key share them.
+     */
+    public String getSchemaKey() {
+        if (json.optBoolean("isUIOnly")) {
+            return null;
+        }
+        return new File(specFile.getAbsoluteFile().getParentFile(), json.optString("sample")).toPath().normalize()
+                + "|" + json.optString("inference", "merge") + "|" + json.optString("modelName")
+                + "|" + json.optJSONObject("uniqueFields") + "|" + json.optJSONArray("dbModules");
+    }
+
+    /**
+     * Builds the page model around {@code classes}, as inferred by {@link #inferClasses}.
+     */
+    public PageModel toPageModel(List<ClassModel> classes) {
+        PageModel pageModel = new PageModel();
+        for (Field field : PageModel.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || !json.has(field.getName())) {
+                continue;
+            }
+            try {
+                if (field.getType() == boolean.class) {
+                    field.setBoolean(pageModel, json.getBoolean(field.getName()));
+                } else if (field.getType() == String.class) {
+                    field.set(pageModel, json.getString(field.getName()));
+                } else if (field.getType() == List.class && field.getName().equals("actionList")) {
+                    List<String> actions = new ArrayList<>();
+                    for (Object action : json.getJSONArray(field.getName())) {
+                        actions.add(action.toString());
+                    }
+                    field.set(pageModel, actions);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        if (pageModel.pageName == null || pageModel.modelName == null) {
+            throw new IllegalArgumentException("pageName and modelName are required");
+        }
+        if (pageModel.pageType == null) {
+            pageModel.pageType = PageType.MANNUL;
+        }
+        if (pageModel.pageType.equals(PageType.CUSTOMSCROLLVIEW)) {
+            pageModel.genAppBar = true;
+        }
+        if (pageModel.actionList == null) {
+            pageModel.actionList = new ArrayList<>();
+        }
+        pageModel.hasActionSearch = pageModel.actionList.contains("search");
+        if (!pageModel.isUIOnly) {
+            pageModel.classModels = classes;
+        }
+        return pageModel;
+    }
+
+    /**
+     * Infers the page's classes from its sample and finishes them the way the fields dialog
+     * does; null for a UI only page.
+     */
+    public List<ClassModel> inferClasses(LanguageResolver resolver) throws IOException {
+        if (json.optBoolean("isUIOnly")) {
+            return null;
+        }
+        String rootClassName = json.optString("modelName", null);
+        if (rootClassName == null) {
+            throw new IllegalArgumentException("pageName and modelName are required");
+        }
+        if (!json.has("sample")) {
+            throw new IllegalArgumentException("sample is required unless isUIOnly is set");
+        }
+        File sample = new File(specFile.getAbsoluteFile().getParentFile(), json.getString("sample"));
+        String inference = json.optString("inference", "merge");
+        JsonParser parser;
+        if (inference.equals("stream")) {
+            StreamingParser streamingParser = new StreamingParser(resolver);
+            try (Reader reader = Files.newBufferedReader(sample.toPath(), StandardCharsets.UTF_8)) {
+                streamingParser.parse(reader, rootClassName);
+            }
+            parser = streamingParser;
+        } else if (inference.equals("sample")) {
+            SamplingParser samplingParser = new SamplingParser(resolver, SAMPLE_FIRST_ELEMENTS, SAMPLE_RANDOM_ELEMENTS);
+            try (Reader reader = Files.newBufferedReader(sample.toPath(), StandardCharsets.UTF_8)) {
+                samplingParser.parse(reader, rootClassName);
+            }
+            parser = samplingParser;
+        } else {
+            MergingParser mergingParser = new MergingParser(resolver);
+            try (Reader reader = Files.newBufferedReader(sample.toPath(), StandardCharsets.UTF_8)) {
+                mergingParser.parse(reader, rootClassName);
+            }
+            parser = mergingParser;
+        }
+        List<ClassModel> classes = parser.getClasses();
+        maxDepth = parser.getMaxDepth();
+        nodeCount = parser.getNodeCount();
+        String rootName = resolver.getClassName(rootClassName);
+        classes = new ClassDeduplicator(resolver).deduplicate(classes, rootName);
+
+        JSONObject uniqueFields = json.optJSONObject("uniqueFields");
+        JSONArray dbModules = json.optJSONArray("dbModules");
+        for (ClassModel classModel : classes) {
+            String uniqueField = uniqueFields != null ? uniqueFields.optString(classModel.getName(), null) : null;
+            for (FieldModel field : classModel.getFields()) {
+                if (field.getName().equals(uniqueField) || field.getJsonName().equals(uniqueField)) {
+                    field.setUnique(true);
+                    classModel.setUniqueField(field.getName());
+                    classModel.setUniqueFieldType(field.getType());
+                }
+                if (!field.getType().equals("int") && !field.getType().equals("double") && !field.getType().equals("String") && !field.getType().equals("bool")) {
+                    field.setDefaultValue("null");
+                }
+            }
+            if (dbModules != null && dbModules.toList().contains(classModel.getName())) {
+                classModel.setGenApi(true);
+            }
+            if (classModel.getName().equals(rootName) && classModel.getUniqueField() == null) {
+                throw new IllegalArgumentException(rootName + " class must have a unique field, set uniqueFields");
+            }
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,95 @@
+package haystack.core.parser;
+
+import haystack.core.LanguageResolver;
+import haystack.core.models.ClassModel;
+import haystack.core.models.PageModel;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Turns spec files into page models. Each distinct schema (same sample, inference, model and
+ * class settings) is inferred once, in parallel with the others, and shared by every page
+ * using it. Problems are collected per spec instead of failing the whole batch.
+ */
+public class PageSpecLoader {
+
+    private final LanguageResolver resolver;
+    private final ForkJoinPool pool;
+    private final List<String> problems = new ArrayList<>();
+    private int maxDepth;
+    private int nodeCount;
+
+    public PageSpecLoader(LanguageResolver resolver) {
+        this(resolver, ForkJoinPool.commonPool());
+    }
+
+    public PageSpecLoader(LanguageResolver resolver, ForkJoinPool pool) {
+        this.resolver = resolver;
+        this.pool = pool;
+    }
+
+    public List<PageModel> load(List<File> specFiles) {
+        List<PageSpec> specs = new ArrayList<>();
+        for (File specFile : specFiles) {
+            try {
+                specs.addAll(PageSpec.read(specFile));
+            } catch (Exception e) {
+                problems.add(specFile.getName() + ": " + e.getMessage());
+            }
+        }
+
+        Map<String, Future<List<ClassModel>>> schemas = new HashMap<>();
+        List<PageSpec> inferred = new ArrayList<>();
+        for (PageSpec spec : specs) {
+            String key = spec.getSchemaKey();
+            if (key != null && !schemas.containsKey(key)) {
+                schemas.put(key, pool.submit(() -> spec.inferClasses(resolver)));
+                inferred.add(spec);
+            }
+        }
+
+        List<PageModel> pages = new ArrayList<>();
+        for (PageSpec spec : specs) {
+            try {
+                String key = spec.getSchemaKey();
+                pages.add(spec.toPageModel(key != null ? schemas.get(key).get() : null));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                while (cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                problems.add(spec.getName() + ": " + cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            } catch (RuntimeException e) {
+                problems.add(spec.getName() + ": " + e.getMessage());
+            }
+        }
+        for (PageSpec spec : inferred) {
+            maxDepth = Math.max(maxDepth, spec.getMaxDepth());
+            nodeCount += spec.getNodeCount();
+        }
+        return pages;
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+
+    /**
+     * Deepest nesting level over all the samples inferred by {@link #load}.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Number of sample values visited by {@link #load}, each distinct sample counted once.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+}
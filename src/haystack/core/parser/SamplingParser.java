@@ -0,0 +1,52 @@
+package haystack.core.parser;
+
+import haystack.core.LanguageResolver;
+import org.json.JSONObject;
+
+import java.io.Reader;
+
+/**
+ * Merging strategy with a capped cost: every array contributes only its first
+ * {@code firstCount} elements and {@code randomCount} random others, so inference time stays
+ * flat however long the arrays get. Read from text, the sample is never held as a
+ * {@link JSONObject}: skipped elements are only tokenized. {@link #getCoverage()} reports the
+ * share of array elements that were actually inspected.
+ */
+public class SamplingParser extends MergingParser {
+
+    private static final long DEFAULT_SEED = 0x5eed;
+
+    private final ElementSampler sampler;
+
+    public SamplingParser(LanguageResolver resolver, int firstCount, int randomCount) {
+        super(resolver);
+        sampler = new ElementSampler(firstCount, randomCount, DEFAULT_SEED);
+    }
+
+    @Override
+    public void parse(JSONObject json, String rootClassName) {
+        SchemaNode.Stats stats = new SchemaNode.Stats();
+        addRoot(rootClassName, SchemaNode.infer(json, sampler, stats, 1));
+        visitNodes(stats.getNodeCount(), stats.getMaxDepth());
+    }
+
+    @Override
+    public void parse(Reader reader, String rootClassName) {
+        SchemaNode.Stats stats = new SchemaNode.Stats();
+        addRoot(rootClassName, infer(new JsonTokenizer(reader), sampler, stats));
+        visitNodes(stats.getNodeCount(), stats.getMaxDepth());
+    }
+
+    public long getSampledElements() {
+        return sampler.getSampled();
+    }
+
+    public long getTotalElements() {
+        return sampler.getTotal();
+    }
+
+    public double getCoverage() {
+        long total = sampler.getTotal();
+        return total == 0 ? 1.0 : (double) sampler.getSampled() / total;
+    }
+}
@@ -0,0 +1,383 @@
+package haystack.core.parser;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shape of a JSON value, folded over every sample seen at the same position.
+ * {@link #merge(SchemaNode)} is a lattice join (null below everything, numbers widen,
+ * any other mismatch goes to {@link Kind#ANY}), so samples can be merged in any grouping.
+ */
+class SchemaNode {
+
+    enum Kind {
+        NULL, VALUE, OBJECT, ARRAY, ANY
+    }
+
+    private static final String[] NUMBER_TYPES = {"Integer", "Long", "BigInteger", "Double", "BigDecimal"};
+
+    Kind kind;
+    String valueType;
+    String sample;
+    int count;
+    int nulls;
+    Map<String, SchemaNode> fields;
+    SchemaNode items;
+
+    private SchemaNode(Kind kind) {
+        this.kind = kind;
+        this.count = 1;
+    }
+
+    static SchemaNode infer(Object value) {
+        return infer(value, null, new Stats(), 1);
+    }
+
+    /**
+     * Infers the shape of {@code value}, looking only at the array elements picked by
+     * {@code sampler}, or at every element when it is null. The walk keeps its own stack of
+     * open objects and arrays; a node is attached to its parent once all of its children are done.
+     * Every value visited is counted in {@code stats}, {@code depth} being the level of {@code value}.
+     */
+    static SchemaNode infer(Object value, ElementSampler sampler, Stats stats, int depth) {
+        stats.visit(depth);
+        SchemaNode root = leaf(value);
+        if (root != null) {
+            return root;
+        }
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(open(value, sampler, stats, depth));
+        while (true) {
+            Frame frame = stack.peek();
+            if (!frame.hasNext()) {
+                stack.pop();
+                Frame parent = stack.peek();
+                if (parent == null) {
+                    return frame.node;
+                }
+                parent.attach(frame.node);
+                continue;
+            }
+            Object child = frame.next();
+            int childDepth = depth + stack.size();
+            stats.visit(childDepth);
+            SchemaNode node = leaf(child);
+            if (node != null) {
+                frame.attach(node);
+            } else {
+                stack.push(open(child, sampler, stats, childDepth));
+            }
+        }
+    }
+
+    static SchemaNode object() {
+        SchemaNode node = new SchemaNode(Kind.OBJECT);
+        node.fields = new LinkedHashMap<>();
+        return node;
+    }
+
+    static SchemaNode array() {
+        return new SchemaNode(Kind.ARRAY);
+    }
+
+    /**
+     * Returns the node of a value without children, or null for an object or array.
+     */
+    static SchemaNode leaf(Object value) {
+        if (value instanceof JSONObject || value instanceof JSONArray) {
+            return null;
+        }
+        if (value == null || JSONObject.NULL.equals(value)) {
+            SchemaNode node = new SchemaNode(Kind.NULL);
+            node.nulls = 1;
+            return node;
+        }
+        SchemaNode node = new SchemaNode(Kind.VALUE);
+        node.valueType = value.getClass().getSimpleName();
+        node.sample = String.valueOf(value);
+        return node;
+    }
+
+    private static Frame open(Object value, ElementSampler sampler, Stats stats, int depth) {
+        if (value instanceof JSONObject) {
+            JSONObject json = (JSONObject) value;
+            return new Frame(object(), json, json.keySet().iterator());
+        }
+        JSONArray array = (JSONArray) value;
+        SchemaNode node = array();
+        if (sampler != null) {
+            int[] selected = sampler.select(array.length());
+            return new Frame(node, array, selected, selected.length);
+        }
+        if (array.length() > MergeTask.THRESHOLD) {
+            node.items = new MergeTask(array, 0, array.length(), stats, depth + 1).invoke();
+            return new Frame(node, array, null, 0);
+        }
+        return new Frame(node, array, null, array.length());
+    }
+
+    /**
+     * Folds elements {@code [from, to)} of the array into one node, or returns null for an empty range.
+     */
+    static SchemaNode inferItems(JSONArray array, int from, int to, Stats stats, int depth) {
+        if (to - from > MergeTask.THRESHOLD) {
+            return new MergeTask(array, from, to, stats, depth).invoke();
+        }
+        SchemaNode result = null;
+        for (int i = from; i < to; i++) {
+            result = merge(result, infer(array.get(i), null, stats, depth));
+        }
+        return result;
+    }
+
+    static SchemaNode merge(SchemaNode left, SchemaNode right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return left.merge(right);
+    }
+
+    /**
+     * Joins {@code other} into this node and returns the result, which may be either node.
+     * Children present on both sides are joined from a work stack after their parents.
+     */
+    SchemaNode merge(SchemaNode other) {
+        Deque<MergeStep> steps = new ArrayDeque<>();
+        SchemaNode result = join(this, other, steps);
+        while (!steps.isEmpty()) {
+            MergeStep step = steps.pop();
+            SchemaNode joined = join(step.left, step.right, steps);
+            if (step.key == null) {
+                step.parent.items = joined;
+            } else {
+                step.parent.fields.put(step.key, joined);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Joins the two nodes themselves; pairs of children that need joining too are pushed on
+     * {@code steps}.
+     */
+    private static SchemaNode join(SchemaNode node, SchemaNode other, Deque<MergeStep> steps) {
+        if (other.kind == Kind.NULL && node.kind != Kind.NULL) {
+            node.count += other.count;
+            node.nulls += other.nulls;
+            return node;
+        }
+        if (node.kind == Kind.NULL && other.kind != Kind.NULL) {
+            other.count += node.count;
+            other.nulls += node.nulls;
+            return other;
+        }
+        if (node.kind != other.kind) {
+            return node.toAny(other);
+        }
+        switch (node.kind) {
+            case VALUE:
+                if (!node.valueType.equals(other.valueType)) {
+                    int rank = numberRank(node.valueType);
+                    int otherRank = numberRank(other.valueType);
+                    if (rank < 0 || otherRank < 0) {
+                        return node.toAny(other);
+                    }
+                    node.valueType = NUMBER_TYPES[Math.max(rank, otherRank)];
+                }
+                if (node.sample == null) {
+                    node.sample = other.sample;
+                }
+                break;
+            case OBJECT:
+                for (Map.Entry<String, SchemaNode> entry : other.fields.entrySet()) {
+                    SchemaNode field = node.fields.get(entry.getKey());
+                    if (field == null) {
+                        node.fields.put(entry.getKey(), entry.getValue());
+                    } else {
+                        steps.push(new MergeStep(node, entry.getKey(), field, entry.getValue()));
+                    }
+                }
+                break;
+            case ARRAY:
+                if (node.items == null) {
+                    node.items = other.items;
+                } else if (other.items != null) {
+                    steps.push(new MergeStep(node, null, node.items, other.items));
+                }
+                break;
+            default:
+                break;
+        }
+        node.count += other.count;
+        node.nulls += other.nulls;
+        return node;
+    }
+
+    SchemaNode copy() {
+        SchemaNode root = shallowCopy(this);
+        Deque<SchemaNode[]> pending = new ArrayDeque<>();
+        pending.push(new SchemaNode[]{this, root});
+        while (!pending.isEmpty()) {
+            SchemaNode[] pair = pending.pop();
+            SchemaNode source = pair[0];
+            SchemaNode copy = pair[1];
+            if (source.fields != null) {
+                copy.fields = new LinkedHashMap<>();
+                for (Map.Entry<String, SchemaNode> entry : source.fields.entrySet()) {
+                    SchemaNode child = shallowCopy(entry.getValue());
+                    copy.fields.put(entry.getKey(), child);
+                    pending.push(new SchemaNode[]{entry.getValue(), child});
+                }
+            }
+            if (source.items != null) {
+                copy.items = shallowCopy(source.items);
+                pending.push(new SchemaNode[]{source.items, copy.items});
+            }
+        }
+        return root;
+    }
+
+    private static SchemaNode shallowCopy(SchemaNode node) {
+        SchemaNode copy = new SchemaNode(node.kind);
+        copy.valueType = node.valueType;
+        copy.sample = node.sample;
+        copy.count = node.count;
+        copy.nulls = node.nulls;
+        return copy;
+    }
+
+    boolean isNullable() {
+        return nulls > 0;
+    }
+
+    /**
+     * True if the field was missing from some of the objects folded into this one.
+     */
+    boolean isOptional(String field) {
+        SchemaNode node = fields.get(field);
+        return node == null || node.count < count - nulls;
+    }
+
+    private SchemaNode toAny(SchemaNode other) {
+        kind = Kind.ANY;
+        valueType = "Object";
+        fields = null;
+        items = null;
+        count += other.count;
+        nulls += other.nulls;
+        return this;
+    }
+
+    private static int numberRank(String type) {
+        for (int i = 0; i < NUMBER_TYPES.length; i++) {
+            if (NUMBER_TYPES[i].equals(type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Node count and deepest level of an inference; large arrays are folded on several
+     * threads, so both are updated atomically.
+     */
+    static final class Stats {
+        private final LongAdder nodes = new LongAdder();
+        private final AtomicInteger maxDepth = new AtomicInteger();
+
+        void visit(int depth) {
+            nodes.increment();
+            maxDepth.accumulateAndGet(depth, Math::max);
+        }
+
+        int getNodeCount() {
+            return nodes.intValue();
+        }
+
+        int getMaxDepth() {
+            return maxDepth.get();
+        }
+    }
+
+    /**
+     * An object or array whose children are still being inferred.
+     */
+    private static final class Frame {
+        final SchemaNode node;
+        final JSONObject json;
+        final JSONArray array;
+        final Iterator<String> keys;
+        final int[] indices;
+        final int length;
+        int position;
+        String key;
+
+        Frame(SchemaNode node, JSONObject json, Iterator<String> keys) {
+            this.node = node;
+            this.json = json;
+            this.array = null;
+            this.keys = keys;
+            this.indices = null;
+            this.length = 0;
+        }
+
+        /**
+         * Walks the elements at {@code indices}, or the first {@code length} ones when it is null.
+         */
+        Frame(SchemaNode node, JSONArray array, int[] indices, int length) {
+            this.node = node;
+            this.json = null;
+            this.array = array;
+            this.keys = null;
+            this.indices = indices;
+            this.length = length;
+        }
+
+        boolean hasNext() {
+            return keys != null ? keys.hasNext() : position < length;
+        }
+
+        Object next() {
+            if (keys != null) {
+                key = keys.next();
+                return json.get(key);
+            }
+            int index = indices == null ? position : indices[position];
+            position++;
+            return array.get(index);
+        }
+
+        void attach(SchemaNode child) {
+            if (keys != null) {
+                node.fields.put(key, child);
+            } else {
+                node.items = merge(node.items, child);
+            }
+        }
+    }
+
+    /**
+     * Pending join of two children of {@code parent}: a field, or the array items when
+     * {@code key} is null.
+     */
+    private static final class MergeStep {
+        final SchemaNode parent;
+        final String key;
+        final SchemaNode left;
+        final SchemaNode right;
+
+        MergeStep(SchemaNode parent, String key, SchemaNode left, SchemaNode right) {
+            this.parent = parent;
+            this.key = key;
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
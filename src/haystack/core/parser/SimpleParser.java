@@ -28,23 +28,36 @@ public class SimpleParser extends JsonParser {
         return new ArrayList<>(classes.values());
     }
 
-    private void findClasses(JSONObject json, String name) {
-        ClassModel classData = new ClassModel(languageResolver.getClassName(name));
-        Iterator<String> iterator = json.keys();
-        while (iterator.hasNext()) {
-            String key = iterator.next();
-            Object val = json.get(key);
+    /**
+     * Walks the objects depth first with an explicit stack; a class is registered once all
+     * of its keys are done, in the same order the recursive walk used to produce.
+     */
+    private void findClasses(JSONObject root, String rootName) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root, rootName));
+        visitNode(stack.size());
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (!frame.keys.hasNext()) {
+                stack.pop();
+                classes.put(frame.classData.getName(), frame.classData);
+                continue;
+            }
+            ClassModel classData = frame.classData;
+            String key = frame.keys.next();
+            Object val = frame.json.get(key);
+            visitNode(stack.size() + 1);
 
             if (val instanceof JSONObject) {
-                if (classes.get(key) == null) {
-                    String className = languageResolver.getClassName(key);
+                String className = languageResolver.getClassName(key);
 
-                    classData.addField(new FieldModel(key,
-                            languageResolver.getFieldName(key),
-                            languageResolver.resolve(className),
-                            languageResolver.getObjectOriginalValue()));
+                classData.addField(new FieldModel(key,
+                        languageResolver.getFieldName(key),
+                        languageResolver.resolve(className),
+                        languageResolver.getObjectOriginalValue()));
 
-                    findClasses((JSONObject) val, key);
+                if (classes.get(className) == null) {
+                    stack.push(new Frame((JSONObject) val, key));
                 }
             } else if (val instanceof JSONArray) {
                 JSONArray array = (JSONArray) val;
@@ -65,11 +78,12 @@ public class SimpleParser extends JsonParser {
 
                 if (array.length() > 0) {
                     Object firstArrayElement = array.get(0);
+                    visitNode(stack.size() + 2);
                     if (firstArrayElement instanceof JSONObject) {
                         classData.addField(new FieldModel(key, languageResolver.getFieldName(key),
                                 languageResolver.getArrayType(arrayItemTypeName),
                                 languageResolver.getArrayOriginalValue()));
-                        findClasses((JSONObject) firstArrayElement, languageResolver.resolve(arrayItemTypeName));
+                        stack.push(new Frame((JSONObject) firstArrayElement, languageResolver.resolve(arrayItemTypeName)));
                     } else {
                         String type = firstArrayElement.getClass().getSimpleName();
                         classData.addField(new FieldModel(key, languageResolver.getFieldName(key),
@@ -86,8 +100,18 @@ public class SimpleParser extends JsonParser {
                 classData.addField(field);
             }
         }
-        String className = languageResolver.getClassName(name);
-        classes.put(className, classData);
+    }
+
+    private class Frame {
+        final JSONObject json;
+        final ClassModel classData;
+        final Iterator<String> keys;
+
+        Frame(JSONObject json, String name) {
+            this.json = json;
+            this.classData = new ClassModel(languageResolver.getClassName(name));
+            this.keys = json.keys();
+        }
     }
 
 }
@@ -0,0 +1,174 @@
+package haystack.core.parser;
+
+import haystack.core.LanguageResolver;
+import haystack.core.models.ClassModel;
+import haystack.core.models.FieldModel;
+import org.apache.commons.lang.StringUtils;
+import org.json.JSONObject;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * Infers the same classes as {@link SimpleParser} straight from the JSON text, reading it
+ * through a {@link JsonTokenizer} so the sample never has to be held as a {@link JSONObject}.
+ * Only the first element of every array is inspected, the rest is skipped. Fields come out in
+ * the order {@link JSONObject} hashes their keys, as they do from {@link SimpleParser}; nested
+ * objects are still visited in document order, so when two differently shaped objects map to
+ * one class name, the one found first in the text defines it.
+ */
+public class StreamingParser extends JsonParser {
+
+    private Map<String, ClassModel> classes;
+
+    public StreamingParser(LanguageResolver resolver) {
+        super(resolver);
+        classes = new HashMap<>();
+    }
+
+    @Override
+    public void parse(JSONObject json, String rootClassName) {
+        parse(json.toString(), rootClassName);
+    }
+
+    public void parse(CharSequence json, String rootClassName) {
+        parse(new StringReader(json.toString()), rootClassName);
+    }
+
+    public void parse(Reader reader, String rootClassName) {
+        findClasses(new JsonTokenizer(reader), rootClassName);
+    }
+
+    @Override
+    public List<ClassModel> getClasses() {
+        return new ArrayList<>(classes.values());
+    }
+
+    /**
+     * Walks the token stream with an explicit stack of open objects, so nesting depth is
+     * bounded by heap rather than by the thread stack.
+     */
+    private void findClasses(JsonTokenizer tokenizer, String rootName) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        tokenizer.beginObject();
+        stack.push(new Frame(rootName, false));
+        visitNode(stack.size());
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (!tokenizer.hasNext()) {
+                tokenizer.endObject();
+                stack.pop();
+                for (List<FieldModel> fields : frame.fields.values()) {
+                    for (FieldModel field : fields) {
+                        frame.classData.addField(field);
+                    }
+                }
+                classes.put(frame.classData.getName(), frame.classData);
+                if (frame.firstArrayElement) {
+                    skipRemainingElements(tokenizer);
+                }
+                continue;
+            }
+            String key = tokenizer.nextName();
+            if (frame.fields.containsKey(key)) {
+                throw tokenizer.syntaxError("Duplicate key \"" + key + "\"");
+            }
+            List<FieldModel> keyFields = new ArrayList<>();
+            frame.fields.put(key, keyFields);
+            JsonTokenizer.Token token = tokenizer.peek();
+            visitNode(stack.size() + 1);
+
+            if (token == JsonTokenizer.Token.BEGIN_OBJECT) {
+                String className = languageResolver.getClassName(key);
+
+                keyFields.add(new FieldModel(key,
+                        languageResolver.getFieldName(key),
+                        languageResolver.resolve(className),
+                        languageResolver.getObjectOriginalValue()));
+
+                if (classes.get(className) == null) {
+                    tokenizer.beginObject();
+                    stack.push(new Frame(key, false));
+                } else {
+                    tokenizer.skipValue();
+                }
+            } else if (token == JsonTokenizer.Token.BEGIN_ARRAY) {
+                String typeName = StringUtils.capitalize(key);
+                ClassModel parsedClass = classes.get(typeName);
+
+                String arrayItemTypeName;
+
+                if (parsedClass != null) {
+                    keyFields.add(new FieldModel(key, languageResolver.getFieldName(key),
+                            languageResolver.getArrayType(typeName),
+                            languageResolver.getArrayOriginalValue()));
+                    arrayItemTypeName = typeName;
+                } else {
+                    arrayItemTypeName = languageResolver.getArrayItemOriginalValue(typeName);
+                }
+
+                tokenizer.beginArray();
+                if (!tokenizer.hasNext()) {
+                    tokenizer.endArray();
+                    continue;
+                }
+                visitNode(stack.size() + 2);
+                if (tokenizer.peek() == JsonTokenizer.Token.BEGIN_OBJECT) {
+                    keyFields.add(new FieldModel(key, languageResolver.getFieldName(key),
+                            languageResolver.getArrayType(arrayItemTypeName),
+                            languageResolver.getArrayOriginalValue()));
+                    tokenizer.beginObject();
+                    stack.push(new Frame(languageResolver.resolve(arrayItemTypeName), true));
+                } else {
+                    String type = nextValueType(tokenizer);
+                    keyFields.add(new FieldModel(key, languageResolver.getFieldName(key),
+                            languageResolver.getArrayType(type),
+                            languageResolver.getArrayOriginalValue()));
+                    skipRemainingElements(tokenizer);
+                }
+            } else {
+                Object val = nextValue(tokenizer);
+                String resolvedType = languageResolver.resolve(val.getClass().getSimpleName());
+                FieldModel field = new FieldModel(key, languageResolver.getFieldName(key), resolvedType
+                        , String.valueOf(val));
+                field.setDefaultValue(languageResolver.getDefaultValue(resolvedType));
+                keyFields.add(field);
+            }
+        }
+    }
+
+    private void skipRemainingElements(JsonTokenizer tokenizer) {
+        while (tokenizer.hasNext()) {
+            tokenizer.skipValue();
+        }
+        tokenizer.endArray();
+    }
+
+    private String nextValueType(JsonTokenizer tokenizer) {
+        if (tokenizer.peek() == JsonTokenizer.Token.BEGIN_ARRAY) {
+            tokenizer.skipValue();
+            return "JSONArray";
+        }
+        return nextValue(tokenizer).getClass().getSimpleName();
+    }
+
+    static Object nextValue(JsonTokenizer tokenizer) {
+        if (tokenizer.peek() == JsonTokenizer.Token.STRING) {
+            return tokenizer.nextString();
+        }
+        return JSONObject.stringToValue(tokenizer.nextLiteral());
+    }
+
+    private class Frame {
+        final ClassModel classData;
+        // fields of each key, hashed like JSONObject's keys until the object ends
+        final Map<String, List<FieldModel>> fields = new HashMap<>();
+        final boolean firstArrayElement;
+
+        Frame(String name, boolean firstArrayElement) {
+            this.classData = new ClassModel(languageResolver.getClassName(name));
+            this.firstArrayElement = firstArrayElement;
+        }
+    }
+}
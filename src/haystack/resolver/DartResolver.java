@@ -110,15 +110,21 @@ public class DartResolver extends LanguageResolver {
         return modifier.equals("var");
     }
 
+    /**
+     * Drops every non-letter character and capitalizes the letter that follows it.
+     */
     private String toCamelCase(String name) {
-        String result;
-        int nonCharPos = getNoCharPosition(name);
-        if (nonCharPos != -1) {
-            result = name.substring(0, nonCharPos) + StringUtils.capitalize(name.substring(nonCharPos + 1));
-            return toCamelCase(result);
-        } else {
-            result = name;
+        StringBuilder result = new StringBuilder(name.length());
+        boolean capitalizeNext = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetter(c)) {
+                capitalizeNext = true;
+            } else {
+                result.append(capitalizeNext ? Character.toTitleCase(c) : c);
+                capitalizeNext = false;
+            }
         }
-        return result;
+        return result.toString();
     }
 }
@@ -0,0 +1,177 @@
+package haystack.ui;
+
+import haystack.core.generator.GenerationManifest;
+import haystack.core.generator.OverwritePolicy;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists every existing file a generation would replace, each with its own
+ * {@link OverwritePolicy}, so all conflicts are settled in one dialog before rendering starts.
+ */
+public class ConflictDialog extends JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<File> files;
+    private final List<GenerationManifest.Status> statuses;
+    private final List<OverwritePolicy> policies = new ArrayList<>();
+    private final String basePath;
+    private final TextResources textResources;
+
+    private Map<File, OverwritePolicy> resolutions;
+
+    public ConflictDialog(Map<File, GenerationManifest.Status> conflicts, OverwritePolicy defaultPolicy,
+                          String basePath, TextResources textResources) {
+        this.files = new ArrayList<>(conflicts.keySet());
+        this.statuses = new ArrayList<>(conflicts.values());
+        this.basePath = basePath;
+        this.textResources = textResources;
+        for (int i = 0; i < files.size(); i++) {
+            policies.add(defaultPolicy);
+        }
+        init(defaultPolicy);
+    }
+
+    private void init(OverwritePolicy defaultPolicy) {
+        ConflictTableModel tableModel = new ConflictTableModel();
+        JTable table = new JTable(tableModel);
+        table.getColumnModel().getColumn(2).setCellEditor(new DefaultCellEditor(new JComboBox<>(OverwritePolicy.values())));
+        table.getColumnModel().getColumn(0).setPreferredWidth(420);
+
+        JComboBox<OverwritePolicy> allPolicies = new JComboBox<>(OverwritePolicy.values());
+        allPolicies.setSelectedItem(defaultPolicy);
+        allPolicies.addActionListener(e -> {
+            if (table.isEditing()) {
+                table.getCellEditor().stopCellEditing();
+            }
+            for (int i = 0; i < policies.size(); i++) {
+                policies.set(i, (OverwritePolicy) allPolicies.getSelectedItem());
+            }
+            tableModel.fireTableDataChanged();
+        });
+
+        JPanel top = new JPanel(new BorderLayout(8, 0));
+        top.setBorder(new EmptyBorder(0, 0, 8, 0));
+        top.add(new JLabel(textResources.getConflictsMessage(files.size())), BorderLayout.CENTER);
+        JPanel applyAll = new JPanel(new FlowLayout(FlowLayout.RIGHT, 4, 0));
+        applyAll.add(new JLabel(textResources.getConflictsApplyAllLabel()));
+        applyAll.add(allPolicies);
+        top.add(applyAll, BorderLayout.EAST);
+
+        JButton buttonOK = new JButton("OK");
+        JButton buttonCancel = new JButton("Cancel");
+        buttonOK.addActionListener(e -> {
+            if (table.isEditing()) {
+                table.getCellEditor().stopCellEditing();
+            }
+            onOK();
+        });
+        buttonCancel.addActionListener(e -> dispose());
+        JPanel bottom = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        bottom.add(buttonOK);
+        bottom.add(buttonCancel);
+
+        JPanel contentPane = new JPanel(new BorderLayout());
+        contentPane.setBorder(new EmptyBorder(10, 10, 10, 10));
+        contentPane.add(top, BorderLayout.NORTH);
+        contentPane.add(new JScrollPane(table), BorderLayout.CENTER);
+        contentPane.add(bottom, BorderLayout.SOUTH);
+        contentPane.setPreferredSize(new Dimension(760, 360));
+
+        setContentPane(contentPane);
+        setModal(true);
+        setTitle(textResources.getConflictsDialogTitle());
+        getRootPane().setDefaultButton(buttonOK);
+
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            public void windowClosing(WindowEvent e) {
+                dispose();
+            }
+        });
+
+        contentPane.registerKeyboardAction(e -> dispose(),
+                KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0),
+                JComponent.WHEN_ANCESTOR_OF_FOCUSED_COMPONENT);
+    }
+
+    private void onOK() {
+        resolutions = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            resolutions.put(files.get(i), policies.get(i));
+        }
+        dispose();
+    }
+
+    /**
+     * The policy chosen for every conflicting file, or null when the dialog was cancelled.
+     */
+    public Map<File, OverwritePolicy> getResolutions() {
+        return resolutions;
+    }
+
+    private class ConflictTableModel extends AbstractTableModel {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int getRowCount() {
+            return files.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 3;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            switch (column) {
+                case 0:
+                    return textResources.getConflictsFileColumn();
+                case 1:
+                    return textResources.getConflictsStateColumn();
+                default:
+                    return textResources.getConflictsActionColumn();
+            }
+        }
+
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return column == 2;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            switch (column) {
+                case 0:
+                    String path = files.get(row).getPath();
+                    return path.startsWith(basePath) ? path.substring(basePath.length() + 1) : path;
+                case 1:
+                    return textResources.getConflictState(statuses.get(row) == GenerationManifest.Status.EDITED);
+                default:
+                    return policies.get(row);
+            }
+        }
+
+        @Override
+        public void setValueAt(Object value, int row, int column) {
+            if (column == 2 && value != null) {
+                policies.set(row, (OverwritePolicy) value);
+                fireTableCellUpdated(row, column);
+            }
+        }
+    }
+}
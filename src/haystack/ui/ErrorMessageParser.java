@@ -1,40 +1,24 @@
 package haystack.ui;
 
 
+import haystack.core.parser.JsonValidator;
+
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class ErrorMessageParser {
 
-    private Pattern jsonCharacterErrorPattern = Pattern.compile("(?<=\\[character )(.*)(?= line )");
-    private Pattern jsonLineErrorPattern = Pattern.compile("(?<=line )(.*)(?=])");
-
-    public ErrorLocation findErrorLocation(String errorMessage) {
-        try {
-            Matcher characterMatcher = jsonCharacterErrorPattern.matcher(errorMessage);
-            if (characterMatcher.find()) {
-                String characterNumber = errorMessage.substring(characterMatcher.start(), characterMatcher.end());
-                String lineNumber = null;
-                Matcher lineMatcher = jsonLineErrorPattern.matcher(errorMessage);
-                if (lineMatcher.find()) {
-                    lineNumber = errorMessage.substring(lineMatcher.start(), lineMatcher.end());
-                }
-                if (lineNumber == null) return null;
-                return new ErrorLocation(Integer.valueOf(lineNumber), Integer.valueOf(characterNumber));
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
-
-    static class ErrorLocation {
-        public int line;
-        public int character;
+    private Pattern jsonErrorPattern = Pattern.compile("^(.*) at (\\d+) \\[character \\d+ line \\d+]$", Pattern.DOTALL);
 
-        public ErrorLocation(int line, int character) {
-            this.line = line;
-            this.character = character;
+    /**
+     * Splits an org.json error message into its text and the offset of the offending
+     * character, taken from the absolute "at N" position.
+     */
+    public JsonValidator.SyntaxError findError(String errorMessage) {
+        Matcher matcher = jsonErrorPattern.matcher(errorMessage);
+        if (!matcher.matches()) {
+            return null;
         }
+        return new JsonValidator.SyntaxError(matcher.group(1), Math.max(Integer.parseInt(matcher.group(2)) - 1, 0));
     }
 }
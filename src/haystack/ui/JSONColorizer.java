@@ -1,17 +1,36 @@
 package haystack.ui;
 
 import com.intellij.ui.JBColor;
+import haystack.core.parser.LineIndex;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.*;
 import java.awt.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Colors keys and brackets of the JSON in {@code editorPane}. Edits only mark the text they
+ * touch as damaged; on the next EDT turn it is re-lexed in one pass and its styles set as a few
+ * merged runs, so the cost follows the size of the edit, not of the document. Line starts are
+ * safe restart points as JSON strings cannot span them; inside long lines, such as minified
+ * JSON, the lexer also leaves a checkpoint on a bracket every {@link #CHECKPOINT_INTERVAL}
+ * characters. Re-lexing starts at the last restart point before the damage and stops at the
+ * first checkpoint after it that is still a token start. The line index is kept in step with
+ * the document the same way, for mapping error offsets to lines.
+ */
 public class JSONColorizer {
 
     private static final Color DEFAULT_JSON_KEY_COLOR = new Color(0, 188, 18);
 
+    private static final int NORMAL = 0;
+    private static final int BRACKET = 1;
+    private static final int KEY = 2;
+
+    private static final int CHECKPOINT_INTERVAL = 1024;
+
     private JTextPane editorPane;
 
     private StyledDocument document;
@@ -24,10 +43,13 @@ public class JSONColorizer {
     private Highlighter highlighter;
     private Highlighter.HighlightPainter painter;
 
-    private Pattern bracketsPattern = Pattern.compile("(?<!\")(?!\")(\\{|\\}|\\[|\\])");
-    private Pattern jsonKeyPattern = Pattern.compile("\"([^\"]*)\":");
+    private LineIndex lineIndex;
+    private Position damageStart;
+    private Position damageEnd;
+    // bracket offsets that were token starts when last lexed, in document order
+    private final List<Position> checkpoints = new ArrayList<>();
 
-    private Object last;
+    private final List<Object> errorHighlights = new ArrayList<>();
 
     public JSONColorizer(JTextPane editorPane, JBColor jsonKeyColor, JBColor bracketsColor) {
         this.editorPane = editorPane;
@@ -44,46 +66,257 @@ public class JSONColorizer {
 
         highlighter = editorPane.getHighlighter();
         painter = new DefaultHighlighter.DefaultHighlightPainter(JBColor.RED);
+
+        Segment text = new Segment();
+        document.render(() -> {
+            try {
+                document.getText(0, document.getLength(), text);
+            } catch (BadLocationException e) {
+                text.count = 0;
+            }
+            lineIndex = new LineIndex(text);
+        });
+        document.addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                Segment inserted = new Segment();
+                try {
+                    document.getText(e.getOffset(), e.getLength(), inserted);
+                } catch (BadLocationException ex) {
+                    ex.printStackTrace();
+                }
+                lineIndex.insert(e.getOffset(), inserted);
+                damage(e.getOffset(), e.getOffset() + e.getLength());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                lineIndex.remove(e.getOffset(), e.getLength());
+                damage(e.getOffset(), e.getOffset());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                // our own style changes
+            }
+        });
+        colorize();
     }
 
     public JSONColorizer(JTextPane editorPane) {
         this(editorPane, new JBColor(DEFAULT_JSON_KEY_COLOR, DEFAULT_JSON_KEY_COLOR), JBColor.RED);
     }
 
+    /**
+     * Recolors the whole document right away.
+     */
     public void colorize() {
-        document.setCharacterAttributes(0, editorPane.getText().length(), normalAttributeSet, true);
-        Matcher matcher = bracketsPattern.matcher(editorPane.getText());
-        while (matcher.find()) {
-            document.setCharacterAttributes(matcher.start(),
-                    matcher.end() - matcher.start(), jsonBtacketsAttributeSet, false);
+        damageStart = null;
+        damageEnd = null;
+        colorize(0, document.getLength());
+    }
+
+    /**
+     * Styles can't be changed from inside a document notification, so damage is collected
+     * into a pair of positions (which follow later edits) and handled in one deferred pass.
+     */
+    private void damage(int start, int end) {
+        boolean scheduled = damageStart != null;
+        try {
+            if (damageStart == null || start < damageStart.getOffset()) {
+                damageStart = document.createPosition(start);
+            }
+            if (damageEnd == null || end > damageEnd.getOffset()) {
+                damageEnd = document.createPosition(end);
+            }
+        } catch (BadLocationException e) {
+            e.printStackTrace();
+            return;
+        }
+        if (!scheduled) {
+            SwingUtilities.invokeLater(this::colorizeDamage);
         }
+    }
 
-        Matcher keysMatcher = jsonKeyPattern.matcher(editorPane.getText());
-        while (keysMatcher.find()) {
-            document.setCharacterAttributes(keysMatcher.start(),
-                    keysMatcher.end() - keysMatcher.start(),
-                    jsonKeyAttributeSet, false);
+    private void colorizeDamage() {
+        if (damageStart == null) {
+            return;
         }
+        int start = damageStart.getOffset();
+        int end = damageEnd.getOffset();
+        damageStart = null;
+        damageEnd = null;
+        colorize(start, end);
+    }
+
+    private void colorize(int start, int end) {
+        List<int[]> runs = new ArrayList<>();
+        List<Integer> newCheckpoints = new ArrayList<>();
+        int[] region = new int[2];
+        Segment text = new Segment();
+        document.render(() -> {
+            int length = document.getLength();
+            int from = Math.min(start, length);
+            int to = Math.min(end, length);
+            int lastLine = lineIndex.getLine(to);
+            int lineEnd = lastLine + 1 < lineIndex.getLineCount() ? lineIndex.getLineStart(lastLine + 1) : length;
+            region[0] = lineIndex.getLineStart(lineIndex.getLine(from));
+            int restart = findCheckpoint(from) - 1;
+            if (restart >= 0 && checkpoints.get(restart).getOffset() > region[0]) {
+                region[0] = checkpoints.get(restart).getOffset();
+                newCheckpoints.add(region[0]);
+            }
+            // only checkpoints past the damage still hold; the lexer can stop at one of those
+            int first = findCheckpoint(to + 1);
+            int last = findCheckpoint(lineEnd);
+            int[] syncPoints = new int[last - first];
+            for (int i = first; i < last; i++) {
+                syncPoints[i - first] = checkpoints.get(i).getOffset();
+            }
+            try {
+                document.getText(region[0], lineEnd - region[0], text);
+            } catch (BadLocationException e) {
+                text.count = 0;
+            }
+            region[1] = lex(text, region[0], syncPoints, runs, newCheckpoints);
+        });
+        for (int[] run : runs) {
+            document.setCharacterAttributes(run[0], run[1], getAttributes(run[2]), true);
+        }
+        int first = findCheckpoint(region[0]);
+        // a region reaching the end also drops checkpoints that collapsed onto it with deleted text
+        int stop = region[1] < document.getLength() ? findCheckpoint(region[1]) : checkpoints.size();
+        checkpoints.subList(first, stop).clear();
+        List<Position> positions = new ArrayList<>();
+        for (int offset : newCheckpoints) {
+            try {
+                positions.add(document.createPosition(offset));
+            } catch (BadLocationException e) {
+                e.printStackTrace();
+            }
+        }
+        checkpoints.addAll(first, positions);
+    }
+
+    /**
+     * Index of the first checkpoint at or after {@code offset}.
+     */
+    private int findCheckpoint(int offset) {
+        int low = 0;
+        int high = checkpoints.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (checkpoints.get(middle).getOffset() < offset) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private AttributeSet getAttributes(int style) {
+        switch (style) {
+            case BRACKET:
+                return jsonBtacketsAttributeSet;
+            case KEY:
+                return jsonKeyAttributeSet;
+            default:
+                return normalAttributeSet;
+        }
+    }
+
+    /**
+     * Single pass over {@code text}, appending {offset, length, style} runs. Adjacent tokens of
+     * the same style share a run. Stops early at a token starting on one of the ascending
+     * {@code syncPoints}, as the rest lexes as before from there, and returns the end offset.
+     * Brackets that are good checkpoints are added to {@code newCheckpoints}.
+     */
+    private static int lex(Segment text, int offset, int[] syncPoints, List<int[]> runs, List<Integer> newCheckpoints) {
+        char[] chars = text.array;
+        int begin = text.offset;
+        int limit = text.offset + text.count;
+        int sync = 0;
+        int lastRestart = begin;
+        int i = begin;
+        while (i < limit) {
+            char c = chars[i];
+            int tokenStart = i;
+            int position = offset + tokenStart - begin;
+            while (sync < syncPoints.length && syncPoints[sync] < position) {
+                sync++;
+            }
+            if (sync < syncPoints.length && syncPoints[sync] == position) {
+                return position;
+            }
+            int style;
+            if (c == '{' || c == '}' || c == '[' || c == ']') {
+                style = BRACKET;
+                if (i - lastRestart >= CHECKPOINT_INTERVAL) {
+                    newCheckpoints.add(position);
+                    lastRestart = i;
+                }
+                i++;
+            } else if (c == '"') {
+                i++;
+                while (i < limit && chars[i] != '"' && chars[i] != '\n') {
+                    // an escape never takes the newline, so strings stay within their line
+                    i += chars[i] == '\\' && i + 1 < limit && chars[i + 1] != '\n' ? 2 : 1;
+                }
+                i = Math.min(i < limit && chars[i] == '"' ? i + 1 : i, limit);
+                int colon = i;
+                while (colon < limit && (chars[colon] == ' ' || chars[colon] == '\t')) {
+                    colon++;
+                }
+                if (colon < limit && chars[colon] == ':') {
+                    style = KEY;
+                    i = colon + 1;
+                } else {
+                    style = NORMAL;
+                }
+            } else {
+                style = NORMAL;
+                while (i < limit && "{}[]\"".indexOf(chars[i]) < 0) {
+                    if (chars[i] == '\n') {
+                        lastRestart = i + 1;
+                    }
+                    i++;
+                }
+            }
+            int[] previous = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+            if (previous != null && previous[2] == style) {
+                previous[1] += i - tokenStart;
+            } else {
+                runs.add(new int[]{position, i - tokenStart, style});
+            }
+        }
+        return offset + text.count;
+    }
+
+    public LineIndex getLineIndex() {
+        return lineIndex;
     }
 
     public void clearErrorHighLight() {
-        if (last != null) {
-            highlighter.removeHighlight(last);
-            last = null;
+        for (Object highlight : errorHighlights) {
+            highlighter.removeHighlight(highlight);
         }
+        errorHighlights.clear();
     }
 
-    public void highlightError(int line, int character) {
-        Element root = document.getDefaultRootElement();
-        int startOfLineOffset = root.getElement(line - 1).getStartOffset() + (character - 1);
-        try {
-            if (last != null) {
-                highlighter.removeHighlight(last);
-                last = null;
+    /**
+     * Replaces the error highlights with one on the character at each of {@code offsets}.
+     */
+    public void highlightErrors(List<Integer> offsets) {
+        clearErrorHighLight();
+        int length = document.getLength();
+        for (int offset : offsets) {
+            int start = Math.max(Math.min(offset, length - 1), 0);
+            try {
+                errorHighlights.add(highlighter.addHighlight(start, Math.min(start + 1, length), painter));
+            } catch (BadLocationException e) {
+                e.printStackTrace();
             }
-            last = highlighter.addHighlight(startOfLineOffset - 1, startOfLineOffset, painter);
-        } catch (BadLocationException e) {
-            e.printStackTrace();
         }
     }
 }
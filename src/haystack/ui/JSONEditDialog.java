@@ -4,21 +4,38 @@ import com.intellij.openapi.ui.Messages;
 import haystack.core.models.ClassModel;
 import haystack.core.models.PageModel;
 import haystack.core.models.PageType;
-import haystack.core.parser.SimpleParser;
+import haystack.core.parser.ClassDeduplicator;
+import haystack.core.parser.JsonFormatter;
+import haystack.core.parser.JsonParser;
+import haystack.core.parser.JsonValidator;
+import haystack.core.parser.MergingParser;
+import haystack.core.parser.SamplingParser;
+import haystack.core.parser.StreamingParser;
 import haystack.resolver.DartResolver;
 import org.json.JSONException;
-import org.json.JSONObject;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.*;
 
 public class JSONEditDialog extends JDialog {
+    private static final int INFERENCE_FIRST_ELEMENT = 0;
+    private static final int INFERENCE_MERGE = 1;
+    private static final int INFERENCE_SAMPLE = 2;
+    private static final int SAMPLE_FIRST_ELEMENTS = 50;
+    private static final int SAMPLE_RANDOM_ELEMENTS = 200;
+    private static final int FORMAT_DELAY_MILLIS = 300;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
     private JPanel contentPane;
     private JButton buttonOK;
     private JButton buttonCancel;
@@ -41,6 +58,7 @@ public class JSONEditDialog extends JDialog {
     private JCheckBox webViewCheckBox;
     private JCheckBox drawerCheckBox;
     private JButton btnInit;
+    private JButton btnBatch;
     private JPanel appBarInfo;
     private JPanel detailPanel;
     private JPanel CustomScrollView;
@@ -65,10 +83,21 @@ public class JSONEditDialog extends JDialog {
     private JCheckBox createCheckBox;
     private JCheckBox updateCheckBox;
     private JCheckBox deleteCheckBox;
+    private JCheckBox backgroundDecodeCheckBox;
+    private JCheckBox cacheCheckBox;
+    private JComboBox<String> inferenceComboBox;
+    private JCheckBox schemaCacheCheckBox;
     private JSONColorizer jsonColorizer;
     private JSONEditCallbacks callbacks;
     private ErrorMessageParser errorMessageParser;
     private boolean isFormatting = false;
+    private int documentRevision;
+    private ScheduledFuture<?> pendingFormatting;
+    private final ScheduledExecutorService formatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Haystack JSON formatter");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private TextResources textResources;
 
@@ -81,6 +110,7 @@ public class JSONEditDialog extends JDialog {
         getRootPane().setDefaultButton(buttonOK);
 
         btnInit.addActionListener(e -> initTemplate());
+        btnBatch.addActionListener(e -> onBatch());
         buttonOK.addActionListener(e -> onOK());
         buttonCancel.addActionListener(e -> dispose());
 
@@ -161,27 +191,29 @@ public class JSONEditDialog extends JDialog {
             @Override
             public void insertUpdate(DocumentEvent e) {
                 if (!isFormatting) {
-                    formatJson(jsonTextPanel.getText());
+                    scheduleFormatting();
                 }
             }
 
             @Override
             public void removeUpdate(DocumentEvent e) {
                 if (!isFormatting) {
-                    formatJson(jsonTextPanel.getText());
+                    scheduleFormatting();
                 }
             }
 
             @Override
             public void changedUpdate(DocumentEvent e) {
-                if (!isFormatting) {
-                    formatJson(jsonTextPanel.getText());
-                }
+                // attribute changes only, the text is unchanged
             }
         });
         PopupListener popupListener = new PopupListener(GuiHelper.getJsonContextMenuPopup(jsonTextPanel, textResources));
         jsonTextPanel.addMouseListener(popupListener);
 
+        for (String mode : textResources.getInferenceModes()) {
+            inferenceComboBox.addItem(mode);
+        }
+
         jsonColorizer = new JSONColorizer(jsonTextPanel);
         errorMessageParser = new ErrorMessageParser();
     }
@@ -192,6 +224,13 @@ public class JSONEditDialog extends JDialog {
         }
     }
 
+    private void onBatch() {
+        dispose();
+        if (callbacks != null) {
+            callbacks.onBatchGenerate();
+        }
+    }
+
     private void onOK() {
         String text = jsonTextPanel.getText();
         if (!uiOnlyCheckBox.isSelected() && text.isEmpty()) {
@@ -218,12 +257,15 @@ public class JSONEditDialog extends JDialog {
         pageModel.modelName = className.trim();
         pageModel.isCustomWidget = widgetCheckBox.isSelected();
         pageModel.isUIOnly = uiOnlyCheckBox.isSelected();
+        pageModel.useSchemaCache = schemaCacheCheckBox.isSelected();
 
         pageModel.viewModelQuery = queryCheckBox.isSelected();
         pageModel.viewModelGet = getCheckBox.isSelected();
         pageModel.viewModelCreate = createCheckBox.isSelected();
         pageModel.viewModelUpdate = updateCheckBox.isSelected();
         pageModel.viewModelDelete = deleteCheckBox.isSelected();
+        pageModel.decodeInBackground = backgroundDecodeCheckBox.isSelected();
+        pageModel.cacheResponses = cacheCheckBox.isSelected();
         if (mannulRadioButton.isSelected()) {
             pageModel.pageType = PageType.MANNUL;
             pageModel.genAppBar = appBarCheckBox.isSelected();
@@ -275,50 +317,121 @@ public class JSONEditDialog extends JDialog {
     }
 
 
-    private void formatJson(String text) {
-        if (text.length() == 0) {
-            jsonErrorLabel.setText("");
-            jsonColorizer.clearErrorHighLight();
+    /**
+     * Called on every edit: only bumps the revision and restarts the debounce timer, the
+     * document is read, validated and formatted on {@link #formatExecutor}.
+     */
+    private void scheduleFormatting() {
+        final int revision = ++documentRevision;
+        if (pendingFormatting != null) {
+            pendingFormatting.cancel(true);
+        }
+        pendingFormatting = formatExecutor.schedule(() -> formatJson(revision),
+                FORMAT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void formatJson(int revision) {
+        Document document = jsonTextPanel.getDocument();
+        String[] text = new String[1];
+        document.render(() -> {
+            try {
+                text[0] = document.getText(0, document.getLength());
+            } catch (BadLocationException e) {
+                text[0] = "";
+            }
+        });
+        String formatted = null;
+        List<JsonValidator.SyntaxError> errors = Collections.emptyList();
+        try {
+            if (!text[0].isEmpty()) {
+                formatted = new JsonFormatter(4).format(text[0]);
+            }
+        } catch (JSONException jsonException) {
+            errors = new JsonValidator(MAX_REPORTED_ERRORS).validate(text[0]);
+            if (errors.isEmpty()) {
+                JsonValidator.SyntaxError error = errorMessageParser.findError(jsonException.getMessage());
+                errors = error != null ? Collections.singletonList(error)
+                        : Collections.singletonList(new JsonValidator.SyntaxError(jsonException.getMessage(), 0));
+            }
+        } catch (CancellationException e) {
+            return;
+        } catch (Exception e) {
+            e.printStackTrace();
             return;
         }
-        if (isFormatting) {
-            isFormatting = false;
+        String result = formatted;
+        List<JsonValidator.SyntaxError> syntaxErrors = errors;
+        SwingUtilities.invokeLater(() -> applyFormatting(revision, text[0], result, syntaxErrors));
+    }
+
+    private void applyFormatting(int revision, String text, String formatted, List<JsonValidator.SyntaxError> errors) {
+        if (revision != documentRevision || !isDisplayable()) {
             return;
         }
-        isFormatting = true;
-        Runnable doFormatting = () -> {
-            try {
-                JSONObject json = new JSONObject(text);
+        if (!errors.isEmpty()) {
+            jsonErrorLabel.setText(textResources.getJSONErrorsMessage(
+                    errors.get(0).format(jsonColorizer.getLineIndex()), errors.size()));
+            List<Integer> offsets = new ArrayList<>(errors.size());
+            for (JsonValidator.SyntaxError error : errors) {
+                offsets.add(error.getOffset());
+            }
+            jsonColorizer.highlightErrors(offsets);
+        } else {
+            jsonErrorLabel.setText("");
+            jsonColorizer.clearErrorHighLight();
+            if (formatted != null && !formatted.equals(text)) {
                 int currentCaretPosition = jsonTextPanel.getCaretPosition();
-                jsonTextPanel.setText(json.toString(4));
-                jsonTextPanel.setCaretPosition(currentCaretPosition);
-                jsonErrorLabel.setText("");
-                jsonColorizer.clearErrorHighLight();
-            } catch (JSONException jsonException) {
-                String errorMessage = jsonException.getMessage();
-                jsonErrorLabel.setText(errorMessage);
-
-                ErrorMessageParser.ErrorLocation errorLocation = errorMessageParser.findErrorLocation(errorMessage);
-                if (errorLocation != null) {
-                    jsonColorizer.highlightError(errorLocation.line, errorLocation.character);
+                isFormatting = true;
+                try {
+                    jsonTextPanel.setText(formatted);
+                    jsonTextPanel.setCaretPosition(Math.min(currentCaretPosition, formatted.length()));
+                } finally {
+                    isFormatting = false;
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
-            } finally {
-                jsonColorizer.colorize();
-                isFormatting = false;
             }
-        };
-        SwingUtilities.invokeLater(doFormatting);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        formatExecutor.shutdownNow();
+        super.dispose();
     }
 
     private void processJSON(PageModel pageModel, String jsonText, String rootClassName) {
         try {
             if (!pageModel.isUIOnly) {
-                SimpleParser parser = new SimpleParser(new DartResolver());
-                JSONObject json = new JSONObject(jsonText);
-                parser.parse(json, rootClassName);
-                pageModel.classModels = parser.getClasses();
+                DartResolver resolver = new DartResolver();
+                JsonParser parser;
+                String message = "";
+                if (inferenceComboBox.getSelectedIndex() == INFERENCE_MERGE) {
+                    MergingParser mergingParser = new MergingParser(resolver);
+                    mergingParser.parse(jsonText, rootClassName);
+                    parser = mergingParser;
+                } else if (inferenceComboBox.getSelectedIndex() == INFERENCE_SAMPLE) {
+                    SamplingParser samplingParser = new SamplingParser(resolver,
+                            SAMPLE_FIRST_ELEMENTS, SAMPLE_RANDOM_ELEMENTS);
+                    samplingParser.parse(jsonText, rootClassName);
+                    message = textResources.getSamplingCoverageMessage(
+                            samplingParser.getSampledElements(), samplingParser.getTotalElements()) + "\n";
+                    parser = samplingParser;
+                } else {
+                    StreamingParser streamingParser = new StreamingParser(resolver);
+                    streamingParser.parse(jsonText, rootClassName);
+                    parser = streamingParser;
+                }
+                List<ClassModel> classes = parser.getClasses();
+                NotificationsHelper.showNotification(null, message
+                        + textResources.getParseStatsMessage(parser.getNodeCount(), parser.getMaxDepth()));
+                ClassDeduplicator deduplicator = new ClassDeduplicator(resolver);
+                String rootName = resolver.getClassName(rootClassName);
+                pageModel.classModels = deduplicator.deduplicate(classes, rootName);
+                for (ClassModel classModel : pageModel.classModels) {
+                    if (classModel.getName().equals(rootName)) {
+                        pageModel.schemaFingerprint = rootName + ":"
+                                + deduplicator.fingerprint(classModel, pageModel.classModels);
+                    }
+                }
             }
             dispose();
             if (callbacks != null) {
@@ -344,5 +457,7 @@ public class JSONEditDialog extends JDialog {
         void onJsonParsed(PageModel pageModel);
 
         void onInitTemplate();
+
+        void onBatchGenerate();
     }
 }
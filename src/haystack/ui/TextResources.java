@@ -1,5 +1,6 @@
 package haystack.ui;
 
+import java.util.List;
 
 public class TextResources {
 
@@ -11,12 +12,93 @@ public class TextResources {
         return "Generate App Template";
     }
 
-    public String getReplaceDialogTitle() {
-        return "Replace File";
+    public String getConflictsDialogTitle() {
+        return "Existing Files";
     }
 
-    public String getReplaceDialogMessage(String fileName) {
-        return "Replace \"" + fileName + "\"?";
+    public String getConflictsMessage(int filesCount) {
+        return filesCount + ((filesCount == 1) ? " file" : " files") + " to generate already exist.";
+    }
+
+    public String getConflictsApplyAllLabel() {
+        return "Apply to all:";
+    }
+
+    public String getConflictsFileColumn() {
+        return "File";
+    }
+
+    public String getConflictsStateColumn() {
+        return "State";
+    }
+
+    public String getConflictsActionColumn() {
+        return "Action";
+    }
+
+    public String getConflictState(boolean edited) {
+        return edited ? "Edited since generated" : "Not generated";
+    }
+
+    public String getKeptEditsTitle() {
+        return "Edited Files Kept";
+    }
+
+    public String getKeptEditsMessage(List<String> fileNames) {
+        return "These files were edited after they were generated and their inputs haven't changed, so they were left as they are:\n"
+                + String.join("\n", fileNames);
+    }
+
+    public String getGenerateTaskTitle() {
+        return "Generating App Template";
+    }
+
+    public String getBatchTaskTitle() {
+        return "Generating Pages";
+    }
+
+    public String getLoadingSpecsProgress() {
+        return "Reading page specs";
+    }
+
+    public String getSpecProblemsTitle() {
+        return "Some Pages Were Not Generated As Specified";
+    }
+
+    public String getSpecProblemsMessage(List<String> problems) {
+        return "These specs could not be read or disagree on shared files:\n" + String.join("\n", problems);
+    }
+
+    public String getInitTaskTitle() {
+        return "Initializing Project";
+    }
+
+    public String getCheckingFilesProgress() {
+        return "Checking existing files";
+    }
+
+    public String getRenderingProgress() {
+        return "Rendering templates";
+    }
+
+    public String getPatchingProgress() {
+        return "Updating app state, reducer and store";
+    }
+
+    public String getRenderProblemsTitle() {
+        return "Files Not Generated";
+    }
+
+    public String getRenderProblemsMessage(List<String> problems) {
+        return "These templates failed to render, the other files were written:\n" + String.join("\n", problems);
+    }
+
+    public String getPatchProblemsTitle() {
+        return "Files Not Updated";
+    }
+
+    public String getPatchProblemsMessage(List<String> problems) {
+        return "These files were left unchanged, register the new code by hand:\n" + String.join("\n", problems);
     }
 
     public String getJSONErrorTitle() {
@@ -31,6 +113,10 @@ public class TextResources {
         return "JSON ERROR: " + error;
     }
 
+    public String getJSONErrorsMessage(String firstError, int errorCount) {
+        return errorCount == 1 ? firstError : firstError + " (+" + (errorCount - 1) + " more)";
+    }
+
     public String getEmptyJSONTitle() {
         return "Error";
     }
@@ -75,6 +161,19 @@ public class TextResources {
         return new String[]{"Enabled", "Unique", "Field name", "type", "Default value"};
     }
 
+    public String[] getInferenceModes() {
+        return new String[]{"First element", "Merge all elements", "Sample elements"};
+    }
+
+    public String getParseStatsMessage(int nodeCount, int maxDepth) {
+        return "Parsed " + nodeCount + " values, nested " + maxDepth + (maxDepth == 1 ? " level" : " levels") + " deep";
+    }
+
+    public String getSamplingCoverageMessage(long sampled, long total) {
+        return "Inferred from " + sampled + " of " + total + " array elements ("
+                + (total == 0 ? 100 : sampled * 100 / total) + "% coverage)";
+    }
+
     public String getFieldsDialogTitle() {
         return "Class fields settings";
     }
@@ -0,0 +1,93 @@
+package haystack.core.generator;
+
+import haystack.core.generator.compiled.CompiledTemplates;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Renders the generated network layer through Freemarker and the compiled templates and checks
+ * the shape of the Dart code: one long-lived client, the token cached in memory and logging
+ * behind logLevel. The connection reuse itself is checked by the generated
+ * test/network_common_test.dart against a local server.
+ */
+public class NetworkTemplatesTest {
+
+    private static final TemplateEngine ENGINE = new TemplateEngine(NetworkTemplatesTest.class.getClassLoader(), "/");
+
+    @Test
+    public void networkCommonKeepsOneClient() throws Exception {
+        String dart = render("network_common.dart.ftl", model(false));
+        assertTrue(dart.contains("final Dio dio;"));
+        assertFalse("dio must not be rebuilt per access", dart.contains("Dio get dio"));
+        assertEquals("the shared client and the auth client", 2, count(dart, "new Dio("));
+        assertEquals(1, count(dart, "dio.interceptors.add("));
+    }
+
+    @Test
+    public void networkCommonCachesToken() throws Exception {
+        String dart = render("network_common.dart.ftl", model(false));
+        assertEquals("token read from the preferences in one place", 1, count(dart, "prefs.getString('token')"));
+        assertTrue(dart.contains("if (!_tokenLoaded) {"));
+        assertTrue(dart.contains("statusCode == 401"));
+    }
+
+    @Test
+    public void networkCommonLogsOnlyWhenEnabled() throws Exception {
+        String dart = render("network_common.dart.ftl", model(false));
+        assertTrue(dart.contains("NetworkLogLevel logLevel = NetworkLogLevel.none;"));
+        String[] lines = dart.split("\n");
+        int prints = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].contains("print(")) {
+                prints++;
+                assertTrue("unguarded print: " + lines[i], lines[i - 1].contains("logLevel"));
+            }
+        }
+        assertTrue(prints > 0);
+    }
+
+    @Test
+    public void repositoryUsesSharedClient() throws Exception {
+        for (boolean cache : new boolean[]{false, true}) {
+            String dart = render("repository.dart.ftl", model(cache));
+            assertFalse("shared options must not be changed per request", dart.contains("dio.options"));
+            assertFalse(dart.contains("var dio = "));
+            assertTrue(dart.contains(cache ? "new ResponseCache().get(" : "new NetworkCommon().dio.get("));
+        }
+    }
+
+    private static Map<String, Object> model(boolean cacheResponses) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("ProjectName", "demo");
+        model.put("ModelEntryName", "Photo");
+        model.put("clsUNName", "id");
+        model.put("clsUNNameType", "int");
+        model.put("cacheResponses", cacheResponses);
+        return model;
+    }
+
+    /**
+     * Renders with Freemarker and with the compiled template, which must agree.
+     */
+    private static String render(String template, Map<String, Object> model) throws Exception {
+        StringWriter interpreted = new StringWriter();
+        ENGINE.getConfiguration().getTemplate(template).process(model, interpreted);
+        StringBuilder compiled = new StringBuilder();
+        CompiledTemplates.get(template).render(model, compiled);
+        assertEquals(interpreted.toString(), compiled.toString());
+        return compiled.toString();
+    }
+
+    private static int count(String text, String part) {
+        int count = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}